@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+# Platform vs virtual threads: runs dashboard-enrollment.js against the backend started once per mode
+# and prints p50/p95/p99, throughput and error rate side by side. Needs Java 21+, k6 and jq.
+#
+#   ADMIN_EMAIL=admin@college.edu ADMIN_PASSWORD=admin123 loadtest/compare-threading.sh
+#
+# Both runs use the same database, JDBC pool and build. Load accounts are created through the CSV
+# onboarding import on the first start (the import skips rows whose email already exists), and the
+# database needs some ACTIVE courses for the enroll/drop step. Results land in loadtest/results/.
+#
+# Pinning diagnostics for the virtual run: the JVM records jdk.VirtualThreadPinned events (threads
+# blocked while pinned to their carrier for over 20 ms) to virtual.jfr, and on Java 21-23
+# -Djdk.tracePinnedThreads=short also prints each pinning stack to virtual.log.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASE_URL=${BASE_URL:-http://localhost:8080}
+VUS=${VUS:-2000}
+STUDENTS=${STUDENTS:-500}
+FACULTY=${FACULTY:-50}
+LOAD_PASSWORD=${LOAD_PASSWORD:-loadtest123}
+DURATION=${DURATION:-3m}
+JAVA_OPTS=${JAVA_OPTS:--Xmx1g}
+RESULTS=loadtest/results
+: "${ADMIN_EMAIL:?set ADMIN_EMAIL}" "${ADMIN_PASSWORD:?set ADMIN_PASSWORD}"
+
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major%%.*}" -lt 21 ]; then
+    echo "Java 21 or newer is needed for virtual threads (found $java_major)" >&2
+    exit 1
+fi
+
+mkdir -p "$RESULTS"
+./mvnw -B -q -DskipTests package
+JAR=$(ls target/backend-*.jar | grep -v plain | head -1)
+
+start_backend() {
+    local mode=$1 jvm_flags=$2 app_args=$3
+    java $JAVA_OPTS $jvm_flags -jar "$JAR" $app_args > "$RESULTS/$mode.log" 2>&1 &
+    PID=$!
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null "$BASE_URL/api/auth/login"; then
+            return
+        fi
+        sleep 1
+    done
+    echo "Backend did not start, see $RESULTS/$mode.log" >&2
+    exit 1
+}
+
+stop_backend() {
+    kill "$PID"
+    wait "$PID" || true
+}
+
+seed() {
+    local token
+    token=$(curl -s -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$ADMIN_EMAIL\",\"password\":\"$ADMIN_PASSWORD\"}" \
+        "$BASE_URL/api/auth/login" | jq -r '.data.accessToken')
+    for kind in student faculty; do
+        local count=$STUDENTS file="$RESULTS/$kind.csv"
+        [ "$kind" = faculty ] && count=$FACULTY
+        echo "name,email,password" > "$file"
+        for n in $(seq 0 $((count - 1))); do
+            echo "Load $kind $n,loadtest-$kind-$n@college.edu,$LOAD_PASSWORD" >> "$file"
+        done
+        curl -s -H "Authorization: Bearer $token" -F "file=@$file" \
+            "$BASE_URL/api/admin/users/onboarding/import?type=${kind/student/students}" | jq -c '{type, created, duplicates, invalid}'
+    done
+}
+
+run_mode() {
+    local mode=$1
+    echo "== $mode threads"
+    start_backend "$@"
+    [ "$mode" = platform ] && seed
+    k6 run -q -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e STUDENTS="$STUDENTS" -e FACULTY="$FACULTY" \
+        -e LOAD_PASSWORD="$LOAD_PASSWORD" -e DURATION="$DURATION" \
+        --summary-export "$RESULTS/$mode.json" loadtest/dashboard-enrollment.js || true
+    stop_backend
+}
+
+run_mode platform "" ""
+run_mode virtual "-Djdk.tracePinnedThreads=short -XX:StartFlightRecording=filename=$RESULTS/virtual.jfr,settings=default" \
+    "--spring.profiles.active=virtual-threads"
+
+printf '\n%-20s %10s %11s %11s %11s %10s\n' endpoint mode p50 p95 p99 errors
+for name in student_dashboard available_courses enrollments enroll faculty_dashboard; do
+    for mode in platform virtual; do
+        jq -r --arg n "$name" --arg m "$mode" '
+            .metrics["http_req_duration{name:\($n)}"] as $d
+            | [$n, $m, ($d.med // 0), ($d["p(95)"] // 0), ($d["p(99)"] // 0), (.metrics["http_req_failed{name:\($n)}"].value // 0)]
+            | @tsv' "$RESULTS/$mode.json" 2>/dev/null \
+        | awk -F'\t' '{printf "%-20s %10s %9.0fms %9.0fms %9.0fms %9.2f%%\n", $1, $2, $3, $4, $5, $6 * 100}'
+    done
+done
+for mode in platform virtual; do
+    jq -r --arg m "$mode" '"\($m): \(.metrics.http_reqs.rate | floor) req/s, \(.metrics.http_reqs.count) requests"' \
+        "$RESULTS/$mode.json"
+done
+
+if command -v jfr > /dev/null && [ -f "$RESULTS/virtual.jfr" ]; then
+    echo "Pinned virtual threads (>20 ms): $(jfr print --events jdk.VirtualThreadPinned "$RESULTS/virtual.jfr" | grep -c 'jdk.VirtualThreadPinned')"
+fi
@@ -0,0 +1,129 @@
+// Dashboard and enrollment load test (k6): https://k6.io
+//
+// 2000 concurrent users (VUS) each loop through a student session: dashboard, available courses,
+// current enrollments, then an enroll/drop pair on a random open course. One VU in ten is a faculty
+// user opening the faculty dashboard overview instead. Think time is short on purpose, so the run
+// measures how the server holds up with that many requests in flight at once.
+//
+// Accounts are loadtest-student-<n>@college.edu / loadtest-faculty-<n>@college.edu with LOAD_PASSWORD;
+// compare-threading.sh creates them through the CSV onboarding import. Tokens are fetched once in
+// setup() so the run is not a login storm (see login-storm.js for that).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 -e STUDENTS=500 -e FACULTY=50 \
+//          loadtest/dashboard-enrollment.js
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const STUDENTS = parseInt(__ENV.STUDENTS || '500');
+const FACULTY = parseInt(__ENV.FACULTY || '50');
+const PASSWORD = __ENV.LOAD_PASSWORD || 'loadtest123';
+const DURATION = __ENV.DURATION || '3m';
+
+const incompleteDashboards = new Counter('dashboard_incomplete');
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        users: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { target: VUS, duration: '30s' },
+                { target: VUS, duration: DURATION },
+                { target: 0, duration: '15s' },
+            ],
+            gracefulRampDown: '15s',
+        },
+    },
+    // One entry per endpoint so each gets its own latency and error numbers in the summary
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:student_dashboard}': ['p(95)<2000'],
+        'http_req_duration{name:faculty_dashboard}': ['p(95)<2000'],
+        'http_req_duration{name:available_courses}': ['p(95)<2000'],
+        'http_req_duration{name:enrollments}': ['p(95)<2000'],
+        'http_req_duration{name:enroll}': ['p(95)<2000'],
+        'http_req_failed{name:student_dashboard}': ['rate<0.01'],
+        'http_req_failed{name:faculty_dashboard}': ['rate<0.01'],
+        'http_req_failed{name:available_courses}': ['rate<0.01'],
+        'http_req_failed{name:enrollments}': ['rate<0.01'],
+        'http_req_failed{name:enroll}': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+function signIn(email) {
+    return {
+        method: 'POST',
+        url: `${BASE_URL}/api/auth/login`,
+        body: JSON.stringify({ email, password: PASSWORD }),
+        params: { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+    };
+}
+
+// Logs in a few accounts at a time; the login pool sheds bursts with 503
+function tokensFor(emails) {
+    const tokens = [];
+    for (let i = 0; i < emails.length; i += 10) {
+        const responses = http.batch(emails.slice(i, i + 10).map(signIn));
+        for (const res of responses) {
+            if (res.status === 200) {
+                tokens.push(res.json('data.accessToken'));
+            }
+        }
+    }
+    return tokens;
+}
+
+export function setup() {
+    const students = tokensFor([...Array(STUDENTS).keys()].map((n) => `loadtest-student-${n}@college.edu`));
+    const faculty = tokensFor([...Array(FACULTY).keys()].map((n) => `loadtest-faculty-${n}@college.edu`));
+    if (students.length === 0) {
+        throw new Error('No student could log in; seed the accounts first (compare-threading.sh seed)');
+    }
+    return { students, faculty };
+}
+
+function get(path, token, name) {
+    return http.get(`${BASE_URL}${path}`, { headers: { Authorization: `Bearer ${token}` }, tags: { name } });
+}
+
+export default function (data) {
+    if (data.faculty.length > 0 && __VU % 10 === 0) {
+        const token = data.faculty[__VU % data.faculty.length];
+        const res = get('/api/faculty/dashboard/overview', token, 'faculty_dashboard');
+        check(res, { 'faculty dashboard ok': (r) => r.status === 200 });
+        sleep(0.5);
+        return;
+    }
+
+    const token = data.students[__VU % data.students.length];
+    const dashboard = get('/api/student/dashboard', token, 'student_dashboard');
+    check(dashboard, { 'student dashboard ok': (r) => r.status === 200 });
+    if (dashboard.status === 200 && dashboard.body.includes('incompleteSections')) {
+        incompleteDashboards.add(1);
+    }
+
+    const available = get('/api/student/portal/courses/available', token, 'available_courses');
+    check(available, { 'available courses ok': (r) => r.status === 200 });
+    get('/api/student/enrollments', token, 'enrollments');
+
+    const courses = available.status === 200 ? (available.json('data.availableCourses') || []) : [];
+    if (courses.length > 0) {
+        const course = courses[Math.floor(Math.random() * courses.length)];
+        const params = { headers: { Authorization: `Bearer ${token}` } };
+        // 400 means the course filled up or another VU sharing this student got there first: an answer, not a failure
+        const enroll = http.post(`${BASE_URL}/api/student/portal/enroll/${course.id}`, null,
+            Object.assign({ tags: { name: 'enroll' }, responseCallback: http.expectedStatuses(200, 400) }, params));
+        check(enroll, { 'enroll answered': (r) => r.status === 200 || r.status === 400 });
+        if (enroll.status === 200) {
+            http.del(`${BASE_URL}/api/student/portal/drop/${course.id}`, null,
+                Object.assign({ tags: { name: 'drop' } }, params));
+        }
+    }
+    sleep(0.5);
+}
@@ -0,0 +1,92 @@
+// Login storm load test (k6): https://k6.io
+//
+// Runs two scenarios side by side:
+//   login_storm - a burst of student logins, like results day
+//   browse      - a steady stream of ordinary authenticated reads
+// The browse p95 threshold checks that other endpoints stay responsive while BCrypt is busy;
+// logins may be answered with 503 + Retry-After once the verification pool is full.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 \
+//          -e LOGIN_EMAIL=student@college.edu -e LOGIN_PASSWORD=student123 \
+//          -e BROWSE_EMAIL=faculty@college.edu -e BROWSE_PASSWORD=faculty123 \
+//          loadtest/login-storm.js
+//
+// Watch /api/admin/system/monitoring/logins during the run for the login rate and pool queue.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LOGIN_RATE = parseInt(__ENV.LOGIN_RATE || '200');
+const BROWSE_PATH = __ENV.BROWSE_PATH || '/api/courses';
+
+const loginRejected = new Counter('login_rejected');
+
+export const options = {
+    scenarios: {
+        browse: {
+            executor: 'constant-arrival-rate',
+            exec: 'browse',
+            rate: 20,
+            timeUnit: '1s',
+            duration: '3m',
+            preAllocatedVUs: 20,
+            maxVUs: 50,
+        },
+        login_storm: {
+            executor: 'ramping-arrival-rate',
+            exec: 'login',
+            startTime: '30s',
+            startRate: 10,
+            timeUnit: '1s',
+            preAllocatedVUs: 100,
+            maxVUs: 500,
+            stages: [
+                { target: LOGIN_RATE, duration: '30s' },
+                { target: LOGIN_RATE, duration: '1m' },
+                { target: 0, duration: '30s' },
+            ],
+        },
+    },
+    thresholds: {
+        // Non-login latency should stay flat through the storm
+        'http_req_duration{scenario:browse}': ['p(95)<300'],
+        'http_req_failed{scenario:browse}': ['rate<0.01'],
+        // Logins either succeed or are shed quickly with 503
+        'http_req_duration{scenario:login_storm}': ['p(95)<5000'],
+    },
+};
+
+function signIn(email, password) {
+    return http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email, password }), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'login' },
+    });
+}
+
+export function setup() {
+    const res = signIn(__ENV.BROWSE_EMAIL || 'faculty@college.edu', __ENV.BROWSE_PASSWORD || 'faculty123');
+    check(res, { 'setup login ok': (r) => r.status === 200 });
+    return { token: res.json('data.accessToken') };
+}
+
+export function login() {
+    const res = signIn(__ENV.LOGIN_EMAIL || 'student@college.edu', __ENV.LOGIN_PASSWORD || 'student123');
+    if (res.status === 503) {
+        loginRejected.add(1);
+    }
+    check(res, {
+        'login answered': (r) => r.status === 200 || r.status === 503,
+        'rejection has Retry-After': (r) => r.status !== 503 || r.headers['Retry-After'] !== undefined,
+    });
+}
+
+export function browse(data) {
+    const res = http.get(`${BASE_URL}${BROWSE_PATH}`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { name: 'browse' },
+    });
+    check(res, { 'browse ok': (r) => r.status === 200 });
+    sleep(0.1);
+}
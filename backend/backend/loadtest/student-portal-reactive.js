@@ -0,0 +1,162 @@
+// Servlet vs reactive student portal reads (k6): https://k6.io
+//
+// Runs the same read mix twice, first against the servlet endpoints (/api/student/...) and then against
+// their R2DBC counterparts (/api/student/reactive/...): dashboard, grades, attendance and academic
+// records. Each phase ramps to VUS users, holds for DURATION and ramps down before the next one starts,
+// so the two never share the server. Latency is reported per phase and endpoint (look at p(99) and max).
+//
+// While the phases run, an admin sampler polls /api/admin/system/monitoring/connections every second
+// and records how many JDBC and R2DBC connections are in use and how many requests are waiting for one.
+//
+// Accounts are the loadtest-student-<n>@college.edu ones created by compare-threading.sh (seed step);
+// the backend must run on Postgres with app.reactive.enabled=true.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 -e STUDENTS=500 \
+//          -e ADMIN_EMAIL=admin@college.edu -e ADMIN_PASSWORD=admin123 loadtest/student-portal-reactive.js
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import exec from 'k6/execution';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000');
+const STUDENTS = parseInt(__ENV.STUDENTS || '500');
+const PASSWORD = __ENV.LOAD_PASSWORD || 'loadtest123';
+const DURATION = __ENV.DURATION || '2m';
+const RAMP = '20s';
+// Ramp up + hold + ramp down + a pause to let both pools go idle before the next phase
+const PHASE_SECONDS = 20 + parseDuration(DURATION) + 20 + 15;
+
+const ENDPOINTS = [
+    { path: '/dashboard', name: 'dashboard' },
+    { path: '/portal/grades', name: 'grades' },
+    { path: '/portal/attendance', name: 'attendance' },
+    { path: '/portal/academic-records', name: 'academic_records' },
+];
+
+const jdbcActive = new Trend('pool_jdbc_active');
+const jdbcWaiting = new Trend('pool_jdbc_waiting');
+const r2dbcActive = new Trend('pool_r2dbc_active');
+const r2dbcWaiting = new Trend('pool_r2dbc_waiting');
+
+function parseDuration(value) {
+    const match = /^(\d+)(s|m)$/.exec(value);
+    if (!match) {
+        throw new Error(`DURATION must look like 90s or 2m, got ${value}`);
+    }
+    return parseInt(match[1]) * (match[2] === 'm' ? 60 : 1);
+}
+
+function phase(startTime, api) {
+    return {
+        executor: 'ramping-vus',
+        startTime,
+        startVUs: 0,
+        stages: [
+            { target: VUS, duration: RAMP },
+            { target: VUS, duration: DURATION },
+            { target: 0, duration: RAMP },
+        ],
+        gracefulRampDown: '10s',
+        exec: 'portal',
+        env: { API: api },
+        tags: { api },
+    };
+}
+
+const thresholds = { http_req_failed: ['rate<0.01'] };
+for (const api of ['servlet', 'reactive']) {
+    for (const endpoint of ENDPOINTS) {
+        // One entry per phase and endpoint so each gets its own latency numbers in the summary
+        thresholds[`http_req_duration{api:${api},name:${endpoint.name}}`] = ['p(95)<2000'];
+        thresholds[`http_req_failed{api:${api},name:${endpoint.name}}`] = ['rate<0.01'];
+    }
+    // Always passes; listing the metric per phase is what puts it in the summary
+    for (const metric of ['pool_jdbc_active', 'pool_jdbc_waiting', 'pool_r2dbc_active', 'pool_r2dbc_waiting']) {
+        thresholds[`${metric}{api:${api}}`] = ['max>=0'];
+    }
+}
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        servlet: phase('0s', 'servlet'),
+        reactive: phase(`${PHASE_SECONDS}s`, 'reactive'),
+        pools: {
+            executor: 'constant-vus',
+            vus: 1,
+            duration: `${PHASE_SECONDS * 2}s`,
+            exec: 'samplePools',
+        },
+    },
+    thresholds,
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+function signIn(email, password) {
+    return {
+        method: 'POST',
+        url: `${BASE_URL}/api/auth/login`,
+        body: JSON.stringify({ email, password }),
+        params: { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+    };
+}
+
+export function setup() {
+    const emails = [...Array(STUDENTS).keys()].map((n) => `loadtest-student-${n}@college.edu`);
+    const students = [];
+    // A few logins at a time; the login pool sheds bursts with 503
+    for (let i = 0; i < emails.length; i += 10) {
+        for (const res of http.batch(emails.slice(i, i + 10).map((email) => signIn(email, PASSWORD)))) {
+            if (res.status === 200) {
+                students.push(res.json('data.accessToken'));
+            }
+        }
+    }
+    if (students.length === 0) {
+        throw new Error('No student could log in; seed the accounts first (compare-threading.sh seed)');
+    }
+    const admin = http.batch([signIn(__ENV.ADMIN_EMAIL, __ENV.ADMIN_PASSWORD)])[0];
+    if (admin.status !== 200) {
+        throw new Error('Admin login failed; set ADMIN_EMAIL and ADMIN_PASSWORD');
+    }
+    return { students, admin: admin.json('data.accessToken') };
+}
+
+export function portal(data) {
+    const prefix = __ENV.API === 'reactive' ? '/api/student/reactive' : '/api/student';
+    const token = data.students[__VU % data.students.length];
+    for (const endpoint of ENDPOINTS) {
+        const res = http.get(`${BASE_URL}${prefix}${endpoint.path}`,
+            { headers: { Authorization: `Bearer ${token}` }, tags: { name: endpoint.name } });
+        check(res, { [`${endpoint.name} ok`]: (r) => r.status === 200 });
+    }
+    sleep(0.5);
+}
+
+// Tags each sample with the phase running at the time; samples from the pause between phases are dropped
+export function samplePools(data) {
+    // The sampler scenario starts together with the servlet phase
+    const elapsed = (Date.now() - exec.scenario.startTime) / 1000;
+    const api = elapsed < PHASE_SECONDS - 15 ? 'servlet'
+        : elapsed >= PHASE_SECONDS && elapsed < PHASE_SECONDS * 2 - 15 ? 'reactive' : null;
+    const res = http.get(`${BASE_URL}/api/admin/system/monitoring/connections`,
+        { headers: { Authorization: `Bearer ${data.admin}` }, tags: { name: 'pool_sample' } });
+    if (api && res.status === 200) {
+        const pools = res.json();
+        let active = 0;
+        let waiting = 0;
+        for (const pool of Object.values(pools.jdbc)) {
+            active += pool.active;
+            waiting += pool.waiting;
+        }
+        jdbcActive.add(active, { api });
+        jdbcWaiting.add(waiting, { api });
+        if (pools.r2dbc) {
+            r2dbcActive.add(pools.r2dbc.active, { api });
+            r2dbcWaiting.add(pools.r2dbc.waiting, { api });
+        }
+    }
+    sleep(1);
+}
@@ -0,0 +1,162 @@
+package com.college.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${app.jobs.executor.core-size:2}")
+    private int jobCoreSize;
+
+    @Value("${app.jobs.executor.max-size:4}")
+    private int jobMaxSize;
+
+    @Value("${app.jobs.executor.queue-capacity:50}")
+    private int jobQueueCapacity;
+
+    @Value("${app.security.password-verification.queue-capacity:200}")
+    private int verificationQueueCapacity;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.dashboard.executor.threads:8}")
+    private int dashboardThreads;
+
+    @Value("${app.dashboard.executor.queue-capacity:200}")
+    private int dashboardQueueCapacity;
+
+    @Value("${app.batch.executor.threads:8}")
+    private int batchThreads;
+
+    @Value("${app.batch.executor.queue-capacity:100}")
+    private int batchQueueCapacity;
+
+    // Bounded pool for admin background jobs; a full queue rejects new jobs instead of piling them up
+    @Bean(name = "adminJobExecutor")
+    public ThreadPoolTaskExecutor adminJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobCoreSize);
+        executor.setMaxPoolSize(jobMaxSize);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("admin-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // CPU-bound BCrypt work for bulk onboarding: one thread per core, and when the queue is full the
+    // submitting thread hashes too, which throttles the CSV reader instead of queueing the whole file
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(cores * 4);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // BCrypt checks for logins. Limiting them to one thread per core keeps a login storm from taking every
+    // Tomcat worker; once the queue is full the submit is rejected and the login answers 503 straight away
+    @Bean(name = "passwordVerificationExecutor")
+    public ThreadPoolTaskExecutor passwordVerificationExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(verificationQueueCapacity);
+        executor.setThreadNamePrefix("password-verify-");
+        executor.initialize();
+        return executor;
+    }
+
+    // One dispatcher run at a time, with one slot queued; further wake-ups are dropped because that run sees their rows
+    @Bean(name = "notificationDispatchExecutor")
+    public ThreadPoolTaskExecutor notificationDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("notification-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Announcement fan-out runs in the background; a rejected run is left PENDING for the resume sweep
+    @Bean(name = "announcementFanoutExecutor")
+    public ThreadPoolTaskExecutor announcementFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("announcement-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Dashboard sections run side by side. Each holds a pooled connection while it runs, so the pool is kept
+    // below the JDBC pool size; a full queue makes the request thread compute the section itself.
+    // With spring.threads.virtual.enabled on Java 21+ every section gets its own virtual thread, with the same cap
+    @Bean(name = "dashboardSectionExecutor")
+    public AsyncTaskExecutor dashboardSectionExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(dashboardThreads);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboardThreads);
+        executor.setMaxPoolSize(dashboardThreads);
+        executor.setQueueCapacity(dashboardQueueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Parts of /api/batch requests. Separate from the dashboard pool because a part may itself be a dashboard
+    // that fans out into sections; same sizing rule and the same inline fallback when the queue is full
+    @Bean(name = "batchRequestExecutor")
+    public AsyncTaskExecutor batchRequestExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(batchThreads);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchThreads);
+        executor.setMaxPoolSize(batchThreads);
+        executor.setQueueCapacity(batchQueueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Sends cache invalidations to the other nodes in commit order; one thread keeps them in sequence
+    @Bean(name = "cacheCoherenceExecutor")
+    public ThreadPoolTaskExecutor cacheCoherenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("cache-coherence-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,287 @@
+package com.college.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Keeps in-process caches coherent across backend instances using Postgres LISTEN/NOTIFY.
+// A cache registers a handler under its name and publishes the ids it changed; once the transaction
+// commits they go out as "<node> <cache> <id,id,...>" and every other node hands them to its handler.
+// A null id list means "drop everything": sent for bulk updates, and delivered locally after the
+// listener reconnects, because notifications sent while it was away are gone
+@Component
+public class CacheCoherenceBus {
+
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+    private static final String ALL_KEYS = "*";
+    private static final long LIVENESS_CHECK_MS = 30000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("cacheCoherenceExecutor")
+    private ThreadPoolTaskExecutor publishExecutor;
+
+    @Value("${spring.datasource.url:}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${app.cache.coherence.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.coherence.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.coherence.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${app.cache.coherence.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private final String nodeId = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private final Map<String, Consumer<Collection<String>>> handlers = new ConcurrentHashMap<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    private volatile boolean active;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    @PostConstruct
+    public void start() {
+        active = enabled && url.startsWith("jdbc:postgresql:");
+        if (!active) {
+            System.out.println("Cache coherence bus off: invalidations stay on this node");
+            return;
+        }
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid cache coherence channel: " + channel);
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-coherence-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // Shutting down anyway
+            }
+        }
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // The handler gets the changed ids as strings, or null when the whole cache should be dropped
+    public void register(String cache, Consumer<Collection<String>> handler) {
+        handlers.put(cache, handler);
+    }
+
+    public void publish(String cache, Collection<?> ids) {
+        if (!active || ids.isEmpty()) {
+            return;
+        }
+        List<String> keys = ids.stream().map(String::valueOf).toList();
+        afterCommit(() -> send(cache, keys));
+    }
+
+    public void publishClear(String cache) {
+        if (active) {
+            afterCommit(() -> send(cache, null));
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("active", active);
+        status.put("nodeId", nodeId);
+        status.put("channel", channel);
+        status.put("listening", listening);
+        status.put("caches", new TreeSet<>(handlers.keySet()));
+        status.put("published", published.get());
+        status.put("received", received.get());
+        status.put("dropped", dropped.get());
+        status.put("reconnects", reconnects.get());
+        return status;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(task);
+                }
+            });
+        } else {
+            submit(task);
+        }
+    }
+
+    // NOTIFY goes out from the publisher thread on an autocommit connection: issued on the connection of
+    // the transaction that just committed, it would open a new transaction that nobody commits
+    private void submit(Runnable task) {
+        try {
+            publishExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            // Other nodes keep the old entries until their TTL runs out
+            dropped.incrementAndGet();
+            System.err.println("Cache invalidation dropped: publisher queue is full");
+        }
+    }
+
+    private void send(String cache, List<String> keys) {
+        try {
+            for (String payload : payloads(cache, keys)) {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                published.incrementAndGet();
+            }
+        } catch (DataAccessException e) {
+            dropped.incrementAndGet();
+            System.err.println("Cache invalidation publish failed for " + cache + ": " + e.getMessage());
+        }
+    }
+
+    List<String> payloads(String cache, List<String> keys) {
+        String prefix = nodeId + " " + cache + " ";
+        if (keys == null) {
+            return List.of(prefix + ALL_KEYS);
+        }
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        int bytes = prefix.length();
+        for (String key : keys) {
+            int keyBytes = key.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (payload.length() > prefix.length() && bytes + keyBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(prefix.length());
+                bytes = prefix.length();
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(',');
+            }
+            payload.append(key);
+            bytes += keyBytes;
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    // One dedicated connection outside the pool; the pool's connections are never left listening
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                if (connectedBefore) {
+                    reconnects.incrementAndGet();
+                    dispatchToAll(null);
+                }
+                connectedBefore = true;
+                System.out.println("Cache coherence bus listening on '" + channel + "' as node " + nodeId);
+
+                long lastCheck = System.currentTimeMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                    // A silently dropped TCP connection never errors on the wait above
+                    if (System.currentTimeMillis() - lastCheck > LIVENESS_CHECK_MS) {
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        lastCheck = System.currentTimeMillis();
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    System.err.println("Cache coherence listener disconnected: " + e.getMessage());
+                }
+            } finally {
+                listening = false;
+                listenConnection = null;
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        Consumer<Collection<String>> handler = handlers.get(parts[1]);
+        if (handler == null) {
+            return;
+        }
+        received.incrementAndGet();
+        Collection<String> keys = ALL_KEYS.equals(parts[2]) ? null : Arrays.asList(parts[2].split(","));
+        apply(parts[1], handler, keys);
+    }
+
+    private void dispatchToAll(Collection<String> keys) {
+        handlers.forEach((cache, handler) -> apply(cache, handler, keys));
+    }
+
+    private void apply(String cache, Consumer<Collection<String>> handler, Collection<String> keys) {
+        try {
+            handler.accept(keys);
+        } catch (Exception e) {
+            System.err.println("Cache invalidation failed for " + cache + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.college.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Second-level and query cache counters per region, from Hibernate statistics, plus the cross-node invalidation bus
+@Component
+public class CacheMetrics {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    public Map<String, Object> snapshot() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats != null) {
+                regions.put(region, regionMap(stats.getHitCount(), stats.getMissCount(), stats.getPutCount()));
+            }
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        snapshot.put("secondLevelCache", regionMap(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        snapshot.put("queryCache", regionMap(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        snapshot.put("updateTimestamps", regionMap(statistics.getUpdateTimestampsCacheHitCount(),
+                statistics.getUpdateTimestampsCacheMissCount(), statistics.getUpdateTimestampsCachePutCount()));
+        snapshot.put("regions", regions);
+        snapshot.put("since", statistics.getStart());
+        snapshot.put("coherence", coherenceBus.status());
+        return snapshot;
+    }
+
+    private Map<String, Object> regionMap(long hits, long misses, long puts) {
+        Map<String, Object> region = new LinkedHashMap<>();
+        region.put("hits", hits);
+        region.put("misses", misses);
+        region.put("puts", puts);
+        long lookups = hits + misses;
+        region.put("hitRatio", lookups == 0 ? 0.0 : Math.round(hits * 1000.0 / lookups) / 1000.0);
+        return region;
+    }
+}
@@ -0,0 +1,200 @@
+package com.college.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+// Makes server.compression.min-response-size apply to JSON/Smile/CBOR responses. Tomcat only checks the
+// threshold when Content-Length is known, and the Jackson converters commit without one, so everything got
+// gzipped. Bodies are held back up to the threshold: smaller ones go out with a Content-Length (uncompressed),
+// larger ones are streamed on as before and Tomcat compresses them
+@Component
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ServerProperties serverProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        Compression compression = serverProperties.getCompression();
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        return !compression.getEnabled() || acceptEncoding == null || !acceptEncoding.contains("gzip");
+    }
+
+    // Mono/async results are written during the async dispatch, through the wrapper created on the first pass
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ThresholdResponse thresholdResponse = WebUtils.getNativeResponse(response, ThresholdResponse.class);
+        HttpServletResponse responseToUse = response;
+        if (thresholdResponse == null) {
+            Compression compression = serverProperties.getCompression();
+            thresholdResponse = new ThresholdResponse(response, (int) compression.getMinResponseSize().toBytes(),
+                    compression.getMimeTypes());
+            responseToUse = thresholdResponse;
+        }
+
+        filterChain.doFilter(request, responseToUse);
+
+        if (!request.isAsyncStarted()) {
+            thresholdResponse.finish();
+        }
+    }
+
+    private static class ThresholdResponse extends HttpServletResponseWrapper {
+
+        private final int threshold;
+        private final String[] mimeTypes;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private boolean passThrough;
+
+        ThresholdResponse(HttpServletResponse response, int threshold, String[] mimeTypes) {
+            super(response);
+            this.threshold = threshold;
+            this.mimeTypes = mimeTypes;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (passThrough) {
+                return getResponse().getOutputStream();
+            }
+            if (outputStream == null) {
+                outputStream = new BufferingOutputStream();
+            }
+            return outputStream;
+        }
+
+        // Nothing in the app writes through the writer; don't hold it back
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            release();
+            return getResponse().getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (passThrough) {
+                getResponse().flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            buffer.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            buffer.reset();
+            super.reset();
+        }
+
+        // Body ended under the threshold: send it with its length so Tomcat leaves it uncompressed
+        void finish() throws IOException {
+            if (!passThrough && buffer.size() > 0 && !getResponse().isCommitted()) {
+                getResponse().setContentLength(buffer.size());
+            }
+            release();
+        }
+
+        private void release() throws IOException {
+            if (!passThrough) {
+                passThrough = true;
+                if (buffer.size() > 0) {
+                    getResponse().getOutputStream().write(buffer.toByteArray());
+                    buffer.reset();
+                }
+            }
+        }
+
+        private boolean compressible() {
+            String contentType = getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return Arrays.stream(mimeTypes).anyMatch(type -> MediaType.parseMediaType(type).isCompatibleWith(mediaType));
+        }
+
+        private class BufferingOutputStream extends ServletOutputStream {
+
+            private boolean checked;
+            private ServletOutputStream nonBlocking;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                // Types Tomcat won't compress anyway (event streams, files) are never held back
+                if (!checked) {
+                    checked = true;
+                    if (!compressible()) {
+                        release();
+                    }
+                }
+                if (passThrough) {
+                    getResponse().getOutputStream().write(b, off, len);
+                    return;
+                }
+                buffer.write(b, off, len);
+                if (buffer.size() >= threshold) {
+                    release();
+                }
+            }
+
+            // The converters flush after every body; only pass that on once the body is past the threshold
+            @Override
+            public void flush() throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return nonBlocking == null || nonBlocking.isReady();
+            }
+
+            // A non-blocking writer paces itself with isReady(), so nothing is held back from it: whatever is
+            // buffered goes out first, then the listener goes to the underlying stream
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    release();
+                    nonBlocking = getResponse().getOutputStream();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                nonBlocking.setWriteListener(writeListener);
+            }
+        }
+    }
+}
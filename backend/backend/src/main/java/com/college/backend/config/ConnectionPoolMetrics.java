@@ -0,0 +1,59 @@
+package com.college.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.r2dbc.pool.PoolMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Point-in-time usage of the JDBC pools (primary, and replica when configured) and of the R2DBC pool
+// behind the reactive student portal reads; sampled by loadtest/student-portal-reactive.js
+@Component
+public class ConnectionPoolMetrics {
+
+    @Autowired
+    private List<HikariDataSource> jdbcPools;
+
+    @Autowired(required = false)
+    private ReactiveReadConfig reactiveReadConfig;
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        Map<String, Object> jdbc = new LinkedHashMap<>();
+        for (HikariDataSource pool : jdbcPools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                // Not started yet
+                continue;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("active", mxBean.getActiveConnections());
+            stats.put("idle", mxBean.getIdleConnections());
+            stats.put("total", mxBean.getTotalConnections());
+            stats.put("waiting", mxBean.getThreadsAwaitingConnection());
+            stats.put("max", pool.getMaximumPoolSize());
+            jdbc.put(pool.getPoolName(), stats);
+        }
+        snapshot.put("jdbc", jdbc);
+
+        Optional<PoolMetrics> reactiveMetrics = reactiveReadConfig != null ? reactiveReadConfig.poolMetrics() : Optional.empty();
+        if (reactiveMetrics.isPresent()) {
+            PoolMetrics metrics = reactiveMetrics.get();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("active", metrics.acquiredSize());
+            stats.put("idle", metrics.idleSize());
+            stats.put("total", metrics.allocatedSize());
+            stats.put("waiting", metrics.pendingAcquireSize());
+            stats.put("max", metrics.getMaxAllocatedSize());
+            snapshot.put("r2dbc", stats);
+        } else {
+            snapshot.put("r2dbc", null);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,83 @@
+package com.college.backend.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+
+// R2DBC pool for the non-blocking student portal reads (StudentPortalReactiveService).
+// It connects to the same Postgres database as spring.datasource.url, so schema and data are shared;
+// a request waiting on one of these queries holds neither a servlet thread nor a JDBC connection
+@Configuration
+@ConditionalOnExpression(ReactiveReadConfig.ENABLED)
+public class ReactiveReadConfig {
+
+    // Also on the reactive service and controller; R2DBC is only wired for Postgres
+    public static final String ENABLED =
+            "${app.reactive.enabled:false} and '${spring.datasource.url:}'.startsWith('jdbc:postgresql:')";
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${app.reactive.pool.initial-size:2}")
+    private int initialSize;
+
+    @Value("${app.reactive.pool.max-size:10}")
+    private int maxSize;
+
+    @Value("${app.reactive.pool.max-acquire-time-ms:5000}")
+    private long maxAcquireTimeMs;
+
+    // Not a bean: a ConnectionFactory bean makes Boot skip the JDBC DataSource auto-configuration
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        connectionPool = createConnectionPool();
+        return DatabaseClient.create(connectionPool);
+    }
+
+    public Optional<PoolMetrics> poolMetrics() {
+        return connectionPool != null ? connectionPool.getMetrics() : Optional.empty();
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    private ConnectionPool createConnectionPool() {
+        // jdbc:postgresql://host:port/db?params -> r2dbc:postgresql://host:port/db?params
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse("r2dbc:" + url.substring("jdbc:".length()))
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-reads")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+                .validationQuery("SELECT 1")
+                .build();
+        return new ConnectionPool(configuration);
+    }
+}
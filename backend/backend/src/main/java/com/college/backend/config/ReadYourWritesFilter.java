@@ -0,0 +1,44 @@
+package com.college.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Hands the client its read-your-writes window on every write response (ReplicaRouting.PRIMARY_READS_HEADER).
+// The client sends it back and whichever node gets the next request keeps its reads on the primary
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ReplicaRouting replicaRouting;
+
+    // The batch endpoint is a POST but only reads
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !replicaRouting.isReplicaConfigured()
+                || ReplicaRouting.isReadMethod(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+                || request.getRequestURI().equals(request.getContextPath() + "/api/batch");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Set up front so it goes out however the response gets committed; a failed write just costs the
+        // client a few seconds of primary reads
+        response.setHeader(ReplicaRouting.PRIMARY_READS_HEADER, String.valueOf(replicaRouting.primaryReadsUntil()));
+
+        filterChain.doFilter(request, response);
+
+        // A slow write would otherwise use up its window before the client sees it
+        if (!response.isCommitted()) {
+            response.setHeader(ReplicaRouting.PRIMARY_READS_HEADER, String.valueOf(replicaRouting.primaryReadsUntil()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.college.backend.config;
+
+import com.college.backend.model.Course;
+import com.college.backend.model.Department;
+import com.college.backend.model.Faculty;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Carries committed Department/Course/Faculty changes to the second-level cache on the other nodes.
+// Each entity region is a bus cache of the same name; a remote change evicts the entity and the
+// natural-key query results, since those may now point at a different row
+@Component
+public class ReferenceCacheCoherence implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    public static final String NATURAL_KEYS_REGION = "reference.natural-keys";
+
+    private static final Map<Class<?>, String> REGIONS = Map.of(
+            Department.class, "reference.department",
+            Course.class, "reference.course",
+            Faculty.class, "reference.faculty");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    @Autowired
+    private ReplicaRouting replicaRouting;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        // Loads after the eviction may come from a replica that has not replayed the change yet, so the
+        // entries are dropped again once it has
+        REGIONS.forEach((type, region) -> coherenceBus.register(region, ids -> {
+            evict(type, ids);
+            replicaRouting.afterReplicaCatchUp(() -> evict(type, ids));
+        }));
+    }
+
+    // For bulk JPQL updates, which Hibernate only evicts from this node's cache
+    public void publish(Class<?> type, Collection<Long> ids) {
+        coherenceBus.publish(REGIONS.get(type), ids);
+        List<String> keys = ids.stream().map(String::valueOf).toList();
+        replicaRouting.afterReplicaCatchUp(() -> evict(type, keys));
+    }
+
+    public void publishClear(Class<?> type) {
+        coherenceBus.publishClear(REGIONS.get(type));
+        replicaRouting.afterReplicaCatchUp(() -> evict(type, null));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // A new row can answer a natural-key lookup that was cached as empty
+        publish(event.getPersister().getMappedClass(), List.of((Long) event.getId()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister().getMappedClass(), List.of((Long) event.getId()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister().getMappedClass(), List.of((Long) event.getId()));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return REGIONS.containsKey(persister.getMappedClass());
+    }
+
+    private void evict(Class<?> type, Collection<String> ids) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (ids == null) {
+            cache.evictEntityData(type);
+        } else {
+            ids.forEach(id -> cache.evictEntityData(type, Long.valueOf(id)));
+        }
+        cache.evictQueryRegion(NATURAL_KEYS_REGION);
+    }
+}
@@ -0,0 +1,110 @@
+package com.college.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+// Sends read-only transactions to a replica when app.datasource.replica.url is set.
+// The application DataSource is a lazy proxy over the primary pool: a read-only transaction marks
+// its connection read-only before the first statement, and the proxy then takes the real connection
+// from the read-only side, which is the replica unless ReplicaRouting says to stay on the primary.
+// Everything else (writes, non-transactional JDBC, advisory locks, NOTIFY) uses the primary
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replica.connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    // spring.datasource.* and spring.datasource.hikari.* apply here as they would without a replica
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(replicaUrl).username(replicaUsername).password(replicaPassword).build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaPoolSize);
+        // A replica that is down should cost a read a couple of seconds at most before it falls back
+        replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+        replica.setInitializationFailTimeout(-1);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaRouting routing) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(routing, primary, replica));
+        return proxy;
+    }
+
+    // Replica or primary per connection, falling back to the primary when the replica refuses one
+    private static class ReadOnlyRoutingDataSource extends AbstractDataSource {
+
+        private final ReplicaRouting routing;
+        private final DataSource primary;
+        private final DataSource replica;
+
+        ReadOnlyRoutingDataSource(ReplicaRouting routing, DataSource primary, DataSource replica) {
+            this.routing = routing;
+            this.primary = primary;
+            this.replica = replica;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (routing.useReplica()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    routing.replicaFailed(e);
+                }
+            }
+            // The proxy leaves connections from this side alone, expecting a read-only pool; primary
+            // connections are flagged here, and Hikari resets the flag when they go back to the pool
+            Connection connection = primary.getConnection();
+            connection.setReadOnly(true);
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Per-call credentials are not supported");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.college.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Decides whether a read-only transaction may use the replica (see ReplicaDataSourceConfig).
+// Reads go to the primary instead when the replica is down or further behind than max-lag-ms, and
+// for a client that changed something within the last read-your-writes-ms, so a page reloaded right
+// after a save shows the save. That window travels with the client (PRIMARY_READS_HEADER), so it holds
+// whichever node behind the load balancer serves the next request
+@Component
+public class ReplicaRouting implements HandlerInterceptor {
+
+    // Stamped on write responses by ReadYourWritesFilter and sent back by the client: epoch ms until which
+    // its reads stay on the primary
+    public static final String PRIMARY_READS_HEADER = "X-Primary-Reads-Until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    // Replica lag in ms; 0 when it has replayed everything it received
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    @Autowired(required = false)
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Value("${app.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Value("${app.datasource.replica.lag-check-ms:5000}")
+    private long lagCheckMs;
+
+    @Value("${app.datasource.replica.read-your-writes-ms:5000}")
+    private long readYourWritesMs;
+
+    // Looked up on use: the transaction manager sits on the DataSource, which needs this bean first
+    @Autowired
+    private ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+    private final AtomicLong replicaFailures = new AtomicLong();
+
+    private volatile boolean replicaUsable = true;
+    private volatile long lastLagMs;
+    private volatile String lastError;
+
+    static boolean isReadMethod(String method) {
+        return READ_METHODS.contains(method);
+    }
+
+    public boolean isReplicaConfigured() {
+        return replicaDataSource != null;
+    }
+
+    // End of the read-your-writes window for a write completing now
+    public long primaryReadsUntil() {
+        return System.currentTimeMillis() + readYourWritesMs;
+    }
+
+    public static boolean primaryReadsForced() {
+        return Boolean.TRUE.equals(PRIMARY_READS.get());
+    }
+
+    // Runs work on another thread with the routing decision of the request that started it
+    public static <T> T withPrimaryReads(boolean forced, Supplier<T> work) {
+        Boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(forced);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READS.remove();
+            } else {
+                PRIMARY_READS.set(previous);
+            }
+        }
+    }
+
+    // For reads whose result is cached until an invalidation arrives: a separate read-only transaction on the
+    // primary, since the caller's transaction may already hold a replica connection that is behind the change
+    public <T> T readFromPrimary(Supplier<T> read) {
+        if (replicaDataSource == null) {
+            return read.get();
+        }
+        TransactionTemplate primaryTx = new TransactionTemplate(transactionManager.getObject());
+        primaryTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        primaryTx.setReadOnly(true);
+        return withPrimaryReads(true, () -> primaryTx.execute(status -> read.get()));
+    }
+
+    // Runs the task again once every replica in use has replayed the current transaction: a cache evicted at
+    // commit can be refilled from a replica still behind it, so the eviction is repeated after the longest lag
+    // a replica may have while reads still go to it (max-lag-ms, plus the time until the next lag check)
+    public void afterReplicaCatchUp(Runnable task) {
+        if (replicaDataSource == null) {
+            return;
+        }
+        Runnable schedule = () -> taskScheduler.schedule(task, Instant.now().plusMillis(maxLagMs + lagCheckMs));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule.run();
+                }
+            });
+        } else {
+            schedule.run();
+        }
+    }
+
+    // Called for every read-only connection; true sends it to the replica
+    public boolean useReplica() {
+        if (replicaUsable && !primaryReadsForced()) {
+            replicaReads.incrementAndGet();
+            return true;
+        }
+        primaryFallbacks.incrementAndGet();
+        return false;
+    }
+
+    // The replica refused a connection: use the primary until the next lag check finds it back
+    public void replicaFailed(Exception e) {
+        replicaUsable = false;
+        lastError = e.getMessage();
+        replicaFailures.incrementAndGet();
+        System.err.println("Read replica unavailable, reading from the primary: " + e.getMessage());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(PRIMARY_READS_HEADER);
+        if (replicaDataSource == null || header == null) {
+            return true;
+        }
+        try {
+            long until = Long.parseLong(header.trim());
+            long now = System.currentTimeMillis();
+            // Stamped by another node, so allow for clock differences, but a client can't hold itself on
+            // the primary for longer than a window or two
+            if (until > now && until - now <= 2 * readYourWritesMs) {
+                PRIMARY_READS.set(true);
+            }
+        } catch (NumberFormatException e) {
+            // Not ours; route as usual
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PRIMARY_READS.remove();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-ms:5000}")
+    public void checkReplica() {
+        if (replicaDataSource == null) {
+            return;
+        }
+        try {
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            long lag = 0;
+            if (replicaUrl.startsWith("jdbc:postgresql:")) {
+                lag = replica.queryForObject(LAG_QUERY, Number.class).longValue();
+            } else {
+                replica.queryForObject("SELECT 1", Integer.class);
+            }
+            lastLagMs = lag;
+            lastError = null;
+            boolean usable = lag <= maxLagMs;
+            if (usable != replicaUsable) {
+                System.out.println(usable
+                        ? "Read replica back in use (lag " + lag + " ms)"
+                        : "Read replica " + lag + " ms behind, reading from the primary");
+            }
+            replicaUsable = usable;
+        } catch (Exception e) {
+            if (replicaUsable) {
+                replicaFailed(e);
+            } else {
+                lastError = e.getMessage();
+            }
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("replicaConfigured", replicaDataSource != null);
+        status.put("replicaInUse", replicaDataSource != null && replicaUsable);
+        status.put("lagMs", lastLagMs);
+        status.put("maxLagMs", maxLagMs);
+        status.put("lastError", lastError);
+        status.put("replicaReads", replicaReads.get());
+        status.put("primaryFallbacks", primaryFallbacks.get());
+        status.put("replicaFailures", replicaFailures.get());
+        status.put("readYourWritesMs", readYourWritesMs);
+        return status;
+    }
+}
@@ -0,0 +1,53 @@
+package com.college.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+@Component
+public class SearchIndexInitializer {
+
+    // Expression indexes that Hibernate's ddl-auto cannot create
+    private static final List<String> POSTGRES_STATEMENTS = List.of(
+        "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+        "CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops)",
+        "CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops)",
+        // Case-insensitive exact lookups (bulk onboarding duplicate check)
+        "CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (lower(email))"
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        if (!isPostgres()) {
+            return;
+        }
+        for (String statement : POSTGRES_STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                // Queries still work without the indexes, just with sequential scans
+                System.err.println("Could not create search index (" + statement + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.college.backend.controller;
 
+import com.college.backend.dto.AdminSystemOverview;
 import com.college.backend.service.DashboardService;
 import com.college.backend.service.AdminUserManagementService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,8 +31,8 @@ public class AdminDashboardController {
 
     // Dashboard Overview Endpoints
     @GetMapping("/overview")
-    public ResponseEntity<Map<String, Object>> getDashboardOverview() {
-        Map<String, Object> overview = dashboardService.getSystemOverview();
+    public ResponseEntity<AdminSystemOverview> getDashboardOverview() {
+        AdminSystemOverview overview = dashboardService.getSystemOverview();
         return ResponseEntity.ok(overview);
     }
 
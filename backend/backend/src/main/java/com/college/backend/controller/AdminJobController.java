@@ -0,0 +1,35 @@
+package com.college.backend.controller;
+
+import com.college.backend.service.AdminJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+@PreAuthorize("hasRole('ADMIN')")
+@CrossOrigin(origins = "*")
+public class AdminJobController {
+
+    @Autowired
+    private AdminJobService jobService;
+
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getRecentJobs() {
+        return ResponseEntity.ok(jobService.getRecentJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJobStatus(@PathVariable Long jobId) {
+        return ResponseEntity.ok(jobService.getJobStatus(jobId));
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(jobService.cancelJob(jobId));
+    }
+}
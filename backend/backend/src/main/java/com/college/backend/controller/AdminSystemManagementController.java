@@ -1,8 +1,15 @@
 package com.college.backend.controller;
 
+import com.college.backend.config.CacheMetrics;
+import com.college.backend.config.ConnectionPoolMetrics;
+import com.college.backend.config.ReplicaRouting;
 import com.college.backend.model.Course;
 import com.college.backend.model.Department;
+import com.college.backend.security.LoginMetrics;
+import com.college.backend.service.AdminJobService;
 import com.college.backend.service.AdminSystemManagementService;
+import com.college.backend.service.ClusterJobRunner;
+import com.college.backend.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +27,27 @@ public class AdminSystemManagementController {
     @Autowired
     private AdminSystemManagementService systemManagementService;
 
+    @Autowired
+    private AdminJobService jobService;
+
+    @Autowired
+    private LoginMetrics loginMetrics;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Autowired
+    private ReplicaRouting replicaRouting;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
     // Department Management Endpoints
     @GetMapping("/departments/overview")
     public ResponseEntity<Map<String, Object>> getDepartmentManagementOverview() {
@@ -76,21 +104,19 @@ public class AdminSystemManagementController {
         return ResponseEntity.ok(healthStatus);
     }
 
-    // Bulk Data Operations
+    // Bulk Data Operations (run as background jobs, poll /api/admin/jobs/{jobId})
     @PostMapping("/bulk-operations")
     public ResponseEntity<Map<String, Object>> performBulkDataOperation(
             @RequestBody @Valid BulkDataOperationRequest request) {
-        Map<String, Object> result = systemManagementService.performBulkDataOperation(
-            request.getOperation(), request.getParameters());
-        return ResponseEntity.ok(result);
+        Map<String, Object> job = jobService.submitJob(request.getOperation(), request.getParameters());
+        return ResponseEntity.accepted().body(job);
     }
 
     // System Administration Tools
     @PostMapping("/maintenance/cleanup")
     public ResponseEntity<Map<String, Object>> performSystemCleanup() {
-        Map<String, Object> result = systemManagementService.performBulkDataOperation(
-            "cleanup_inactive_users", Map.of());
-        return ResponseEntity.ok(result);
+        Map<String, Object> job = jobService.submitJob("cleanup_inactive_users", Map.of());
+        return ResponseEntity.accepted().body(job);
     }
 
     @PostMapping("/maintenance/course-status-update")
@@ -100,9 +126,8 @@ public class AdminSystemManagementController {
             "fromStatus", request.getFromStatus().name(),
             "toStatus", request.getToStatus().name()
         );
-        Map<String, Object> result = systemManagementService.performBulkDataOperation(
-            "update_course_status", parameters);
-        return ResponseEntity.ok(result);
+        Map<String, Object> job = jobService.submitJob("update_course_status", parameters);
+        return ResponseEntity.accepted().body(job);
     }
 
     @PostMapping("/maintenance/department-migration")
@@ -112,9 +137,8 @@ public class AdminSystemManagementController {
             "fromDepartmentId", request.getFromDepartmentId(),
             "toDepartmentId", request.getToDepartmentId()
         );
-        Map<String, Object> result = systemManagementService.performBulkDataOperation(
-            "department_migration", parameters);
-        return ResponseEntity.ok(result);
+        Map<String, Object> job = jobService.submitJob("department_migration", parameters);
+        return ResponseEntity.accepted().body(job);
     }
 
     @GetMapping("/export/data")
@@ -192,6 +216,39 @@ public class AdminSystemManagementController {
         return ResponseEntity.ok(monitoring);
     }
 
+    @GetMapping("/monitoring/logins")
+    public ResponseEntity<Map<String, Object>> getLoginMonitoring() {
+        return ResponseEntity.ok(loginMetrics.snapshot());
+    }
+
+    @GetMapping("/monitoring/notifications")
+    public ResponseEntity<Map<String, Object>> getNotificationMonitoring() {
+        return ResponseEntity.ok(notificationService.getOutboxStatus());
+    }
+
+    @GetMapping("/monitoring/cache")
+    public ResponseEntity<Map<String, Object>> getCacheMonitoring() {
+        return ResponseEntity.ok(cacheMetrics.snapshot());
+    }
+
+    // Cluster-wide scheduled jobs: which node ran what, for how long and over how many rows
+    @GetMapping("/monitoring/jobs")
+    public ResponseEntity<Map<String, Object>> getScheduledJobMonitoring() {
+        return ResponseEntity.ok(clusterJobRunner.getJobMonitoring());
+    }
+
+    // Read replica routing: lag, fallbacks to the primary and how many reads the replica served
+    @GetMapping("/monitoring/replica")
+    public ResponseEntity<Map<String, Object>> getReplicaMonitoring() {
+        return ResponseEntity.ok(replicaRouting.status());
+    }
+
+    // JDBC and R2DBC pool usage: connections in use, idle and requests waiting for one
+    @GetMapping("/monitoring/connections")
+    public ResponseEntity<Map<String, Object>> getConnectionMonitoring() {
+        return ResponseEntity.ok(connectionPoolMetrics.snapshot());
+    }
+
     // DTOs for Request Bodies
     public static class BulkDataOperationRequest {
         private String operation;
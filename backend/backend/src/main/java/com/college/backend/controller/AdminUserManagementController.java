@@ -1,18 +1,27 @@
 package com.college.backend.controller;
 
+import com.college.backend.model.ActivityEvent;
+import com.college.backend.model.ActivityRollup;
 import com.college.backend.model.User;
+import com.college.backend.service.AdminJobService;
 import com.college.backend.service.AdminUserManagementService;
+import com.college.backend.service.BulkOnboardingService;
+import com.college.backend.service.UserBulkJobHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +35,12 @@ public class AdminUserManagementController {
     @Autowired
     private AdminUserManagementService userManagementService;
 
+    @Autowired
+    private AdminJobService jobService;
+
+    @Autowired
+    private BulkOnboardingService onboardingService;
+
     // User Management Overview
     @GetMapping("/overview")
     public ResponseEntity<Map<String, Object>> getUserManagementOverview() {
@@ -57,14 +72,51 @@ public class AdminUserManagementController {
         return ResponseEntity.ok(users);
     }
 
+    // Keyset pagination: pass back nextCursor from the previous response
+    @GetMapping("/search/seek")
+    public ResponseEntity<Map<String, Object>> searchUsersSeek(
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) User.UserRole role,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isVerified,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registrationStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registrationEnd,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, Object> result = userManagementService.searchUsersSeek(
+            searchTerm, role, isActive, isVerified, registrationStart, registrationEnd, cursor, size);
+        
+        return ResponseEntity.ok(result);
+    }
+
     // Bulk User Operations
     @PostMapping("/bulk-operations")
     public ResponseEntity<Map<String, Object>> performBulkOperation(
             @RequestBody @Valid BulkOperationRequest request) {
         
-        Map<String, Object> result = userManagementService.performBulkUserOperation(
-            request.getUserIds(), request.getOperation());
+        // Runs as a background job, poll /api/admin/jobs/{jobId}
+        Map<String, Object> job = jobService.submitJob(
+            UserBulkJobHandler.OPERATION_PREFIX + request.getOperation(), Map.of("userIds", request.getUserIds()));
+        
+        return ResponseEntity.accepted().body(job);
+    }
+
+    // Bulk Onboarding: CSV with name, email, password and optional phone, departmentCode,
+    // semester and academicYear (students) or designation (faculty)
+    @PostMapping(value = "/onboarding/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "students") String type) throws IOException {
         
+        Map<String, Object> result;
+        try (InputStream input = file.getInputStream()) {
+            result = onboardingService.importCsv(input, type);
+        }
+        
+        if (Boolean.FALSE.equals(result.get("success"))) {
+            return ResponseEntity.badRequest().body(result);
+        }
         return ResponseEntity.ok(result);
     }
 
@@ -92,6 +144,17 @@ public class AdminUserManagementController {
         return ResponseEntity.ok(report);
     }
 
+    @GetMapping("/activity-summary")
+    public ResponseEntity<Map<String, Object>> getActivitySummary(
+            @RequestParam(defaultValue = "HOUR") ActivityRollup.Granularity granularity,
+            @RequestParam(required = false) ActivityEvent.EventType eventType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        
+        Map<String, Object> summary = userManagementService.getActivitySummary(granularity, eventType, startDate, endDate);
+        return ResponseEntity.ok(summary);
+    }
+
     // Role Migration
     @PostMapping("/role-migration")
     public ResponseEntity<Map<String, Object>> performRoleMigration(
@@ -168,24 +231,19 @@ public class AdminUserManagementController {
     public ResponseEntity<Map<String, Object>> resetPasswordsForUsers(
             @RequestBody List<Long> userIds) {
         
-        Map<String, Object> result = userManagementService.performBulkUserOperation(userIds, "reset_password");
-        return ResponseEntity.ok(result);
+        Map<String, Object> job = jobService.submitJob(
+            UserBulkJobHandler.OPERATION_PREFIX + "reset_password", Map.of("userIds", userIds));
+        return ResponseEntity.accepted().body(job);
     }
 
     @PostMapping("/quick-actions/send-notifications")
     public ResponseEntity<Map<String, Object>> sendNotifications(
             @RequestBody @Valid NotificationRequest request) {
         
-        // Implementation for sending bulk notifications
-        Map<String, Object> result = Map.of(
-            "success", true,
-            "message", "Notifications sent successfully",
-            "recipientCount", request.getUserIds().size(),
-            "notificationType", request.getNotificationType(),
-            "timestamp", LocalDateTime.now()
-        );
+        Map<String, Object> result = userManagementService.sendNotifications(
+            request.getUserIds(), request.getNotificationType(), request.getSubject(), request.getMessage());
         
-        return ResponseEntity.ok(result);
+        return ResponseEntity.accepted().body(result);
     }
 
     // DTOs for Request Bodies
@@ -0,0 +1,89 @@
+package com.college.backend.controller;
+
+import com.college.backend.dto.ApiResponse;
+import com.college.backend.service.AnnouncementService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/announcements")
+@CrossOrigin(origins = "*")
+public class AnnouncementController {
+
+    @Autowired
+    private AnnouncementService announcementService;
+
+    // Faculty/admin: post to a course, department or year; recipients are added in the background
+    @PostMapping
+    public ResponseEntity<?> postAnnouncement(@RequestBody AnnouncementRequest request) {
+        try {
+            Map<String, Object> result = announcementService.postAnnouncement(request.getTitle(), request.getBody(),
+                    request.getAudienceType(), request.getCourseId(), request.getDepartmentId(), request.getYear());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/sent")
+    public ResponseEntity<Map<String, Object>> getSentAnnouncements(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(announcementService.getSentAnnouncements(before, size));
+    }
+
+    @GetMapping("/{announcementId}")
+    public ResponseEntity<?> getAnnouncementStatus(@PathVariable Long announcementId) {
+        try {
+            return ResponseEntity.ok(announcementService.getAnnouncementStatus(announcementId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // Recipient inbox, newest first; pass nextCursor back as "before" for the next page
+    @GetMapping("/inbox")
+    public ResponseEntity<Map<String, Object>> getInbox(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(announcementService.getInbox(before, size));
+    }
+
+    @PostMapping("/{announcementId}/read")
+    public ResponseEntity<Map<String, Object>> markRead(@PathVariable Long announcementId) {
+        return ResponseEntity.ok(announcementService.markRead(announcementId));
+    }
+
+    @PostMapping("/inbox/read-all")
+    public ResponseEntity<Map<String, Object>> markAllRead(@RequestParam(required = false) Long upToId) {
+        return ResponseEntity.ok(announcementService.markAllRead(upToId));
+    }
+
+    // Request DTO
+    public static class AnnouncementRequest {
+        private String title;
+        private String body;
+        private String audienceType;
+        private Long courseId;
+        private Long departmentId;
+        private Integer year;
+
+        // Getters and setters
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public String getBody() { return body; }
+        public void setBody(String body) { this.body = body; }
+        public String getAudienceType() { return audienceType; }
+        public void setAudienceType(String audienceType) { this.audienceType = audienceType; }
+        public Long getCourseId() { return courseId; }
+        public void setCourseId(Long courseId) { this.courseId = courseId; }
+        public Long getDepartmentId() { return departmentId; }
+        public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+        public Integer getYear() { return year; }
+        public void setYear(Integer year) { this.year = year; }
+    }
+}
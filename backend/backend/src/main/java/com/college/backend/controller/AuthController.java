@@ -2,12 +2,16 @@ package com.college.backend.controller;
 
 import com.college.backend.dto.*;
 import com.college.backend.exception.InvalidCredentialsException;
+import com.college.backend.exception.ServiceOverloadedException;
 import com.college.backend.exception.UserAlreadyExistsException;
 import com.college.backend.model.User;
 import com.college.backend.security.JwtTokenProvider;
+import com.college.backend.security.LoginMetrics;
 import com.college.backend.service.AuthService;
+import com.college.backend.service.LoginActivityBuffer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +34,12 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private LoginMetrics loginMetrics;
+
+    @Autowired
+    private LoginActivityBuffer loginActivityBuffer;
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
         try {
@@ -44,10 +54,19 @@ public class AuthController {
             String jwt = tokenProvider.generateToken(authentication);
             
             User user = authService.getUserByEmail(loginRequest.getEmail());
+            loginActivityBuffer.recordLogin(user.getId());
             LoginResponse loginResponse = new LoginResponse(user, jwt);
             
+            loginMetrics.recordSuccess();
             return ResponseEntity.ok(ApiResponse.success("Login successful", loginResponse));
+        } catch (ServiceOverloadedException e) {
+            // Password verification pool is full; tell the client to back off rather than report bad credentials
+            loginMetrics.recordRejected();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
+            loginMetrics.recordFailure();
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("Invalid email or password"));
         }
@@ -0,0 +1,61 @@
+package com.college.backend.controller;
+
+import com.college.backend.dto.ApiResponse;
+import com.college.backend.service.BatchRequestService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/batch")
+@CrossOrigin(origins = "*")
+public class BatchController {
+
+    @Autowired
+    private BatchRequestService batchRequestService;
+
+    // Several GETs in one round trip, e.g. a page's initial loads:
+    // {"requests": [{"id": "profile", "path": "/api/faculty/profile"}, {"id": "courses", "path": "/api/faculty/courses"}]}
+    // Parts run concurrently; each comes back with its own status and body, in request order
+    @PostMapping
+    public ResponseEntity<?> batch(@RequestBody BatchRequest batchRequest, HttpServletRequest request) {
+        try {
+            LinkedHashMap<String, String> parts = new LinkedHashMap<>();
+            List<BatchPart> requests = batchRequest.getRequests() != null ? batchRequest.getRequests() : List.of();
+            for (int i = 0; i < requests.size(); i++) {
+                BatchPart part = requests.get(i);
+                // Parts without an id are named by their position
+                String id = part.getId() != null ? part.getId() : String.valueOf(i);
+                if (parts.putIfAbsent(id, part.getPath()) != null) {
+                    throw new IllegalArgumentException("Duplicate request id: " + id);
+                }
+            }
+            List<Map<String, Object>> results = batchRequestService.execute(request, parts);
+            return ResponseEntity.ok(ApiResponse.success("Batch completed", results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    public static class BatchRequest {
+        private List<BatchPart> requests;
+
+        public List<BatchPart> getRequests() { return requests; }
+        public void setRequests(List<BatchPart> requests) { this.requests = requests; }
+    }
+
+    public static class BatchPart {
+        private String id;
+        private String path;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+    }
+}
@@ -1,6 +1,12 @@
 package com.college.backend.controller;
 
 import com.college.backend.dto.ApiResponse;
+import com.college.backend.dto.AttendanceReport;
+import com.college.backend.dto.CourseDetails;
+import com.college.backend.dto.FacultyDashboard;
+import com.college.backend.dto.GradeAnalytics;
+import com.college.backend.dto.GradeReport;
+import com.college.backend.dto.SessionAttendance;
 import com.college.backend.model.Faculty;
 import com.college.backend.model.Course;
 import com.college.backend.model.Grade;
@@ -53,8 +59,8 @@ public class FacultyController {
 
     // Dashboard Endpoints
     @GetMapping("/dashboard/overview")
-    public ResponseEntity<Map<String, Object>> getDashboardOverview() {
-        Map<String, Object> overview = dashboardService.getFacultyDashboardOverview();
+    public ResponseEntity<FacultyDashboard> getDashboardOverview() {
+        FacultyDashboard overview = dashboardService.getFacultyDashboardOverview();
         return ResponseEntity.ok(overview);
     }
 
@@ -84,8 +90,8 @@ public class FacultyController {
     }
 
     @GetMapping("/courses/{courseId}/management/details")
-    public ResponseEntity<Map<String, Object>> getCourseManagementDetails(@PathVariable Long courseId) {
-        Map<String, Object> details = courseManagementService.getCourseDetails(courseId);
+    public ResponseEntity<CourseDetails> getCourseManagementDetails(@PathVariable Long courseId) {
+        CourseDetails details = courseManagementService.getCourseDetails(courseId);
         return ResponseEntity.ok(details);
     }
 
@@ -190,16 +196,16 @@ public class FacultyController {
     }
 
     @GetMapping("/courses/{courseId}/grades/analytics/detailed")
-    public ResponseEntity<Map<String, Object>> getDetailedCourseGradeAnalytics(@PathVariable Long courseId) {
-        Map<String, Object> analytics = gradeManagementService.getCourseGradeAnalytics(courseId);
+    public ResponseEntity<GradeAnalytics> getDetailedCourseGradeAnalytics(@PathVariable Long courseId) {
+        GradeAnalytics analytics = gradeManagementService.getCourseGradeAnalytics(courseId);
         return ResponseEntity.ok(analytics);
     }
 
     @GetMapping("/courses/{courseId}/grades/reports")
-    public ResponseEntity<Map<String, Object>> generateGradeReport(
+    public ResponseEntity<GradeReport> generateGradeReport(
             @PathVariable Long courseId,
             @RequestParam(defaultValue = "comprehensive") String reportType) {
-        Map<String, Object> report = gradeManagementService.generateGradeReport(courseId, reportType);
+        GradeReport report = gradeManagementService.generateGradeReport(courseId, reportType);
         return ResponseEntity.ok(report);
     }
 
@@ -221,10 +227,10 @@ public class FacultyController {
     }
 
     @GetMapping("/courses/{courseId}/attendance/session-detailed")
-    public ResponseEntity<Map<String, Object>> getSessionAttendanceDetailed(
+    public ResponseEntity<SessionAttendance> getSessionAttendanceDetailed(
             @PathVariable Long courseId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate attendanceDate) {
-        Map<String, Object> session = attendanceManagementService.getSessionAttendance(courseId, attendanceDate);
+        SessionAttendance session = attendanceManagementService.getSessionAttendance(courseId, attendanceDate);
         return ResponseEntity.ok(session);
     }
 
@@ -243,12 +249,12 @@ public class FacultyController {
     }
 
     @GetMapping("/courses/{courseId}/attendance/reports")
-    public ResponseEntity<Map<String, Object>> generateAttendanceReport(
+    public ResponseEntity<AttendanceReport> generateAttendanceReport(
             @PathVariable Long courseId,
             @RequestParam(defaultValue = "summary") String reportType,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        Map<String, Object> report = attendanceManagementService.generateAttendanceReport(
+        AttendanceReport report = attendanceManagementService.generateAttendanceReport(
             courseId, reportType, startDate, endDate);
         return ResponseEntity.ok(report);
     }
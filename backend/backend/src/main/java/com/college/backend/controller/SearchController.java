@@ -0,0 +1,32 @@
+package com.college.backend.controller;
+
+import com.college.backend.dto.ApiResponse;
+import com.college.backend.service.SearchSuggestionService;
+import com.college.backend.service.TypeaheadIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = {"http://localhost:3000", "http://127.0.0.1:5500", "http://localhost:5500", "*"})
+public class SearchController {
+
+    @Autowired
+    private SearchSuggestionService suggestionService;
+
+    // Typeahead over students, faculty, courses and departments, served from memory
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<TypeaheadIndex.Suggestion>>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "10") int limit) {
+        Set<String> typeFilter = types != null ? new HashSet<>(types) : Set.of();
+        List<TypeaheadIndex.Suggestion> suggestions = suggestionService.suggest(query, typeFilter, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+}
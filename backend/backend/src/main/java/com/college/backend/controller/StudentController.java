@@ -1,6 +1,7 @@
 package com.college.backend.controller;
 
 import com.college.backend.dto.ApiResponse;
+import com.college.backend.dto.StudentDashboard;
 import com.college.backend.model.Student;
 import com.college.backend.model.Enrollment;
 import com.college.backend.model.Grade;
@@ -43,7 +44,7 @@ public class StudentController {
     @GetMapping("/dashboard")
     public ResponseEntity<?> getStudentDashboard() {
         try {
-            Map<String, Object> dashboard = studentPortalService.getStudentDashboardOverview();
+            StudentDashboard dashboard = studentPortalService.getStudentDashboardOverview();
             return ResponseEntity.ok(ApiResponse.success("Dashboard retrieved successfully", dashboard));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
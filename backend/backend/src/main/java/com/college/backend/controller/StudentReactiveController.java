@@ -0,0 +1,59 @@
+package com.college.backend.controller;
+
+import com.college.backend.config.ReactiveReadConfig;
+import com.college.backend.dto.ApiResponse;
+import com.college.backend.service.StudentPortalReactiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+// Non-blocking counterparts of the read-only student portal endpoints in StudentController.
+// Same JWT security (/api/student/**) and response bodies; the servlet thread is released as soon as
+// the queries are issued and the response is written when R2DBC returns the rows
+@RestController
+@RequestMapping("/api/student/reactive")
+@ConditionalOnExpression(ReactiveReadConfig.ENABLED)
+@CrossOrigin(origins = {"http://localhost:3000", "http://127.0.0.1:5500", "http://localhost:5500", "*"})
+public class StudentReactiveController {
+
+    @Autowired
+    private StudentPortalReactiveService studentPortalReactiveService;
+
+    @GetMapping("/dashboard")
+    public Mono<ResponseEntity<?>> getStudentDashboard() {
+        return respond(studentPortalReactiveService::getStudentDashboardOverview,
+                "Dashboard retrieved successfully", "Failed to retrieve dashboard: ");
+    }
+
+    @GetMapping("/portal/grades")
+    public Mono<ResponseEntity<?>> getGradeDetailsPortal() {
+        return respond(studentPortalReactiveService::getGradeDetails,
+                "Grade details retrieved successfully", "Failed to retrieve grade details: ");
+    }
+
+    @GetMapping("/portal/attendance")
+    public Mono<ResponseEntity<?>> getAttendanceRecordsPortal() {
+        return respond(studentPortalReactiveService::getAttendanceRecords,
+                "Attendance records retrieved successfully", "Failed to retrieve attendance records: ");
+    }
+
+    @GetMapping("/portal/academic-records")
+    public Mono<ResponseEntity<?>> getAcademicRecords() {
+        return respond(studentPortalReactiveService::getAcademicRecords,
+                "Academic records retrieved successfully", "Failed to retrieve academic records: ");
+    }
+
+    // Errors raised before the query starts (e.g. @PreAuthorize) and while it runs get the same
+    // 500 ApiResponse the servlet endpoints return
+    private <T> Mono<ResponseEntity<?>> respond(Supplier<Mono<T>> call, String message, String errorPrefix) {
+        return Mono.defer(call)
+                .<ResponseEntity<?>>map(data -> ResponseEntity.ok(ApiResponse.success(message, data)))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.error(errorPrefix + e.getMessage()))));
+    }
+}
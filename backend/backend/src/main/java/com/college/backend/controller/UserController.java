@@ -6,6 +6,7 @@ import com.college.backend.dto.RegisterRequest;
 import com.college.backend.model.User;
 import com.college.backend.repository.UserRepository;
 import com.college.backend.service.AuthService;
+import com.college.backend.service.LoginActivityBuffer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +29,9 @@ public class UserController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private LoginActivityBuffer loginActivityBuffer;
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody User credentials) {
         Optional<User> optionalUser = userRepository.findByEmail(credentials.getEmail());
@@ -52,7 +56,7 @@ public class UserController {
         
         // Update last login
         user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        loginActivityBuffer.recordLogin(user.getId());
         
         return ResponseEntity.ok(new LoginResponse(user));
     }
@@ -0,0 +1,28 @@
+package com.college.backend.dto;
+
+// GET /api/admin/dashboard/overview
+public record AdminSystemOverview(
+        UserStatistics userStatistics,
+        RoleDistribution roleDistribution,
+        AcademicStatistics academicStatistics) {
+
+    public record UserStatistics(
+            long totalUsers,
+            long activeUsers,
+            long inactiveUsers,
+            long verifiedUsers,
+            long unverifiedUsers) {
+    }
+
+    public record RoleDistribution(long students, long faculty, long admins) {
+    }
+
+    public record AcademicStatistics(
+            long totalDepartments,
+            long activeDepartments,
+            long totalCourses,
+            long activeCourses,
+            long totalEnrollments,
+            long activeEnrollments) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.college.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/faculty/courses/{courseId}/attendance/reports. The fields of the requested reportType's section
+// sit next to the header fields, as they did when the report was one map
+public record AttendanceReport(
+        String reportType,
+        CourseRef course,
+        DateRange dateRange,
+        String generatedBy,
+        LocalDateTime generatedAt,
+        @JsonUnwrapped Section section) {
+
+    public sealed interface Section permits Summary, Detailed, Defaulters, Daily {
+    }
+
+    public record DateRange(LocalDate startDate, LocalDate endDate) {
+    }
+
+    // The distribution and rate are left out when the range has no records
+    public record Summary(
+            int totalStudents,
+            int totalRecords,
+            @JsonInclude(JsonInclude.Include.NON_NULL) Map<String, Long> statusDistribution,
+            @JsonInclude(JsonInclude.Include.NON_NULL) Double overallAttendanceRate) implements Section {
+    }
+
+    public record Detailed(List<StudentAttendance> studentDetails) implements Section {
+    }
+
+    public record StudentAttendance(
+            Long studentId,
+            String studentName,
+            String studentNumber,
+            int totalClasses,
+            long present,
+            long absent,
+            long late,
+            double attendancePercentage) {
+    }
+
+    public record Defaulters(List<Defaulter> defaultersList, int totalDefaulters) implements Section {
+    }
+
+    public record Defaulter(
+            Long studentId,
+            String studentName,
+            String studentNumber,
+            String email,
+            int totalClasses,
+            long present,
+            double attendancePercentage) {
+    }
+
+    public record Daily(List<Day> dailyDetails) implements Section {
+    }
+
+    public record Day(String date, int totalStudents, long present, long absent, long late, double attendanceRate) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Enrollment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/faculty/courses/{courseId}/management/details. Enrollments carry the student id only; names and
+// emails are in enrolledStudents, so neither the course nor the students' entity graphs are serialized
+public record CourseDetails(
+        CourseSummary course,
+        List<EnrollmentRow> enrollments,
+        int enrolledStudentCount,
+        List<EnrolledStudent> enrolledStudents,
+        List<Map<String, Object>> recentActivity) {
+
+    public record EnrollmentRow(
+            Long id,
+            Long studentId,
+            LocalDateTime enrollmentDate,
+            Enrollment.EnrollmentStatus status,
+            String academicYear,
+            Integer semester,
+            String grade,
+            Double gradePoints,
+            Boolean isRepeat,
+            Double attendancePercentage,
+            LocalDateTime droppedDate,
+            LocalDateTime completionDate) {
+
+        public static EnrollmentRow of(Enrollment enrollment) {
+            return new EnrollmentRow(enrollment.getId(), enrollment.getStudent().getId(),
+                    enrollment.getEnrollmentDate(), enrollment.getStatus(), enrollment.getAcademicYear(),
+                    enrollment.getSemester(), enrollment.getGrade(), enrollment.getGradePoints(),
+                    enrollment.getIsRepeat(), enrollment.getAttendancePercentage(), enrollment.getDroppedDate(),
+                    enrollment.getCompletionDate());
+        }
+    }
+
+    public record EnrolledStudent(
+            Long studentId,
+            String studentNumber,
+            String name,
+            String email,
+            LocalDateTime enrollmentDate,
+            Enrollment.EnrollmentStatus status,
+            String currentGrade) {
+
+        public static EnrolledStudent of(Enrollment enrollment) {
+            return new EnrolledStudent(enrollment.getStudent().getId(), enrollment.getStudent().getStudentId(),
+                    enrollment.getStudent().getUser().getName(), enrollment.getStudent().getUser().getEmail(),
+                    enrollment.getEnrollmentDate(), enrollment.getStatus(), enrollment.getCurrentGrade());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Course;
+
+// Course as it appears at the top of reports and rosters
+public record CourseRef(Long id, String name, String code) {
+
+    public static CourseRef of(Course course) {
+        return new CourseRef(course.getId(), course.getCourseName(), course.getCourseCode());
+    }
+}
@@ -0,0 +1,39 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Course;
+import com.college.backend.model.Faculty;
+
+import java.time.LocalDateTime;
+
+// What course update responses return instead of the Course entity, whose instructor and department
+// graphs (down to the instructor's user row) were serialized along with it
+public record CourseSummary(
+        Long id,
+        String courseCode,
+        String courseName,
+        Integer credits,
+        Course.CourseType type,
+        Course.CourseStatus status,
+        Integer semester,
+        String academicYear,
+        String schedule,
+        String classroom,
+        Integer maxCapacity,
+        Integer enrolledStudents,
+        DepartmentRef department,
+        Instructor instructor,
+        LocalDateTime updatedAt) {
+
+    public record Instructor(Long id, String name, Faculty.Designation designation) {
+    }
+
+    public static CourseSummary of(Course course) {
+        Faculty faculty = course.getInstructor();
+        Instructor instructor = faculty == null ? null
+                : new Instructor(faculty.getId(), faculty.getUser().getName(), faculty.getDesignation());
+        return new CourseSummary(course.getId(), course.getCourseCode(), course.getCourseName(), course.getCredits(),
+                course.getType(), course.getStatus(), course.getSemester(), course.getAcademicYear(),
+                course.getSchedule(), course.getClassroom(), course.getMaxCapacity(), course.getEnrolledStudents(),
+                DepartmentRef.of(course.getDepartment()), instructor, course.getUpdatedAt());
+    }
+}
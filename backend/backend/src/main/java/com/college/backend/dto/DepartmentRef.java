@@ -0,0 +1,11 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Department;
+
+// Department as it appears inside dashboards and course summaries
+public record DepartmentRef(Long id, String name, String code) {
+
+    public static DepartmentRef of(Department department) {
+        return department == null ? null : new DepartmentRef(department.getId(), department.getName(), department.getCode());
+    }
+}
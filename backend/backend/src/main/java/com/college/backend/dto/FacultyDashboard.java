@@ -0,0 +1,89 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Faculty;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/faculty/dashboard/overview. Sections follow the same null / incompleteSections rule as StudentDashboard
+public record FacultyDashboard(
+        Profile facultyProfile,
+        TeachingLoad teachingLoad,
+        AcademicPerformance academicPerformance,
+        AttendanceOverview attendanceOverview,
+        GradingProgress gradingProgress,
+        List<RecentActivity> recentActivities,
+        PendingTasks pendingTasks,
+        TeachingInsights teachingInsights,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> incompleteSections) {
+
+    public record Profile(
+            Long id,
+            String name,
+            String email,
+            String employeeId,
+            Faculty.Designation designation,
+            Faculty.FacultyStatus status,
+            Integer experienceYears,
+            Boolean isDepartmentHead,
+            Faculty.EmploymentType employmentType,
+            @JsonInclude(JsonInclude.Include.NON_NULL) DepartmentRef department) {
+    }
+
+    public record TeachingLoad(
+            int totalCourses,
+            int totalCredits,
+            int totalStudents,
+            Map<String, Long> courseStatusDistribution) {
+    }
+
+    public record AcademicPerformance(
+            int totalGradesEntered,
+            double averageGrade,
+            Map<String, Long> gradeDistribution,
+            double passRate) {
+    }
+
+    public record AttendanceOverview(
+            int totalAttendanceRecords,
+            double overallAttendanceRate,
+            Map<String, Long> attendanceStatusDistribution) {
+    }
+
+    public record GradingProgress(
+            int totalStudentsToGrade,
+            int totalStudentsGraded,
+            double gradingCompletionPercentage) {
+    }
+
+    public record RecentActivity(
+            String type,
+            String description,
+            LocalDateTime timestamp,
+            Long courseId,
+            String courseName) {
+    }
+
+    public record PendingTasks(List<PendingTask> pendingTasks, int totalPendingTasks) {
+    }
+
+    public record PendingTask(
+            String type,
+            Long courseId,
+            String courseName,
+            String description,
+            long count,
+            String priority) {
+    }
+
+    // Either course is left out when no course has grades yet
+    public record TeachingInsights(
+            @JsonInclude(JsonInclude.Include.NON_NULL) CourseAverage mostChallengingCourse,
+            @JsonInclude(JsonInclude.Include.NON_NULL) CourseAverage bestPerformingCourse) {
+    }
+
+    public record CourseAverage(Long courseId, String courseName, double averageGrade) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.college.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+// GET /api/faculty/courses/{courseId}/grades/analytics/detailed, and the grade_distribution section of
+// GradeReport. A course without grades only has totalGrades and message; the numeric statistics,
+// categories and pass rate are left out when no grade has a numeric value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GradeAnalytics(
+        int totalGrades,
+        String message,
+        Map<String, Long> letterGradeDistribution,
+        NumericStatistics numericGradeStatistics,
+        Map<String, Integer> performanceCategories,
+        Double passRate,
+        Map<String, Long> gradeTypeDistribution,
+        List<Performer> topPerformers,
+        List<Performer> bottomPerformers,
+        List<TimelineDay> gradingTimeline) implements GradeReport.Section {
+
+    public record NumericStatistics(double average, double min, double max, long count) {
+    }
+
+    public record Performer(Long studentId, String studentName, double averageGrade) {
+    }
+
+    public record TimelineDay(String date, long gradesEntered) {
+    }
+
+    public static GradeAnalytics empty() {
+        return new GradeAnalytics(0, "No grades available for analysis", null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.college.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// GET /api/faculty/courses/{courseId}/grades/reports. As with AttendanceReport, the section's fields sit next
+// to the header fields; comprehensive combines the other three
+public record GradeReport(
+        String reportType,
+        CourseRef course,
+        String generatedBy,
+        LocalDateTime generatedAt,
+        @JsonUnwrapped Section section) {
+
+    public interface Section {
+    }
+
+    public record FinalGrades(List<FinalGrade> finalGrades) implements Section {
+    }
+
+    // finalGrade is the average, or "N/A" (as is letterGrade) for a student with no grades yet
+    public record FinalGrade(Long studentId, String studentName, String studentNumber, Object finalGrade,
+                             String letterGrade) {
+    }
+
+    public record StudentProgressReport(List<StudentProgress> studentProgress) implements Section {
+    }
+
+    public record StudentProgress(
+            Long studentId,
+            String studentName,
+            LocalDateTime enrollmentDate,
+            List<GradeEntry> gradeHistory) {
+    }
+
+    public record GradeEntry(String gradeType, Double numericGrade, String letterGrade, LocalDateTime gradeDate) {
+    }
+
+    public record Comprehensive(
+            List<FinalGrade> finalGrades,
+            @JsonUnwrapped GradeAnalytics distribution,
+            List<StudentProgress> studentProgress) implements Section {
+    }
+}
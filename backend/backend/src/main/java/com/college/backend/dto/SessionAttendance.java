@@ -0,0 +1,31 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.AttendanceRecord;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// GET /api/faculty/courses/{courseId}/attendance/session-detailed: the course roster with each student's
+// attendance for one date. Students not marked yet have null status, remarks and markedAt
+public record SessionAttendance(
+        CourseRef course,
+        LocalDate attendanceDate,
+        List<Entry> attendanceList,
+        int totalStudents,
+        Statistics sessionStatistics) {
+
+    public record Entry(
+            Long studentId,
+            String studentName,
+            String studentNumber,
+            String email,
+            AttendanceRecord.AttendanceStatus status,
+            String remarks,
+            LocalDateTime markedAt,
+            boolean isMarked) {
+    }
+
+    public record Statistics(long present, long absent, long late, long notMarked, double attendanceRate) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.college.backend.dto;
+
+import com.college.backend.model.Student;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/student/dashboard (and its reactive counterpart). A section is null when it failed or timed out,
+// and is then named in incompleteSections, which is left out when every section completed
+public record StudentDashboard(
+        Profile studentProfile,
+        AcademicOverview academicOverview,
+        PerformanceOverview performanceOverview,
+        AttendanceOverview attendanceOverview,
+        List<RecentActivity> recentActivities,
+        List<UpcomingEvent> upcomingEvents,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> incompleteSections) {
+
+    public record Profile(
+            Long id,
+            String name,
+            String email,
+            String phone,
+            String studentId,
+            Student.StudentStatus status,
+            Student.FeeStatus feeStatus,
+            Double cgpa,
+            String academicYear,
+            Integer semester,
+            Boolean hostelResident,
+            @JsonInclude(JsonInclude.Include.NON_NULL) DepartmentRef department) {
+    }
+
+    public record AcademicOverview(
+            int totalEnrolledCourses,
+            int currentEnrolledCourses,
+            int totalCredits,
+            Map<String, Long> enrollmentStatusDistribution) {
+    }
+
+    public record PerformanceOverview(
+            int totalGrades,
+            Double cgpa,
+            double averageGrade,
+            String latestGrade,
+            Double latestNumericGrade) {
+    }
+
+    public record AttendanceOverview(
+            long totalRecords,
+            double overallAttendancePercentage,
+            long totalPresent,
+            long totalAbsent) {
+    }
+
+    // grade is only set on GRADE_RECEIVED entries
+    public record RecentActivity(
+            String type,
+            String description,
+            LocalDateTime timestamp,
+            String courseName,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String grade) {
+    }
+
+    public record UpcomingEvent(
+            String type,
+            String title,
+            String description,
+            LocalDateTime dueDate,
+            String priority) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Append-only; rows are written in batches by ActivityEventService and never updated
+@Entity
+@Immutable
+@Table(name = "activity_events", indexes = {
+    @Index(name = "idx_activity_events_occurred_at_id", columnList = "occurred_at, id"),
+    @Index(name = "idx_activity_events_user_occurred_at", columnList = "user_id, occurred_at")
+})
+@Data
+public class ActivityEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private EventType eventType;
+
+    @Column(name = "user_id")
+    private Long userId; // The user who acted, when known
+
+    @Column(name = "entity_id")
+    private Long entityId; // User, enrollment, grade or attendance record id
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public enum EventType {
+        LOGIN, REGISTRATION, ENROLLMENT, GRADE_ENTERED, ATTENDANCE_MARKED
+    }
+}
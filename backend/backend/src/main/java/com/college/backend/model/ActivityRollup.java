@@ -0,0 +1,37 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Event counts per hour and per day, maintained incrementally with every event flush
+@Entity
+@Table(name = "activity_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_activity_rollups_bucket", columnNames = {"granularity", "bucket_start", "event_type"})
+})
+@Data
+public class ActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private ActivityEvent.EventType eventType;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+}
@@ -67,10 +67,11 @@ public class Admin {
     @Column(name = "working_hours")
     private String workingHours;
     
-    @Column(name = "last_login")
+    // Maintained by LoginActivityBuffer
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
     
-    @Column(name = "login_count")
+    @Column(name = "login_count", updatable = false)
     private Integer loginCount = 0;
     
     @Column(name = "can_manage_users")
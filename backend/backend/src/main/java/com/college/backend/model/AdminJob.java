@@ -0,0 +1,89 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "admin_jobs", indexes = {
+    @Index(name = "idx_admin_jobs_status", columnList = "status")
+})
+@Data
+public class AdminJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "operation", nullable = false, length = 100)
+    private String operation; // e.g., "cleanup_inactive_users", "users.activate"
+
+    @Column(name = "parameters", columnDefinition = "TEXT")
+    private String parameters; // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status = JobStatus.QUEUED;
+
+    @Column(name = "total_items")
+    private Long totalItems;
+
+    @Column(name = "processed_items")
+    private Long processedItems = 0L;
+
+    @Column(name = "failed_items")
+    private Long failedItems = 0L;
+
+    @Column(name = "checkpoint", length = 500)
+    private String checkpoint; // Handler specific resume position
+
+    @Column(name = "cancel_requested")
+    private Boolean cancelRequested = false;
+
+    @Column(name = "result", columnDefinition = "TEXT")
+    private String result; // JSON
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "requested_by")
+    private String requestedBy;
+
+    @Column(name = "owner_node")
+    private String ownerNode; // Node running the job; set when a node claims it
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt; // Refreshed by the owner while it runs; a stale one lets another node take over
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED || status == JobStatus.CANCELLED;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
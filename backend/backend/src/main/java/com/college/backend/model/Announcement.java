@@ -0,0 +1,75 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One post to a course, a department or a year of students. Stored once; each recipient only gets a
+// row in announcement_recipients, written in batches by AnnouncementService after the post commits
+@Entity
+@Table(name = "announcements", indexes = {
+    @Index(name = "idx_announcements_author", columnList = "author_user_id, id"),
+    @Index(name = "idx_announcements_status", columnList = "status")
+})
+@Data
+public class Announcement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "body", columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "audience_type", nullable = false, length = 20)
+    private AudienceType audienceType;
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "department_id")
+    private Long departmentId; // For YEAR, null means every department
+
+    @Column(name = "target_year")
+    private Integer targetYear;
+
+    @Column(name = "author_user_id", nullable = false)
+    private Long authorUserId;
+
+    @Column(name = "author_name")
+    private String authorName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "recipient_count")
+    private Integer recipientCount = 0;
+
+    @Column(name = "fanout_cursor")
+    private Long fanoutCursor = 0L; // Last student user id delivered to; fan-out resumes after it
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    public enum AudienceType {
+        COURSE, DEPARTMENT, YEAR
+    }
+
+    public enum Status {
+        PENDING, DELIVERING, DELIVERED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Per-recipient read state: two ids and a read time, no copy of the announcement
+@Entity
+@Table(name = "announcement_recipients", indexes = {
+    @Index(name = "idx_announcement_recipients_inbox", columnList = "user_id, announcement_id")
+})
+@IdClass(AnnouncementRecipient.Key.class)
+@Data
+public class AnnouncementRecipient {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "announcement_id")
+    private Long announcementId;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long announcementId;
+    }
+}
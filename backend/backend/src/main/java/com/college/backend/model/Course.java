@@ -7,12 +7,16 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.course")
 @Data
 @EqualsAndHashCode(exclude = {"enrollments", "attendanceRecords", "grades"})
 @ToString(exclude = {"enrollments", "attendanceRecords", "grades"})
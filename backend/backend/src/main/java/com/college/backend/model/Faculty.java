@@ -6,12 +6,16 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "faculty")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.faculty")
 @Data
 @EqualsAndHashCode(exclude = {"assignedCourses", "attendanceRecords"})
 @ToString(exclude = {"assignedCourses", "attendanceRecords"})
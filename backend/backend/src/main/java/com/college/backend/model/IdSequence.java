@@ -0,0 +1,28 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "id_sequences")
+@Data
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 50)
+    private String sequenceKey; // e.g., "STUDENT:CSE:24", "EMPLOYEE:24"
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue = 1L; // First value of the next unreserved block
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
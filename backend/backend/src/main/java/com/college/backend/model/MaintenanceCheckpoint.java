@@ -0,0 +1,58 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "maintenance_checkpoints")
+@Data
+public class MaintenanceCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName; // e.g., "inactive_user_cleanup"
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private CheckpointStatus status = CheckpointStatus.RUNNING;
+
+    @Column(name = "cutoff_date")
+    private LocalDateTime cutoffDate;
+
+    @Column(name = "last_processed_id")
+    private Long lastProcessedId = 0L; // Keyset position, the next batch starts after this id
+
+    @Column(name = "processed_count")
+    private Long processedCount = 0L;
+
+    @Column(name = "batch_count")
+    private Integer batchCount = 0;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum CheckpointStatus {
+        RUNNING, COMPLETED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
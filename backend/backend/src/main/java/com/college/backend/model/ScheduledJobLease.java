@@ -0,0 +1,23 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Row lock for scheduled jobs on databases without advisory locks (H2 in tests)
+@Entity
+@Table(name = "scheduled_job_leases")
+@Data
+public class ScheduledJobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by", length = 150)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // null when free
+}
@@ -0,0 +1,47 @@
+package com.college.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_job_runs", indexes = {
+    @Index(name = "idx_scheduled_job_runs_job_started", columnList = "job_name, started_at")
+})
+@Data
+public class ScheduledJobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName; // e.g., "announcement_fanout_resume"
+
+    @Column(name = "node_id", nullable = false, length = 150)
+    private String nodeId; // host:pid of the instance that ran it
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RunStatus status = RunStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "rows_processed")
+    private Long rowsProcessed;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public enum RunStatus {
+        RUNNING, COMPLETED, FAILED, ABANDONED
+    }
+}
@@ -7,7 +7,10 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_registration_date_id", columnList = "registration_date, id"),
+    @Index(name = "idx_users_role_active", columnList = "role, is_active")
+})
 @Data
 public class User {
 
@@ -70,7 +73,8 @@ public class User {
     @Column(name = "registration_date")
     private LocalDateTime registrationDate;
 
-    @Column(name = "last_login")
+    // Written only by LoginActivityBuffer, so entity saves cannot roll back a newer login time
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 
     @Column(name = "verification_token")
@@ -0,0 +1,32 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    // Newest first, served from idx_activity_events_occurred_at_id
+    List<ActivityEvent> findAllByOrderByOccurredAtDescIdDesc(Pageable pageable);
+
+    List<ActivityEvent> findByUserIdOrderByOccurredAtDesc(Long userId, Pageable pageable);
+
+    // Per user: [userId, latest occurredAt, event count] for one event type in a time range
+    @Query("SELECT e.userId, MAX(e.occurredAt), COUNT(e) FROM ActivityEvent e " +
+           "WHERE e.eventType = :eventType AND e.occurredAt BETWEEN :start AND :end AND e.userId IS NOT NULL " +
+           "GROUP BY e.userId")
+    List<Object[]> summarizeByUser(@Param("eventType") ActivityEvent.EventType eventType,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end);
+
+    // When the log starts for an event type; null while there are none
+    @Query("SELECT MIN(e.occurredAt) FROM ActivityEvent e WHERE e.eventType = :eventType")
+    LocalDateTime findFirstOccurredAt(@Param("eventType") ActivityEvent.EventType eventType);
+}
@@ -0,0 +1,19 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.ActivityEvent;
+import com.college.backend.model.ActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    List<ActivityRollup> findByGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            ActivityRollup.Granularity granularity, LocalDateTime start, LocalDateTime end);
+
+    List<ActivityRollup> findByGranularityAndEventTypeAndBucketStartBetweenOrderByBucketStartAsc(
+            ActivityRollup.Granularity granularity, ActivityEvent.EventType eventType, LocalDateTime start, LocalDateTime end);
+}
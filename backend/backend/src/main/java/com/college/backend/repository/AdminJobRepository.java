@@ -0,0 +1,76 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.AdminJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AdminJobRepository extends JpaRepository<AdminJob, Long> {
+
+    List<AdminJob> findTop50ByOrderByCreatedAtDesc();
+
+    // Queued jobs nobody picked up, and running jobs whose owner stopped sending heartbeats
+    @Query("SELECT j FROM AdminJob j WHERE (j.status = :queued AND j.updatedAt < :staleBefore) " +
+           "OR (j.status = :running AND COALESCE(j.heartbeatAt, j.updatedAt) < :staleBefore) ORDER BY j.id")
+    List<AdminJob> findResumable(@Param("queued") AdminJob.JobStatus queued, @Param("running") AdminJob.JobStatus running,
+                                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Query("SELECT j.cancelRequested FROM AdminJob j WHERE j.id = :id")
+    Boolean isCancelRequested(@Param("id") Long id);
+
+    // Targeted updates so the worker never overwrites a concurrent cancel request with a stale entity.
+    // claim/takeOver only succeed for one node; a node that gets 0 rows back must not run the job
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :running, j.ownerNode = :node, j.heartbeatAt = :now, j.startedAt = :now, " +
+           "j.updatedAt = :now WHERE j.id = :id AND j.status = :queued")
+    int claim(@Param("id") Long id, @Param("node") String node, @Param("queued") AdminJob.JobStatus queued,
+              @Param("running") AdminJob.JobStatus running, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.ownerNode = :node, j.heartbeatAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND COALESCE(j.heartbeatAt, j.updatedAt) < :staleBefore")
+    int takeOver(@Param("id") Long id, @Param("node") String node, @Param("running") AdminJob.JobStatus running,
+                 @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.ownerNode = :node")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("node") String node, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.totalItems = :total, j.processedItems = :processed, j.failedItems = :failed, " +
+           "j.checkpoint = :checkpoint, j.updatedAt = :now WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("total") Long total, @Param("processed") Long processed,
+                       @Param("failed") Long failed, @Param("checkpoint") String checkpoint, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :status, j.result = :result, j.errorMessage = :error, " +
+           "j.finishedAt = :now, j.updatedAt = :now WHERE j.id = :id")
+    int markFinished(@Param("id") Long id, @Param("status") AdminJob.JobStatus status, @Param("result") String result,
+                     @Param("error") String error, @Param("now") LocalDateTime now);
+
+    // A node whose job was taken over after a missed heartbeat must not overwrite the new owner's outcome
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :status, j.result = :result, j.errorMessage = :error, " +
+           "j.finishedAt = :now, j.updatedAt = :now WHERE j.id = :id AND j.ownerNode = :node")
+    int markFinishedByOwner(@Param("id") Long id, @Param("node") String node, @Param("status") AdminJob.JobStatus status,
+                            @Param("result") String result, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.cancelRequested = true, j.updatedAt = :now WHERE j.id = :id")
+    int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.AnnouncementRecipient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnnouncementRecipientRepository extends JpaRepository<AnnouncementRecipient, AnnouncementRecipient.Key> {
+
+    // Inbox page: newest first, keyset on the announcement id via the (user_id, announcement_id) index
+    @Query("SELECT a, r.readAt FROM AnnouncementRecipient r JOIN Announcement a ON a.id = r.announcementId " +
+           "WHERE r.userId = :userId AND r.announcementId < :beforeId ORDER BY r.announcementId DESC")
+    List<Object[]> findInboxPage(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    long countByUserIdAndReadAtIsNull(Long userId);
+
+    @Modifying
+    @Query("UPDATE AnnouncementRecipient r SET r.readAt = :now " +
+           "WHERE r.userId = :userId AND r.announcementId = :announcementId AND r.readAt IS NULL")
+    int markRead(@Param("userId") Long userId, @Param("announcementId") Long announcementId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE AnnouncementRecipient r SET r.readAt = :now " +
+           "WHERE r.userId = :userId AND r.announcementId <= :upToId AND r.readAt IS NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("upToId") Long upToId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(r) FROM AnnouncementRecipient r WHERE r.announcementId = :announcementId AND r.readAt IS NOT NULL")
+    long countRead(@Param("announcementId") Long announcementId);
+}
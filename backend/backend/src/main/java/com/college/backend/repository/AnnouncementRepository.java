@@ -0,0 +1,32 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.Announcement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+
+    List<Announcement> findByStatusInOrderByIdAsc(Collection<Announcement.Status> statuses);
+
+    List<Announcement> findByAuthorUserIdAndIdLessThanOrderByIdDesc(Long authorUserId, Long beforeId, Pageable pageable);
+
+    // Advances the fan-out only from the cursor the batch started at, so two workers never deliver the same range
+    @Modifying
+    @Query("UPDATE Announcement a SET a.fanoutCursor = :next, a.recipientCount = a.recipientCount + :delivered, " +
+           "a.status = :status WHERE a.id = :id AND a.fanoutCursor = :current")
+    int advanceFanout(@Param("id") Long id, @Param("current") Long current, @Param("next") Long next,
+                      @Param("delivered") int delivered, @Param("status") Announcement.Status status);
+
+    @Modifying
+    @Query("UPDATE Announcement a SET a.status = :status, a.deliveredAt = CURRENT_TIMESTAMP " +
+           "WHERE a.id = :id AND a.fanoutCursor = :current")
+    int markDelivered(@Param("id") Long id, @Param("current") Long current, @Param("status") Announcement.Status status);
+}
@@ -1,17 +1,27 @@
 package com.college.backend.repository;
 
 import com.college.backend.model.Course;
+import com.college.backend.model.Department;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
     
+    // Natural-key lookups go through the query cache; any write to courses invalidates them
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference.natural-keys")})
     Optional<Course> findByCourseCode(String courseCode);
     
     List<Course> findByCourseName(String courseName);
@@ -30,6 +40,10 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     
     List<Course> findByType(Course.CourseType type);
     
+    // Instructor id for access checks without loading the course; 0 when no instructor is assigned
+    @Query("SELECT COALESCE(i.id, 0) FROM Course c LEFT JOIN c.instructor i WHERE c.id = :courseId")
+    Optional<Long> findInstructorIdById(@Param("courseId") Long courseId);
+    
     @Query("SELECT c FROM Course c WHERE c.enrollmentLimit > (SELECT COUNT(e) FROM Enrollment e WHERE e.course = c)")
     List<Course> findAvailableForEnrollment();
     
@@ -67,4 +81,23 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     long countByDepartmentId(Long departmentId);
     
     long countByType(Course.CourseType type);
+    
+    // Department migration: id snapshot, then guarded chunked updates
+    @Query("SELECT c.id FROM Course c WHERE c.department.id = :departmentId ORDER BY c.id")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    // Cache invalidation after faculty profiles are removed in bulk
+    @Query("SELECT c.id FROM Course c WHERE c.instructor.id IN :facultyIds")
+    List<Long> findIdsByInstructorIdIn(@Param("facultyIds") List<Long> facultyIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.department = :toDepartment, c.updatedAt = :now " +
+           "WHERE c.id IN :ids AND c.department.id = :fromDepartmentId")
+    int moveToDepartment(@Param("ids") List<Long> ids, @Param("fromDepartmentId") Long fromDepartmentId,
+                         @Param("toDepartment") Department toDepartment, @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.status = :toStatus, c.updatedAt = :now WHERE c.status = :fromStatus")
+    int updateStatus(@Param("fromStatus") Course.CourseStatus fromStatus, @Param("toStatus") Course.CourseStatus toStatus,
+                     @Param("now") LocalDateTime now);
 }
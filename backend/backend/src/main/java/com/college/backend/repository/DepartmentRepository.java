@@ -1,23 +1,31 @@
 package com.college.backend.repository;
 
 import com.college.backend.model.Department;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     
+    // Natural-key lookups go through the query cache; any write to departments invalidates them
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference.natural-keys")})
     Optional<Department> findByDepartmentCode(String departmentCode);
     
     Optional<Department> findByDepartmentName(String departmentName);
     
     // Alternative methods for field name compatibility
     @Query("SELECT d FROM Department d WHERE d.departmentCode = :code")
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference.natural-keys")})
     Optional<Department> findByCode(@Param("code") String code);
     
     @Query("SELECT d FROM Department d WHERE d.departmentName = :name")
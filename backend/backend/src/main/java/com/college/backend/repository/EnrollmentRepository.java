@@ -18,6 +18,8 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     List<Enrollment> findByCourseId(Long courseId);
     
     List<Enrollment> findByStatus(Enrollment.EnrollmentStatus status);
+
+    long countByStatus(Enrollment.EnrollmentStatus status);
     
     List<Enrollment> findByAcademicYear(String academicYear);
     
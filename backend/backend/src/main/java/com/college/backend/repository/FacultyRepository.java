@@ -1,21 +1,33 @@
 package com.college.backend.repository;
 
+import com.college.backend.model.Department;
 import com.college.backend.model.Faculty;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
     
+    // Natural-key lookups go through the query cache; any write to faculty invalidates them
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference.natural-keys")})
     Optional<Faculty> findByFacultyId(String facultyId);
     
     Optional<Faculty> findByEmployeeId(String employeeId);
     
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference.natural-keys")})
     Optional<Faculty> findByUserId(Long userId);
     
     List<Faculty> findByStatus(Faculty.FacultyStatus status);
@@ -62,4 +74,24 @@ public interface FacultyRepository extends JpaRepository<Faculty, Long> {
     
     @Query("SELECT DISTINCT f FROM Faculty f LEFT JOIN FETCH f.user LEFT JOIN FETCH f.department")
     List<Faculty> findAllWithUserAndDepartment();
-}
\ No newline at end of file
+    
+    @Query("SELECT DISTINCT f FROM Faculty f JOIN FETCH f.user u LEFT JOIN FETCH f.department WHERE u.id IN :userIds")
+    List<Faculty> findAllWithUserAndDepartmentByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    @Modifying
+    @Query("DELETE FROM Faculty f WHERE f.user.id IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") List<Long> userIds);
+    
+    @Query("SELECT f.id FROM Faculty f WHERE f.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") List<Long> userIds);
+    
+    // Department migration: id snapshot, then guarded chunked updates
+    @Query("SELECT f.id FROM Faculty f WHERE f.department.id = :departmentId ORDER BY f.id")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Faculty f SET f.department = :toDepartment, f.updatedAt = :now " +
+           "WHERE f.id IN :ids AND f.department.id = :fromDepartmentId")
+    int moveToDepartment(@Param("ids") List<Long> ids, @Param("fromDepartmentId") Long fromDepartmentId,
+                         @Param("toDepartment") Department toDepartment, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.MaintenanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MaintenanceCheckpointRepository extends JpaRepository<MaintenanceCheckpoint, String> {
+}
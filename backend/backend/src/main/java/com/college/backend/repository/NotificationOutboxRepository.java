@@ -0,0 +1,37 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // Due rows plus SENDING rows whose claim expired; SKIP LOCKED (lock timeout -2) lets dispatchers on
+    // several nodes claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM NotificationOutbox n WHERE (n.status = :pending AND n.nextAttemptAt <= :now) " +
+           "OR (n.status = :sending AND n.lockedUntil < :now) ORDER BY n.id")
+    List<NotificationOutbox> findDueForUpdate(@Param("pending") NotificationOutbox.Status pending,
+                                              @Param("sending") NotificationOutbox.Status sending,
+                                              @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Dedup: an equal notification that is still queued, or was created within the window
+    @Query("SELECT COUNT(n) > 0 FROM NotificationOutbox n WHERE n.dedupKey = :dedupKey " +
+           "AND (n.status IN :openStatuses OR n.createdAt > :since)")
+    boolean existsRecentDuplicate(@Param("dedupKey") String dedupKey,
+                                  @Param("openStatuses") Collection<NotificationOutbox.Status> openStatuses,
+                                  @Param("since") LocalDateTime since);
+
+    @Query("SELECT n.status, COUNT(n) FROM NotificationOutbox n GROUP BY n.status")
+    List<Object[]> countByStatus();
+}
@@ -0,0 +1,28 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.ScheduledJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+
+    // Takes the lease only when it is free or expired; returns 0 when another node holds it
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScheduledJobLease l SET l.lockedBy = :nodeId, l.lockedUntil = :until " +
+           "WHERE l.jobName = :jobName AND (l.lockedUntil IS NULL OR l.lockedUntil < :now)")
+    int acquire(@Param("jobName") String jobName, @Param("nodeId") String nodeId,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScheduledJobLease l SET l.lockedUntil = NULL WHERE l.jobName = :jobName AND l.lockedBy = :nodeId")
+    int release(@Param("jobName") String jobName, @Param("nodeId") String nodeId);
+}
@@ -0,0 +1,38 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    List<ScheduledJobRun> findTop50ByOrderByIdDesc();
+
+    Optional<ScheduledJobRun> findTopByJobNameAndStatusOrderByStartedAtDesc(String jobName, ScheduledJobRun.RunStatus status);
+
+    @Query("SELECT r.jobName, COUNT(r), SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END), AVG(r.durationMs), " +
+           "MAX(r.startedAt) FROM ScheduledJobRun r WHERE r.startedAt >= :since GROUP BY r.jobName ORDER BY r.jobName")
+    List<Object[]> summarizeSince(@Param("since") LocalDateTime since);
+
+    // Only called while holding the job's lock, so a RUNNING row left behind belongs to a node that died mid-run
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScheduledJobRun r SET r.status = :abandoned, r.finishedAt = :now " +
+           "WHERE r.jobName = :jobName AND r.status = :running")
+    int markAbandoned(@Param("jobName") String jobName, @Param("running") ScheduledJobRun.RunStatus running,
+                      @Param("abandoned") ScheduledJobRun.RunStatus abandoned, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.startedAt < :cutoff")
+    int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
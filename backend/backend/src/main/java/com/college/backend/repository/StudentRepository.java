@@ -1,11 +1,16 @@
 package com.college.backend.repository;
 
+import com.college.backend.model.Department;
 import com.college.backend.model.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +70,40 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     
     @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user LEFT JOIN FETCH s.department")
     List<Student> findAllWithUserAndDepartment();
-}
\ No newline at end of file
+    
+    @Query("SELECT DISTINCT s FROM Student s JOIN FETCH s.user u LEFT JOIN FETCH s.department WHERE u.id IN :userIds")
+    List<Student> findAllWithUserAndDepartmentByUserIdIn(@Param("userIds") Collection<Long> userIds);
+    
+    @Modifying
+    @Query("DELETE FROM Student s WHERE s.user.id IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") List<Long> userIds);
+    
+    // Department migration: id snapshot, then guarded chunked updates
+    @Query("SELECT s.id FROM Student s WHERE s.department.id = :departmentId ORDER BY s.id")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.department = :toDepartment, s.updatedAt = :now " +
+           "WHERE s.id IN :ids AND s.department.id = :fromDepartmentId")
+    int moveToDepartment(@Param("ids") List<Long> ids, @Param("fromDepartmentId") Long fromDepartmentId,
+                         @Param("toDepartment") Department toDepartment, @Param("now") LocalDateTime now);
+    
+    // Announcement fan-out: student user ids per audience, in user id order after a keyset cursor
+    @Query("SELECT DISTINCT s.user.id FROM Enrollment e JOIN e.student s WHERE e.course.id = :courseId " +
+           "AND e.status = com.college.backend.model.Enrollment.EnrollmentStatus.ENROLLED AND s.user.id > :afterUserId " +
+           "ORDER BY s.user.id")
+    List<Long> findUserIdsEnrolledInCourse(@Param("courseId") Long courseId, @Param("afterUserId") Long afterUserId,
+                                           Pageable pageable);
+    
+    @Query("SELECT s.user.id FROM Student s WHERE s.department.id = :departmentId AND s.status = :status " +
+           "AND s.user.id > :afterUserId ORDER BY s.user.id")
+    List<Long> findUserIdsByDepartment(@Param("departmentId") Long departmentId, @Param("status") Student.StudentStatus status,
+                                       @Param("afterUserId") Long afterUserId, Pageable pageable);
+    
+    @Query("SELECT s.user.id FROM Student s WHERE s.currentYear = :year " +
+           "AND (:departmentId IS NULL OR s.department.id = :departmentId) AND s.status = :status " +
+           "AND s.user.id > :afterUserId ORDER BY s.user.id")
+    List<Long> findUserIdsByYear(@Param("year") Integer year, @Param("departmentId") Long departmentId,
+                                 @Param("status") Student.StudentStatus status, @Param("afterUserId") Long afterUserId,
+                                 Pageable pageable);
+}
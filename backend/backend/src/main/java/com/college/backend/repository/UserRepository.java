@@ -1,17 +1,21 @@
 package com.college.backend.repository;
 
 import com.college.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
     Optional<User> findByEmail(String email);
     
@@ -47,4 +51,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // Additional missing method
     List<User> findByIsActiveAndLastLoginBefore(boolean isActive, LocalDateTime date);
+    
+    long countByIsActiveAndLastLoginBefore(boolean isActive, LocalDateTime date);
+    
+    // Cleanup candidates: inactive users with no academic history, teaching load or admin profile
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false AND u.lastLogin < :cutoff AND u.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM Enrollment e WHERE e.student.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM Grade g WHERE g.student.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM AttendanceRecord ar WHERE ar.student.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM Course c WHERE c.instructor.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM AttendanceRecord fa WHERE fa.faculty.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM Department d WHERE d.headOfDepartment.user.id = u.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM Admin a WHERE a.user.id = u.id) " +
+           "ORDER BY u.id")
+    List<Long> findCleanupCandidateIds(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+    
+    // Set-based duplicate check for bulk onboarding; emails must be lower-cased, stored ones may not be.
+    // Served by the lower(email) index from SearchIndexInitializer
+    @Query("SELECT u.email FROM User u WHERE lower(u.email) IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Bulk admin operations: one lookup per chunk, then set-based updates
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id IN :ids")
+    List<Object[]> findIdAndEmailByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = :active WHERE u.id IN :ids")
+    int updateActiveByIdIn(@Param("ids") Collection<Long> ids, @Param("active") boolean active);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.isVerified = :verified WHERE u.id IN :ids")
+    int updateVerifiedByIdIn(@Param("ids") Collection<Long> ids, @Param("verified") boolean verified);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = true, u.isVerified = true WHERE u.id IN :ids")
+    int unlockByIdIn(@Param("ids") Collection<Long> ids);
 }
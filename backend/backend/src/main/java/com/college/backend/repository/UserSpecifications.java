@@ -0,0 +1,69 @@
+package com.college.backend.repository;
+
+import com.college.backend.model.User;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    // All admin search filters as one WHERE clause; null arguments are skipped
+    public static Specification<User> search(String searchTerm, User.UserRole role, Boolean isActive, Boolean isVerified,
+                                             LocalDateTime registrationStart, LocalDateTime registrationEnd) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (searchTerm != null && !searchTerm.trim().isEmpty()) {
+                // lower(name)/lower(email) LIKE '%term%' is served by the pg_trgm GIN indexes on PostgreSQL
+                String pattern = "%" + escapeLike(searchTerm.trim().toLowerCase()) + "%";
+                predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("email")), pattern, '\\')
+                ));
+            }
+            if (role != null) {
+                predicates.add(cb.equal(root.get("role"), role));
+            }
+            if (isActive != null) {
+                predicates.add(cb.equal(root.get("isActive"), isActive));
+            }
+            if (isVerified != null) {
+                predicates.add(cb.equal(root.get("isVerified"), isVerified));
+            }
+            if (registrationStart != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("registrationDate"), registrationStart));
+            }
+            if (registrationEnd != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("registrationDate"), registrationEnd));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Seek predicate for ORDER BY registration_date DESC, id DESC: rows strictly after the cursor
+    public static Specification<User> registeredBefore(LocalDateTime cursorDate, Long cursorId) {
+        return (root, query, cb) -> {
+            if (cursorDate == null || cursorId == null) {
+                return cb.isNotNull(root.get("registrationDate"));
+            }
+            return cb.or(
+                cb.lessThan(root.get("registrationDate"), cursorDate),
+                cb.and(
+                    cb.equal(root.get("registrationDate"), cursorDate),
+                    cb.lessThan(root.get("id"), cursorId)
+                )
+            );
+        };
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,135 @@
+package com.college.backend.security;
+
+import com.college.backend.config.CacheCoherenceBus;
+import com.college.backend.config.ReplicaRouting;
+import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.model.Course;
+import com.college.backend.model.Faculty;
+import com.college.backend.repository.CourseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Course ownership checks for faculty endpoints, answered from a courseId -> instructorId map.
+// Committed course inserts, updates and deletes keep the map current, whichever service made them
+@Component
+public class CourseAccessAuthorizer implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    public static final String CACHE_NAME = "course-access";
+
+    private static final Long NO_INSTRUCTOR = 0L;
+
+    private final Map<Long, Long> instructorByCourse = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    @Autowired
+    private ReplicaRouting replicaRouting;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        // Course changes committed on other nodes; the next check reloads the course
+        coherenceBus.register(CACHE_NAME, courseIds -> {
+            if (courseIds == null) {
+                instructorByCourse.clear();
+            } else {
+                courseIds.forEach(id -> instructorByCourse.remove(Long.valueOf(id)));
+            }
+        });
+    }
+
+    // Throws unless the faculty member teaches the course; does not load the course
+    public void checkAccess(Long courseId, Faculty faculty) {
+        Long instructorId = instructorId(courseId);
+        if (NO_INSTRUCTOR.equals(instructorId) || !instructorId.equals(faculty.getId())) {
+            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
+        }
+    }
+
+    // For endpoints that use the course itself
+    public Course loadWithAccess(Long courseId, Faculty faculty) {
+        checkAccess(courseId, faculty);
+        return courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Course course) {
+            // Other nodes never cache a missing course, so a new one needs no invalidation
+            instructorByCourse.put(course.getId(), instructorIdOf(course));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Course course) {
+            instructorByCourse.put(course.getId(), instructorIdOf(course));
+            coherenceBus.publish(CACHE_NAME, List.of(course.getId()));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Course course) {
+            instructorByCourse.remove(course.getId());
+            coherenceBus.publish(CACHE_NAME, List.of(course.getId()));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Course.class;
+    }
+
+    // Loading inside computeIfAbsent means a commit that lands meanwhile waits and then overwrites the loaded value.
+    // The entry lives until the course changes, so it is read from the primary, never from a lagging replica
+    private Long instructorId(Long courseId) {
+        Long instructorId = instructorByCourse.computeIfAbsent(courseId,
+                id -> replicaRouting.readFromPrimary(() -> courseRepository.findInstructorIdById(id).orElse(null)));
+        if (instructorId == null) {
+            throw new ResourceNotFoundException("Course not found");
+        }
+        return instructorId;
+    }
+
+    // Reading the id of a lazy association does not load it
+    private Long instructorIdOf(Course course) {
+        return course.getInstructor() != null ? course.getInstructor().getId() : NO_INSTRUCTOR;
+    }
+}
@@ -0,0 +1,89 @@
+package com.college.backend.security;
+
+import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.model.Admin;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.college.backend.model.User;
+import com.college.backend.repository.AdminRepository;
+import com.college.backend.repository.FacultyRepository;
+import com.college.backend.repository.StudentRepository;
+import com.college.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// Resolves the signed-in user's student/faculty/admin profile. The JWT filter already put the user on the
+// principal, so there is no users lookup; the profile id is remembered on the principal after the first
+// call and later calls load the profile by primary key
+@Component
+public class CurrentActorResolver {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    public UserPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        // Authentications not created by the JWT filter (background jobs, tests) only carry the email
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return UserPrincipal.create(user);
+    }
+
+    public Faculty currentFaculty() {
+        UserPrincipal principal = currentPrincipal();
+        Optional<Faculty> known = principal.getFacultyId() != null
+                ? facultyRepository.findById(principal.getFacultyId()) : Optional.empty();
+        if (known.isPresent()) {
+            return known.get();
+        }
+        Faculty faculty = facultyRepository.findByUserId(principal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        principal.setFacultyId(faculty.getId());
+        return faculty;
+    }
+
+    public Student currentStudent() {
+        UserPrincipal principal = currentPrincipal();
+        Optional<Student> known = principal.getStudentId() != null
+                ? studentRepository.findById(principal.getStudentId()) : Optional.empty();
+        if (known.isPresent()) {
+            return known.get();
+        }
+        Student student = studentRepository.findByUserId(principal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Student profile not found"));
+        principal.setStudentId(student.getId());
+        return student;
+    }
+
+    public Admin currentAdmin() {
+        UserPrincipal principal = currentPrincipal();
+        Optional<Admin> known = principal.getAdminId() != null
+                ? adminRepository.findById(principal.getAdminId()) : Optional.empty();
+        if (known.isPresent()) {
+            return known.get();
+        }
+        Admin admin = adminRepository.findByUserId(principal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Admin profile not found"));
+        principal.setAdminId(admin.getId());
+        return admin;
+    }
+}
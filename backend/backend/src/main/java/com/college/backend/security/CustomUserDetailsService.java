@@ -15,6 +15,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache principalCache;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -26,13 +29,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
-    @Transactional
+    // Called by the JWT filter on every request, so principals are served from the cache
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> 
-                    new UsernameNotFoundException("User not found with id: " + id)
-                );
+        return principalCache.get(id, userId -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> 
+                        new UsernameNotFoundException("User not found with id: " + userId)
+                    );
 
-        return UserPrincipal.create(user);
+            return UserPrincipal.create(user);
+        });
     }
 }
\ No newline at end of file
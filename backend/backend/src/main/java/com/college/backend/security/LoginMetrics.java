@@ -0,0 +1,87 @@
+package com.college.backend.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Login counters plus a one-minute sliding window (one bucket per second) for the current login rate
+@Component
+public class LoginMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private final AtomicLongArray bucketSecond = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray bucketCount = new AtomicLongArray(WINDOW_SECONDS);
+
+    @Autowired
+    @Qualifier("passwordVerificationExecutor")
+    private ThreadPoolTaskExecutor verificationExecutor;
+
+    public void recordSuccess() {
+        attempts.increment();
+        successes.increment();
+        recordInWindow();
+    }
+
+    public void recordFailure() {
+        attempts.increment();
+        failures.increment();
+        recordInWindow();
+    }
+
+    public void recordRejected() {
+        attempts.increment();
+        rejected.increment();
+        recordInWindow();
+    }
+
+    public Map<String, Object> snapshot() {
+        long nowSecond = System.currentTimeMillis() / 1000;
+        long lastMinute = 0;
+        long lastTenSeconds = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            long age = nowSecond - bucketSecond.get(i);
+            if (age >= 0 && age < WINDOW_SECONDS) {
+                long count = bucketCount.get(i);
+                lastMinute += count;
+                if (age < 10) {
+                    lastTenSeconds += count;
+                }
+            }
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("totalAttempts", attempts.sum());
+        metrics.put("successfulLogins", successes.sum());
+        metrics.put("failedLogins", failures.sum());
+        metrics.put("rejectedLogins", rejected.sum());
+        metrics.put("loginsLastMinute", lastMinute);
+        metrics.put("loginsPerSecond", lastTenSeconds / 10.0);
+        metrics.put("verificationPoolSize", verificationExecutor.getPoolSize());
+        metrics.put("verificationActive", verificationExecutor.getActiveCount());
+        metrics.put("verificationQueued", verificationExecutor.getThreadPoolExecutor().getQueue().size());
+        return metrics;
+    }
+
+    private void recordInWindow() {
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        long previous = bucketSecond.get(slot);
+        if (previous != second && bucketSecond.compareAndSet(slot, previous, second)) {
+            // First event in a new second reuses the slot; a few concurrent increments may land before the reset
+            bucketCount.set(slot, 0);
+        }
+        bucketCount.incrementAndGet(slot);
+    }
+}
@@ -21,6 +21,11 @@ public class UserPrincipal implements UserDetails {
     
     private Collection<? extends GrantedAuthority> authorities;
 
+    // Profile row ids, filled in by CurrentActorResolver on first use and kept while the principal is cached
+    private volatile Long studentId;
+    private volatile Long facultyId;
+    private volatile Long adminId;
+
     public UserPrincipal(Long id, String name, String email, String password, Collection<? extends GrantedAuthority> authorities) {
         this.id = id;
         this.name = name;
@@ -55,6 +60,30 @@ public class UserPrincipal implements UserDetails {
         return email;
     }
 
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public Long getAdminId() {
+        return adminId;
+    }
+
+    public void setAdminId(Long adminId) {
+        this.adminId = adminId;
+    }
+
     @Override
     public String getUsername() {
         return email;
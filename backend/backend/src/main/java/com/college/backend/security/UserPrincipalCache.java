@@ -0,0 +1,92 @@
+package com.college.backend.security;
+
+import com.college.backend.config.CacheCoherenceBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+public class UserPrincipalCache {
+
+    public static final String CACHE_NAME = "principal";
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    @Value("${app.security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.security.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<Long, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    // Evictions made on other nodes
+    @PostConstruct
+    public void registerForInvalidation() {
+        coherenceBus.register(CACHE_NAME, userIds -> {
+            if (userIds == null) {
+                cache.clear();
+            } else {
+                userIds.forEach(id -> cache.remove(Long.valueOf(id)));
+            }
+        });
+    }
+
+    // Avoids a users lookup on every authenticated request; entries expire after the TTL
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.principal;
+        }
+
+        UserPrincipal principal = loader.apply(userId);
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(userId, new CachedPrincipal(principal, now + ttlSeconds * 1000));
+        return principal;
+    }
+
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    // Evicts once the surrounding transaction commits, so a concurrent request cannot re-cache the old row,
+    // and tells the other nodes to do the same
+    public void evictAll(Collection<Long> userIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> ids = List.copyOf(userIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(cache::remove);
+                }
+            });
+        } else {
+            userIds.forEach(cache::remove);
+        }
+        coherenceBus.publish(CACHE_NAME, userIds);
+    }
+
+    public void clear() {
+        cache.clear();
+        coherenceBus.publishClear(CACHE_NAME);
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.college.backend.service;
+
+import com.college.backend.model.ActivityEvent;
+import com.college.backend.model.AttendanceRecord;
+import com.college.backend.model.Course;
+import com.college.backend.model.Enrollment;
+import com.college.backend.model.Grade;
+import com.college.backend.model.User;
+import com.college.backend.security.UserPrincipal;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// Turns committed registrations, enrollments, grades and attendance marks into activity events,
+// so the many services that save these entities need no changes
+@Component
+public class ActivityEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener {
+
+    private static final Set<String> GRADE_MARK_PROPERTIES = Set.of("obtainedMarks", "marksObtained", "grade", "letterGrade");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ActivityEventService activityEventService;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof User user) {
+            activityEventService.record(ActivityEvent.EventType.REGISTRATION, user.getId(), user.getId(), null,
+                    "New user registered: " + user.getEmail());
+        } else if (entity instanceof Enrollment enrollment) {
+            activityEventService.record(ActivityEvent.EventType.ENROLLMENT, currentUserId(), enrollment.getId(),
+                    courseId(enrollment.getCourse()), "Student enrolled in course");
+        } else if (entity instanceof Grade grade) {
+            activityEventService.record(ActivityEvent.EventType.GRADE_ENTERED, currentUserId(), grade.getId(),
+                    courseId(grade.getCourse()), "Grade entered: " + grade.getAssessmentName());
+        } else if (entity instanceof AttendanceRecord attendance) {
+            activityEventService.record(ActivityEvent.EventType.ATTENDANCE_MARKED, currentUserId(), attendance.getId(),
+                    courseId(attendance.getCourse()), "Attendance marked for " + attendance.getAttendanceDate());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // Only grade changes that touch the marks count as entering a grade
+        if (event.getEntity() instanceof Grade grade && marksChanged(event)) {
+            activityEventService.record(ActivityEvent.EventType.GRADE_ENTERED, currentUserId(), grade.getId(),
+                    courseId(grade.getCourse()), "Grade updated: " + grade.getAssessmentName());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == User.class || type == Enrollment.class || type == Grade.class || type == AttendanceRecord.class;
+    }
+
+    private boolean marksChanged(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return true;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (GRADE_MARK_PROPERTIES.contains(names[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Reading the id of a lazy association does not load it
+    private Long courseId(Course course) {
+        return course != null ? course.getId() : null;
+    }
+
+    private Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof UserPrincipal principal ? principal.getId() : null;
+    }
+}
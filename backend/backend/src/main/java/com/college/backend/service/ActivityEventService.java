@@ -0,0 +1,281 @@
+package com.college.backend.service;
+
+import com.college.backend.model.ActivityEvent;
+import com.college.backend.model.ActivityRollup;
+import com.college.backend.repository.ActivityEventRepository;
+import com.college.backend.repository.ActivityRollupRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Activity log: events are queued in memory and written in batches, and every flush also adds
+// its counts to the hourly and daily rollups, so reports read buckets instead of entity tables
+@Service
+public class ActivityEventService {
+
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO activity_events (event_type, user_id, entity_id, course_id, description, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_ROLLUP_SQL =
+            "UPDATE activity_rollups SET event_count = event_count + ? " +
+            "WHERE granularity = ? AND bucket_start = ? AND event_type = ?";
+
+    private static final String INSERT_ROLLUP_SQL =
+            "INSERT INTO activity_rollups (granularity, bucket_start, event_type, event_count) VALUES (?, ?, ?, ?)";
+
+    private record RollupKey(ActivityRollup.Granularity granularity, LocalDateTime bucketStart,
+                             ActivityEvent.EventType eventType) {
+    }
+
+    private final Queue<ActivityEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    private ActivityEventRepository eventRepository;
+
+    @Autowired
+    private ActivityRollupRepository rollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.activity.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${app.activity.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    // Never blocks the caller; when the writer falls far behind new events are dropped and counted
+    public void record(ActivityEvent.EventType type, Long userId, Long entityId, Long courseId, String description) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        ActivityEvent event = new ActivityEvent();
+        event.setEventType(type);
+        event.setUserId(userId);
+        event.setEntityId(entityId);
+        event.setCourseId(courseId);
+        event.setDescription(description != null && description.length() > MAX_DESCRIPTION_LENGTH
+                ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description);
+        event.setOccurredAt(LocalDateTime.now());
+        queue.add(event);
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        System.out.println("Activity events flushed on shutdown: " + flushed);
+    }
+
+    // Writes queued events and their rollup increments, one transaction per batch; returns events written.
+    // A lock rather than synchronized, which would pin a virtual thread for the whole JDBC write
+    public int flush() {
+        flushLock.lock();
+        try {
+            return writeQueued();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int writeQueued() {
+        TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+        int written = 0;
+        while (true) {
+            List<ActivityEvent> batch = new ArrayList<>();
+            ActivityEvent event;
+            while (batch.size() < flushBatchSize && (event = queue.poll()) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                return written;
+            }
+            queued.addAndGet(-batch.size());
+
+            try {
+                batchTx.executeWithoutResult(status -> {
+                    insertEvents(batch);
+                    applyRollups(batch);
+                });
+                written += batch.size();
+            } catch (Exception e) {
+                // Keep the events for the next attempt (e.g. another node created the same bucket first)
+                System.err.println("Activity event flush failed, will retry: " + e.getMessage());
+                queue.addAll(batch);
+                queued.addAndGet(batch.size());
+                return written;
+            }
+        }
+    }
+
+    // Feeds: newest events straight from the (occurred_at, id) index
+    public List<Map<String, Object>> getRecentActivities(int limit) {
+        List<Map<String, Object>> activities = new ArrayList<>();
+        for (ActivityEvent event : eventRepository.findAllByOrderByOccurredAtDescIdDesc(
+                PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT))))) {
+            activities.add(toActivityMap(event));
+        }
+        return activities;
+    }
+
+    public List<Map<String, Object>> getRecentActivitiesForUser(Long userId, int limit) {
+        List<Map<String, Object>> activities = new ArrayList<>();
+        for (ActivityEvent event : eventRepository.findByUserIdOrderByOccurredAtDesc(
+                userId, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT))))) {
+            activities.add(toActivityMap(event));
+        }
+        return activities;
+    }
+
+    // Reports: counts per bucket, optionally for one event type
+    public Map<String, Object> getActivitySummary(ActivityRollup.Granularity granularity, ActivityEvent.EventType eventType,
+                                                  LocalDateTime start, LocalDateTime end) {
+        LocalDateTime from = bucketStart(granularity, start);
+        List<ActivityRollup> rollups = eventType != null
+                ? rollupRepository.findByGranularityAndEventTypeAndBucketStartBetweenOrderByBucketStartAsc(granularity, eventType, from, end)
+                : rollupRepository.findByGranularityAndBucketStartBetweenOrderByBucketStartAsc(granularity, from, end);
+
+        Map<LocalDateTime, Map<String, Long>> buckets = new TreeMap<>();
+        Map<String, Long> totals = new TreeMap<>();
+        for (ActivityRollup rollup : rollups) {
+            buckets.computeIfAbsent(rollup.getBucketStart(), b -> new TreeMap<>())
+                    .put(rollup.getEventType().name(), rollup.getEventCount());
+            totals.merge(rollup.getEventType().name(), rollup.getEventCount(), Long::sum);
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, Map<String, Long>> bucket : buckets.entrySet()) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("bucketStart", bucket.getKey());
+            point.put("counts", bucket.getValue());
+            series.add(point);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("granularity", granularity);
+        summary.put("start", from);
+        summary.put("end", end);
+        summary.put("totals", totals);
+        summary.put("buckets", series);
+        return summary;
+    }
+
+    public Map<String, Object> getQueueStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("queued", queued.get());
+        status.put("dropped", dropped.sum());
+        return status;
+    }
+
+    private void insertEvents(List<ActivityEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getEventType().name());
+            ps.setObject(2, event.getUserId());
+            ps.setObject(3, event.getEntityId());
+            ps.setObject(4, event.getCourseId());
+            ps.setString(5, event.getDescription());
+            ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+
+    private void applyRollups(List<ActivityEvent> events) {
+        Map<RollupKey, Long> increments = new TreeMap<>(Comparator
+                .comparing(RollupKey::granularity)
+                .thenComparing(RollupKey::bucketStart)
+                .thenComparing(RollupKey::eventType));
+        for (ActivityEvent event : events) {
+            for (ActivityRollup.Granularity granularity : ActivityRollup.Granularity.values()) {
+                RollupKey key = new RollupKey(granularity, bucketStart(granularity, event.getOccurredAt()), event.getEventType());
+                increments.merge(key, 1L, Long::sum);
+            }
+        }
+
+        List<Map.Entry<RollupKey, Long>> entries = new ArrayList<>(increments.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_ROLLUP_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setString(2, entry.getKey().granularity().name());
+            ps.setTimestamp(3, Timestamp.valueOf(entry.getKey().bucketStart()));
+            ps.setString(4, entry.getKey().eventType().name());
+        });
+
+        // Buckets seen for the first time get a row
+        List<Map.Entry<RollupKey, Long>> missing = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, missing, missing.size(), (ps, entry) -> {
+                ps.setString(1, entry.getKey().granularity().name());
+                ps.setTimestamp(2, Timestamp.valueOf(entry.getKey().bucketStart()));
+                ps.setString(3, entry.getKey().eventType().name());
+                ps.setLong(4, entry.getValue());
+            });
+        }
+    }
+
+    private static LocalDateTime bucketStart(ActivityRollup.Granularity granularity, LocalDateTime time) {
+        return granularity == ActivityRollup.Granularity.HOUR
+                ? time.truncatedTo(ChronoUnit.HOURS) : time.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private Map<String, Object> toActivityMap(ActivityEvent event) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("type", label(event.getEventType()));
+        activity.put("eventType", event.getEventType());
+        activity.put("description", event.getDescription());
+        activity.put("timestamp", event.getOccurredAt());
+        activity.put("userId", event.getUserId());
+        activity.put("courseId", event.getCourseId());
+        return activity;
+    }
+
+    private String label(ActivityEvent.EventType type) {
+        switch (type) {
+            case LOGIN:
+                return "User Login";
+            case REGISTRATION:
+                return "User Registration";
+            case ENROLLMENT:
+                return "Course Enrollment";
+            case GRADE_ENTERED:
+                return "Grade Entered";
+            case ATTENDANCE_MARKED:
+                return "Attendance Marked";
+            default:
+                return type.name();
+        }
+    }
+}
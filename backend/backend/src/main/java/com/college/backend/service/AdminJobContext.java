@@ -0,0 +1,59 @@
+package com.college.backend.service;
+
+import com.college.backend.model.AdminJob;
+import com.college.backend.repository.AdminJobRepository;
+
+import java.time.LocalDateTime;
+
+public class AdminJobContext {
+
+    private final Long jobId;
+    private final AdminJobRepository jobRepository;
+    private final String checkpoint;
+    private final long previouslyProcessed;
+    private final long previouslyFailed;
+    private boolean cancelled;
+
+    public AdminJobContext(AdminJob job, AdminJobRepository jobRepository) {
+        this.jobId = job.getId();
+        this.checkpoint = job.getCheckpoint();
+        this.previouslyProcessed = job.getProcessedItems() != null ? job.getProcessedItems() : 0L;
+        this.previouslyFailed = job.getFailedItems() != null ? job.getFailedItems() : 0L;
+        this.jobRepository = jobRepository;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Position saved by a previous run of this job, or null on a fresh start
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    // Counters reached before the checkpoint, so a resumed job keeps its totals
+    public long getPreviouslyProcessed() {
+        return previouslyProcessed;
+    }
+
+    public long getPreviouslyFailed() {
+        return previouslyFailed;
+    }
+
+    public boolean isCancelRequested() {
+        return Boolean.TRUE.equals(jobRepository.isCancelRequested(jobId));
+    }
+
+    // Handlers call this when they stop early because of a cancel request
+    public void acknowledgeCancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void reportProgress(Long total, long processed, long failed, String checkpoint) {
+        jobRepository.updateProgress(jobId, total, processed, failed, checkpoint, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,11 @@
+package com.college.backend.service;
+
+import java.util.Map;
+
+public interface AdminJobHandler {
+
+    boolean supports(String operation);
+
+    // Runs on the job executor with the requesting admin's authority; returns the job result
+    Map<String, Object> execute(String operation, Map<String, Object> parameters, AdminJobContext context);
+}
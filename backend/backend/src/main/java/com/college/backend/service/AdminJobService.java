@@ -0,0 +1,250 @@
+package com.college.backend.service;
+
+import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.exception.ServiceOverloadedException;
+import com.college.backend.model.AdminJob;
+import com.college.backend.repository.AdminJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AdminJobService {
+
+    private static final int RETRY_AFTER_SECONDS = 30;
+
+    public static final String RESUME_JOB_NAME = "admin_job_resume";
+
+    @Autowired
+    private AdminJobRepository jobRepository;
+
+    @Autowired
+    private List<AdminJobHandler> handlers;
+
+    @Autowired
+    @Qualifier("adminJobExecutor")
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Value("${app.jobs.resume-interval-ms:60000}")
+    private long resumeIntervalMs;
+
+    @Value("${app.jobs.heartbeat-timeout-ms:120000}")
+    private long heartbeatTimeoutMs;
+
+    // Jobs this node has claimed and is running
+    private final Set<Long> runningHere = ConcurrentHashMap.newKeySet();
+
+    // Job Submission
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> submitJob(String operation, Map<String, Object> parameters) {
+        if (operation == null || operation.isBlank()) {
+            throw new IllegalArgumentException("Operation is required");
+        }
+        String normalizedOperation = operation.toLowerCase();
+        findHandler(normalizedOperation);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        AdminJob job = new AdminJob();
+        job.setOperation(normalizedOperation);
+        job.setParameters(toJson(parameters != null ? parameters : Map.of()));
+        job.setRequestedBy(auth != null ? auth.getName() : "system");
+        job = jobRepository.save(job);
+
+        dispatch(job.getId());
+        return toStatusMap(job);
+    }
+
+    // Job Monitoring
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getJobStatus(Long jobId) {
+        AdminJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+        return toStatusMap(job);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Map<String, Object>> getRecentJobs() {
+        List<Map<String, Object>> jobs = new ArrayList<>();
+        for (AdminJob job : jobRepository.findTop50ByOrderByCreatedAtDesc()) {
+            jobs.add(toStatusMap(job));
+        }
+        return jobs;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> cancelJob(Long jobId) {
+        AdminJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+
+        if (job.isFinished()) {
+            throw new IllegalArgumentException("Job " + jobId + " has already finished with status " + job.getStatus());
+        }
+
+        // Workers check the flag between chunks and stop at the next boundary
+        jobRepository.requestCancel(jobId, LocalDateTime.now());
+        return getJobStatus(jobId);
+    }
+
+    // Jobs left behind by a node that stopped (restart, crash) are picked up again from their last checkpoint.
+    // One node sweeps; whichever node then claims a job in runJob is the only one that runs it
+    @Scheduled(fixedDelayString = "${app.jobs.resume-interval-ms:60000}",
+               initialDelayString = "${app.jobs.resume-interval-ms:60000}")
+    public void resumeUnfinishedJobs() {
+        clusterJobRunner.run(RESUME_JOB_NAME, Duration.ofMillis(resumeIntervalMs / 2), () -> {
+            List<AdminJob> resumable = jobRepository.findResumable(AdminJob.JobStatus.QUEUED, AdminJob.JobStatus.RUNNING,
+                    LocalDateTime.now().minus(Duration.ofMillis(heartbeatTimeoutMs)));
+            int dispatched = 0;
+            for (AdminJob job : resumable) {
+                try {
+                    jobExecutor.execute(() -> runJob(job.getId()));
+                    dispatched++;
+                    System.out.println("Resuming admin job " + job.getId() + " (" + job.getOperation() + ")");
+                } catch (TaskRejectedException e) {
+                    // The job keeps its status and the next sweep tries again
+                    System.err.println("Could not resume admin job " + job.getId() + ": executor is full");
+                    break;
+                }
+            }
+            return dispatched;
+        });
+    }
+
+    // Keeps this node's claim on the jobs it is running
+    @Scheduled(fixedDelayString = "${app.jobs.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        if (!runningHere.isEmpty()) {
+            jobRepository.heartbeat(Set.copyOf(runningHere), clusterJobRunner.getNodeId(), LocalDateTime.now());
+        }
+    }
+
+    private void dispatch(Long jobId) {
+        try {
+            jobExecutor.execute(() -> runJob(jobId));
+        } catch (TaskRejectedException e) {
+            jobRepository.markFinished(jobId, AdminJob.JobStatus.FAILED, null,
+                    "Rejected: job executor is at capacity", LocalDateTime.now());
+            throw new ServiceOverloadedException("Too many background jobs are running, please retry later", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void runJob(Long jobId) {
+        String node = clusterJobRunner.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.claim(jobId, node, AdminJob.JobStatus.QUEUED, AdminJob.JobStatus.RUNNING, now) == 0
+                && jobRepository.takeOver(jobId, node, AdminJob.JobStatus.RUNNING,
+                        now.minus(Duration.ofMillis(heartbeatTimeoutMs)), now) == 0) {
+            // Finished, or another node is running it
+            return;
+        }
+        AdminJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        runningHere.add(jobId);
+
+        SecurityContext jobContext = SecurityContextHolder.createEmptyContext();
+        jobContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                job.getRequestedBy(), null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        SecurityContextHolder.setContext(jobContext);
+
+        try {
+            if (Boolean.TRUE.equals(job.getCancelRequested())) {
+                jobRepository.markFinishedByOwner(jobId, node, AdminJob.JobStatus.CANCELLED, null, null, LocalDateTime.now());
+                return;
+            }
+
+            AdminJobContext context = new AdminJobContext(job, jobRepository);
+            Map<String, Object> parameters = fromJson(job.getParameters());
+            Map<String, Object> result = findHandler(job.getOperation()).execute(job.getOperation(), parameters, context);
+
+            AdminJob.JobStatus finalStatus = context.isCancelled() ? AdminJob.JobStatus.CANCELLED : AdminJob.JobStatus.COMPLETED;
+            String error = null;
+            if (result != null && Boolean.FALSE.equals(result.get("success"))) {
+                finalStatus = AdminJob.JobStatus.FAILED;
+                error = String.valueOf(result.get("error"));
+            }
+            jobRepository.markFinishedByOwner(jobId, node, finalStatus, toJson(result), truncate(error), LocalDateTime.now());
+        } catch (Exception e) {
+            System.err.println("Admin job " + jobId + " failed: " + e.getMessage());
+            jobRepository.markFinishedByOwner(jobId, node, AdminJob.JobStatus.FAILED, null, truncate(e.getMessage()),
+                    LocalDateTime.now());
+        } finally {
+            runningHere.remove(jobId);
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private AdminJobHandler findHandler(String operation) {
+        return handlers.stream()
+                .filter(handler -> handler.supports(operation))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + operation));
+    }
+
+    private Map<String, Object> toStatusMap(AdminJob job) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("jobId", job.getId());
+        status.put("operation", job.getOperation());
+        status.put("status", job.getStatus());
+        status.put("totalItems", job.getTotalItems());
+        status.put("processedItems", job.getProcessedItems());
+        status.put("failedItems", job.getFailedItems());
+        status.put("cancelRequested", job.getCancelRequested());
+        status.put("requestedBy", job.getRequestedBy());
+        status.put("createdAt", job.getCreatedAt());
+        status.put("startedAt", job.getStartedAt());
+        status.put("finishedAt", job.getFinishedAt());
+        status.put("result", job.getResult() != null ? fromJson(job.getResult()) : null);
+        status.put("error", job.getErrorMessage());
+        status.put("statusUrl", "/api/admin/jobs/" + job.getId());
+        return status;
+    }
+
+    private String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private String toJson(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Job data is not serializable: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        if (json == null || json.isBlank()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored job data is not valid JSON: " + e.getMessage());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.college.backend.repository.FacultyRepository;
 import com.college.backend.repository.DepartmentRepository;
 import com.college.backend.repository.CourseRepository;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.UserPrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,6 +39,9 @@ public class AdminService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private UserPrincipalCache principalCache;
+    
     @Autowired
     private StudentRepository studentRepository;
     
@@ -55,18 +59,21 @@ public class AdminService {
 
     // Admin Profile Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Admin getAdminByUserId(Long userId) {
         return adminRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found for user ID: " + userId));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Admin getAdminById(Long adminId) {
         return adminRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found with ID: " + adminId));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Admin getAdminByEmployeeId(String employeeId) {
         return adminRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found with employee ID: " + employeeId));
@@ -119,11 +126,13 @@ public class AdminService {
 
     // User Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<User> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<User> getUsersByRole(User.UserRole role) {
         return userRepository.findByRole(role);
     }
@@ -155,6 +164,7 @@ public class AdminService {
         existingUser.setIsActive(userUpdates.getIsActive());
         existingUser.setRole(userUpdates.getRole());
         
+        principalCache.evict(userId);
         return userRepository.save(existingUser);
     }
 
@@ -164,6 +174,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setIsActive(false);
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -172,15 +183,18 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setIsActive(true);
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<User> searchUsers(String searchTerm) {
         return userRepository.searchUsers(searchTerm);
     }
 
     // Student Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<Student> getAllStudents(Pageable pageable) {
         List<Student> allStudents = studentRepository.findAllWithUserAndDepartment();
         int start = (int)pageable.getOffset();
@@ -205,12 +219,14 @@ public class AdminService {
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByFeeStatus(Student.FeeStatus feeStatus) {
         return studentRepository.findByFeeStatus(feeStatus);
     }
 
     // Faculty Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<Faculty> getAllFaculty(Pageable pageable) {
         List<Faculty> allFaculty = facultyRepository.findAllWithUserAndDepartment();
         int start = (int)pageable.getOffset();
@@ -236,6 +252,7 @@ public class AdminService {
 
     // Department Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
@@ -272,6 +289,7 @@ public class AdminService {
 
     // Course Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<Course> getAllCourses(Pageable pageable) {
         return courseRepository.findAll(pageable);
     }
@@ -319,6 +337,7 @@ public class AdminService {
 
     // System Analytics and Reports
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getSystemStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
@@ -339,6 +358,7 @@ public class AdminService {
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Long> getUserRoleDistribution() {
         Map<String, Long> distribution = new HashMap<>();
         
@@ -350,32 +370,38 @@ public class AdminService {
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsWithoutHead() {
         return departmentRepository.findDepartmentsWithoutHead();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesAvailableForEnrollment() {
         return courseRepository.findAvailableForEnrollment();
     }
 
     // Admin Specific Queries
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Admin> getUserManagers() {
         return adminRepository.findUserManagers();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Admin> getCourseManagers() {
         return adminRepository.findCourseManagers();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Admin> getDepartmentManagers() {
         return adminRepository.findDepartmentManagers();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Admin> getSuperAdmins() {
         return adminRepository.findSuperAdmins();
     }
@@ -1,9 +1,11 @@
 package com.college.backend.service;
 
+import com.college.backend.config.ReferenceCacheCoherence;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 @Service
 @Transactional
@@ -40,9 +43,19 @@ public class AdminSystemManagementService {
     
     @Autowired
     private AttendanceRecordRepository attendanceRepository;
+    
+    @Autowired
+    private InactiveUserCleanupService inactiveUserCleanupService;
+
+    @Autowired
+    private ReferenceCacheCoherence referenceCacheCoherence;
+    
+    @Value("${app.maintenance.bulk-update.chunk-size:1000}")
+    private int bulkUpdateChunkSize;
 
     // Department Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getDepartmentManagementOverview() {
         Map<String, Object> overview = new HashMap<>();
         
@@ -112,6 +125,7 @@ public class AdminSystemManagementService {
 
     // Course Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseManagementOverview() {
         Map<String, Object> overview = new HashMap<>();
         
@@ -188,6 +202,7 @@ public class AdminSystemManagementService {
 
     // Academic Performance Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getAcademicPerformanceAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
         
@@ -247,6 +262,7 @@ public class AdminSystemManagementService {
 
     // System Health Monitoring
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getSystemHealthStatus() {
         Map<String, Object> healthStatus = new HashMap<>();
         
@@ -306,16 +322,16 @@ public class AdminSystemManagementService {
         try {
             switch (operation.toLowerCase()) {
                 case "cleanup_inactive_users":
-                    result = cleanupInactiveUsers();
+                    result.putAll(cleanupInactiveUsers());
                     break;
                 case "update_course_status":
-                    result = bulkUpdateCourseStatus(parameters);
+                    result.putAll(bulkUpdateCourseStatus(parameters));
                     break;
                 case "department_migration":
-                    result = performDepartmentMigration(parameters);
+                    result.putAll(performDepartmentMigration(parameters));
                     break;
                 case "data_export":
-                    result = exportSystemData(parameters);
+                    result.putAll(exportSystemData(parameters));
                     break;
                 default:
                     throw new IllegalArgumentException("Unknown operation: " + operation);
@@ -336,81 +352,86 @@ public class AdminSystemManagementService {
 
     // Helper Methods
     private Map<String, Object> cleanupInactiveUsers() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(6);
-        List<User> inactiveUsers = userRepository.findByIsActiveAndLastLoginBefore(false, cutoffDate);
-        
-        int cleanedCount = 0;
-        for (User user : inactiveUsers) {
-            // Additional validation before deletion
-            if (canSafelyDeleteUser(user)) {
-                userRepository.delete(user);
-                cleanedCount++;
-            }
-        }
-        
-        return Map.of(
-            "totalInactiveUsers", inactiveUsers.size(),
-            "cleanedUsers", cleanedCount,
-            "cutoffDate", cutoffDate
-        );
+        // Chunked, resumable and set-based; see InactiveUserCleanupService
+        return inactiveUserCleanupService.runCleanup();
     }
 
     private Map<String, Object> bulkUpdateCourseStatus(Map<String, Object> parameters) {
         Course.CourseStatus fromStatus = Course.CourseStatus.valueOf((String) parameters.get("fromStatus"));
         Course.CourseStatus toStatus = Course.CourseStatus.valueOf((String) parameters.get("toStatus"));
         
-        List<Course> courses = courseRepository.findByStatus(fromStatus);
-        courses.forEach(course -> {
-            course.setStatus(toStatus);
-            course.setUpdatedAt(LocalDateTime.now());
-        });
+        // Single set-based UPDATE; the status guard makes concurrent changes drop out instead of being overwritten
+        int updated = courseRepository.updateStatus(fromStatus, toStatus, LocalDateTime.now());
+        referenceCacheCoherence.publishClear(Course.class);
         
-        courseRepository.saveAll(courses);
+        Map<String, Object> result = new HashMap<>();
+        result.put("updatedCourses", updated);
+        result.put("fromStatus", fromStatus);
+        result.put("toStatus", toStatus);
+        
+        // Optional optimistic check against the count the caller saw
+        if (parameters.get("expectedCount") != null) {
+            long expected = Long.parseLong(parameters.get("expectedCount").toString());
+            result.put("expectedCount", expected);
+            result.put("conflicts", Math.max(0, expected - updated));
+        }
         
-        return Map.of(
-            "updatedCourses", courses.size(),
-            "fromStatus", fromStatus,
-            "toStatus", toStatus
-        );
+        return result;
     }
 
     private Map<String, Object> performDepartmentMigration(Map<String, Object> parameters) {
         Long fromDepartmentId = Long.valueOf(parameters.get("fromDepartmentId").toString());
         Long toDepartmentId = Long.valueOf(parameters.get("toDepartmentId").toString());
         
-        // Migrate students
-        List<Student> students = studentRepository.findByDepartmentId(fromDepartmentId);
-        students.forEach(student -> {
-            // Set new department - would need to add this field to Student entity
-            // student.setDepartmentId(toDepartmentId);
-        });
-        
-        // Migrate faculty
-        List<Faculty> faculty = facultyRepository.findByDepartmentId(fromDepartmentId);
-        faculty.forEach(f -> {
-            // Set new department - would need to add this field to Faculty entity
-            // f.setDepartmentId(toDepartmentId);
-        });
-        
-        // Migrate courses
-        List<Course> courses = courseRepository.findByDepartmentId(fromDepartmentId);
+        if (fromDepartmentId.equals(toDepartmentId)) {
+            throw new IllegalArgumentException("Source and target departments must differ");
+        }
+        if (!departmentRepository.existsById(fromDepartmentId)) {
+            throw new ResourceNotFoundException("Source department not found");
+        }
         Department toDepartment = departmentRepository.findById(toDepartmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Target department not found"));
         
-        courses.forEach(course -> {
-            course.setDepartment(toDepartment);
-            course.setUpdatedAt(LocalDateTime.now());
-        });
+        LocalDateTime now = LocalDateTime.now();
+        
+        // Snapshot ids, then move them in guarded chunks; rows that left the source department meanwhile count as conflicts
+        List<Long> studentIds = studentRepository.findIdsByDepartmentId(fromDepartmentId);
+        int migratedStudents = updateInChunks(studentIds,
+                chunk -> studentRepository.moveToDepartment(chunk, fromDepartmentId, toDepartment, now));
+        
+        List<Long> facultyIds = facultyRepository.findIdsByDepartmentId(fromDepartmentId);
+        int migratedFaculty = updateInChunks(facultyIds,
+                chunk -> facultyRepository.moveToDepartment(chunk, fromDepartmentId, toDepartment, now));
         
-        courseRepository.saveAll(courses);
+        List<Long> courseIds = courseRepository.findIdsByDepartmentId(fromDepartmentId);
+        int migratedCourses = updateInChunks(courseIds,
+                chunk -> courseRepository.moveToDepartment(chunk, fromDepartmentId, toDepartment, now));
         
-        return Map.of(
-            "migratedStudents", students.size(),
-            "migratedFaculty", faculty.size(),
-            "migratedCourses", courses.size(),
-            "fromDepartmentId", fromDepartmentId,
-            "toDepartmentId", toDepartmentId
-        );
+        // Bulk updates skip entity events, so other nodes are told about the moved rows directly
+        referenceCacheCoherence.publish(Faculty.class, facultyIds);
+        referenceCacheCoherence.publish(Course.class, courseIds);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("migratedStudents", migratedStudents);
+        result.put("migratedFaculty", migratedFaculty);
+        result.put("migratedCourses", migratedCourses);
+        result.put("conflicts", Map.of(
+            "students", studentIds.size() - migratedStudents,
+            "faculty", facultyIds.size() - migratedFaculty,
+            "courses", courseIds.size() - migratedCourses
+        ));
+        result.put("fromDepartmentId", fromDepartmentId);
+        result.put("toDepartmentId", toDepartmentId);
+        return result;
+    }
+
+    private int updateInChunks(List<Long> ids, ToIntFunction<List<Long>> update) {
+        int affected = 0;
+        for (int start = 0; start < ids.size(); start += bulkUpdateChunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + bulkUpdateChunkSize, ids.size()));
+            affected += update.applyAsInt(chunk);
+        }
+        return affected;
     }
 
     private Map<String, Object> exportSystemData(Map<String, Object> parameters) {
@@ -441,27 +462,4 @@ public class AdminSystemManagementService {
         
         return exportData;
     }
-
-    private boolean canSafelyDeleteUser(User user) {
-        // Check if user has any important relationships that prevent deletion
-        if (user.getRole() == User.UserRole.STUDENT) {
-            Optional<Student> student = studentRepository.findByUserId(user.getId());
-            if (student.isPresent()) {
-                // Check if student has any enrollments or grades
-                long enrollments = enrollmentRepository.countByStudentId(student.get().getId());
-                return enrollments == 0;
-            }
-        }
-        
-        if (user.getRole() == User.UserRole.FACULTY) {
-            Optional<Faculty> faculty = facultyRepository.findByUserId(user.getId());
-            if (faculty.isPresent()) {
-                // Check if faculty is teaching any courses
-                // This would require additional repository methods
-                return true; // Simplified for now
-            }
-        }
-        
-        return true;
-    }
-}
\ No newline at end of file
+}
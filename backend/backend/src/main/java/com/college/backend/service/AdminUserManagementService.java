@@ -3,9 +3,13 @@ package com.college.backend.service;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.UserPrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,9 +32,28 @@ public class AdminUserManagementService {
     
     @Autowired
     private AdminRepository adminRepository;
+    
+    @Autowired
+    private UserPrincipalCache principalCache;
+    
+    @Autowired
+    private IdAllocationService idAllocationService;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private ActivityEventService activityEventService;
+
+    @Autowired
+    private EmailService emailService;
+    
+    @Value("${app.maintenance.bulk-update.chunk-size:1000}")
+    private int bulkUpdateChunkSize;
 
     // Comprehensive User Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getUserManagementOverview() {
         Map<String, Object> overview = new HashMap<>();
         
@@ -56,18 +79,54 @@ public class AdminUserManagementService {
 
     // Advanced User Search and Filtering
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<User> searchUsersAdvanced(String searchTerm, User.UserRole role, Boolean isActive, 
                                          Boolean isVerified, LocalDateTime registrationStart, 
                                          LocalDateTime registrationEnd, Pageable pageable) {
-        // This would typically involve a custom repository method or criteria query
-        // For now, implementing basic search
-        if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            List<User> searchResults = userRepository.searchUsers(searchTerm);
-            // Apply additional filters
-            return filterUsers(searchResults, role, isActive, isVerified, registrationStart, registrationEnd, pageable);
+        return userRepository.findAll(UserSpecifications.search(
+            searchTerm, role, isActive, isVerified, registrationStart, registrationEnd), pageable);
+    }
+
+    // Keyset (seek) pagination on (registrationDate DESC, id DESC); cost does not grow with page depth
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchUsersSeek(String searchTerm, User.UserRole role, Boolean isActive,
+                                               Boolean isVerified, LocalDateTime registrationStart,
+                                               LocalDateTime registrationEnd, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        LocalDateTime cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                cursorDate = LocalDateTime.parse(parts[0]);
+                cursorId = Long.valueOf(parts[1]);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
         }
         
-        return userRepository.findAll(pageable);
+        Specification<User> spec = UserSpecifications.search(
+                searchTerm, role, isActive, isVerified, registrationStart, registrationEnd)
+            .and(UserSpecifications.registeredBefore(cursorDate, cursorId));
+        Sort sort = Sort.by(Sort.Order.desc("registrationDate"), Sort.Order.desc("id"));
+        
+        // Fetch one extra row to know whether another page exists, without a COUNT query
+        List<User> rows = userRepository.findBy(spec, q -> q.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasMore = rows.size() > pageSize;
+        List<User> users = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("users", users);
+        result.put("size", users.size());
+        result.put("hasMore", hasMore);
+        if (hasMore) {
+            User last = users.get(users.size() - 1);
+            result.put("nextCursor", last.getRegistrationDate() + "_" + last.getId());
+        } else {
+            result.put("nextCursor", null);
+        }
+        return result;
     }
 
     // Bulk User Operations
@@ -76,38 +135,74 @@ public class AdminUserManagementService {
         Map<String, Object> result = new HashMap<>();
         List<String> successful = new ArrayList<>();
         List<String> failed = new ArrayList<>();
+        String normalizedOperation = operation.toLowerCase();
         
-        for (Long userId : userIds) {
-            try {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-                
-                switch (operation.toLowerCase()) {
-                    case "activate":
-                        user.setIsActive(true);
-                        userRepository.save(user);
-                        successful.add("User " + user.getEmail() + " activated");
-                        break;
-                    case "deactivate":
-                        user.setIsActive(false);
-                        userRepository.save(user);
-                        successful.add("User " + user.getEmail() + " deactivated");
-                        break;
-                    case "verify":
-                        user.setIsVerified(true);
-                        userRepository.save(user);
-                        successful.add("User " + user.getEmail() + " verified");
-                        break;
-                    case "delete":
-                        userRepository.delete(user);
-                        successful.add("User " + user.getEmail() + " deleted");
-                        break;
-                    default:
-                        failed.add("Invalid operation for user: " + user.getEmail());
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        for (int start = 0; start < distinctIds.size(); start += bulkUpdateChunkSize) {
+            List<Long> chunk = distinctIds.subList(start, Math.min(start + bulkUpdateChunkSize, distinctIds.size()));
+            
+            if ("delete".equals(normalizedOperation)) {
+                deleteUsers(chunk, successful, failed);
+                continue;
+            }
+            
+            // One lookup per chunk tells us which ids exist; everything else is reported as missing
+            Map<Long, String> emailsById = new LinkedHashMap<>();
+            for (Object[] row : userRepository.findIdAndEmailByIdIn(chunk)) {
+                emailsById.put((Long) row[0], (String) row[1]);
+            }
+            for (Long userId : chunk) {
+                if (!emailsById.containsKey(userId)) {
+                    failed.add("Failed for user ID " + userId + ": User not found: " + userId);
                 }
-            } catch (Exception e) {
-                failed.add("Failed for user ID " + userId + ": " + e.getMessage());
             }
+            if (emailsById.isEmpty()) {
+                continue;
+            }
+            
+            int affected;
+            String verb;
+            switch (normalizedOperation) {
+                case "activate":
+                    affected = userRepository.updateActiveByIdIn(emailsById.keySet(), true);
+                    verb = "activated";
+                    break;
+                case "deactivate":
+                    affected = userRepository.updateActiveByIdIn(emailsById.keySet(), false);
+                    verb = "deactivated";
+                    break;
+                case "verify":
+                    affected = userRepository.updateVerifiedByIdIn(emailsById.keySet(), true);
+                    verb = "verified";
+                    break;
+                case "unverify":
+                    affected = userRepository.updateVerifiedByIdIn(emailsById.keySet(), false);
+                    verb = "unverified";
+                    break;
+                case "unlock_account":
+                    affected = userRepository.unlockByIdIn(emailsById.keySet());
+                    verb = "unlocked";
+                    break;
+                default:
+                    // Password resets need a per-user secret and stay on performAccountRecovery
+                    emailsById.values().forEach(email -> failed.add("Invalid operation for user: " + email));
+                    continue;
+            }
+            
+            if (affected != emailsById.size()) {
+                // Rare: rows were deleted between lookup and update, so re-check which ones are still there
+                Set<Long> stillPresent = new HashSet<>();
+                userRepository.findIdAndEmailByIdIn(emailsById.keySet()).forEach(row -> stillPresent.add((Long) row[0]));
+                emailsById.keySet().removeIf(userId -> {
+                    if (stillPresent.contains(userId)) {
+                        return false;
+                    }
+                    failed.add("Failed for user ID " + userId + ": User not found: " + userId);
+                    return true;
+                });
+            }
+            emailsById.values().forEach(email -> successful.add("User " + email + " " + verb));
+            principalCache.evictAll(emailsById.keySet());
         }
         
         result.put("successful", successful);
@@ -118,8 +213,28 @@ public class AdminUserManagementService {
         return result;
     }
 
+    private void deleteUsers(List<Long> userIds, List<String> successful, List<String> failed) {
+        Set<Long> found = new HashSet<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            found.add(user.getId());
+            try {
+                userRepository.delete(user);
+                successful.add("User " + user.getEmail() + " deleted");
+            } catch (Exception e) {
+                failed.add("Failed for user ID " + user.getId() + ": " + e.getMessage());
+            }
+        }
+        for (Long userId : userIds) {
+            if (!found.contains(userId)) {
+                failed.add("Failed for user ID " + userId + ": User not found: " + userId);
+            }
+        }
+        principalCache.evictAll(found);
+    }
+
     // Student Profile Management
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentManagementData() {
         Map<String, Object> data = new HashMap<>();
         
@@ -150,6 +265,7 @@ public class AdminUserManagementService {
 
     // Faculty Management Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getFacultyManagementData() {
         Map<String, Object> data = new HashMap<>();
         
@@ -180,28 +296,93 @@ public class AdminUserManagementService {
 
     // User Activity Monitoring
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getUserActivityReport(LocalDateTime startDate, LocalDateTime endDate) {
         List<Map<String, Object>> activityReport = new ArrayList<>();
         
-        // Recent logins
-        List<User> recentlyActiveUsers = userRepository.findByLastLoginBetween(startDate, endDate);
+        // Logins in the range come from the activity log (idx on occurred_at), not a scan of users.last_login
+        Map<Long, Object[]> logins = new HashMap<>();
+        for (Object[] row : activityEventRepository.summarizeByUser(ActivityEvent.EventType.LOGIN, startDate, endDate)) {
+            logins.put((Long) row[0], row);
+        }
+        for (User user : userRepository.findAllById(logins.keySet())) {
+            Object[] login = logins.get(user.getId());
+            activityReport.add(activityRow(user, (LocalDateTime) login[1], login[2]));
+        }
         
-        for (User user : recentlyActiveUsers) {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("userId", user.getId());
-            activity.put("name", user.getName());
-            activity.put("email", user.getEmail());
-            activity.put("role", user.getRole());
-            activity.put("lastLogin", user.getLastLogin());
-            activity.put("isActive", user.getIsActive());
-            activity.put("isVerified", user.getIsVerified());
-            
-            activityReport.add(activity);
+        // Logins from before the activity log existed are only known through users.last_login (latest login
+        // per user, no count), so the part of the range before the first LOGIN event is read from there
+        LocalDateTime firstLogged = activityEventRepository.findFirstOccurredAt(ActivityEvent.EventType.LOGIN);
+        LocalDateTime historyEnd = firstLogged != null && firstLogged.isBefore(endDate) ? firstLogged : endDate;
+        if (startDate.isBefore(historyEnd)) {
+            for (User user : userRepository.findByLastLoginBetween(startDate, historyEnd)) {
+                if (!logins.containsKey(user.getId())) {
+                    activityReport.add(activityRow(user, user.getLastLogin(), null));
+                }
+            }
         }
+        activityReport.sort(Comparator.comparing((Map<String, Object> a) -> (LocalDateTime) a.get("lastLogin")).reversed());
         
         return activityReport;
     }
 
+    private Map<String, Object> activityRow(User user, LocalDateTime lastLogin, Object loginCount) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("userId", user.getId());
+        activity.put("name", user.getName());
+        activity.put("email", user.getEmail());
+        activity.put("role", user.getRole());
+        activity.put("lastLogin", lastLogin);
+        activity.put("loginCount", loginCount);
+        activity.put("isActive", user.getIsActive());
+        activity.put("isVerified", user.getIsVerified());
+        return activity;
+    }
+
+    // Bulk notifications: queued in the outbox, so this returns without waiting on SMTP
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> sendNotifications(List<Long> userIds, String notificationType, String subject, String message) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one user id is required");
+        }
+        String type = notificationType != null ? notificationType : "general";
+        String mailSubject = subject != null && !subject.isBlank() ? subject : "Karunya College Portal: " + type + " notification";
+        String mailBody = message != null && !message.isBlank() ? message : "You have a new " + type + " notification on the portal.";
+
+        int queued = 0;
+        int duplicates = 0;
+        List<User> users = userRepository.findAllById(userIds);
+        for (User user : users) {
+            if (emailService.sendNotification(user, mailSubject, mailBody)) {
+                queued++;
+            } else {
+                duplicates++;
+            }
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("message", "Notifications queued for delivery");
+        result.put("recipientCount", users.size());
+        result.put("queued", queued);
+        result.put("skippedDuplicates", duplicates);
+        result.put("notFound", userIds.size() - users.size());
+        result.put("notificationType", type);
+        result.put("timestamp", LocalDateTime.now());
+        return result;
+    }
+
+    // Activity counts per hour or day from the rollup tables
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public Map<String, Object> getActivitySummary(ActivityRollup.Granularity granularity, ActivityEvent.EventType eventType,
+                                                  LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        return activityEventService.getActivitySummary(granularity, eventType, startDate, endDate);
+    }
+
     // Role Migration and Upgrades
     @PreAuthorize("hasRole('ADMIN')")
     public Map<String, Object> performRoleMigration(Long userId, User.UserRole newRole, Map<String, Object> additionalData) {
@@ -252,6 +433,7 @@ public class AdminUserManagementService {
             // Update user role
             user.setRole(newRole);
             userRepository.save(user);
+            principalCache.evict(userId);
             
             result.put("success", true);
             result.put("message", "User role successfully changed from " + oldRole + " to " + newRole);
@@ -301,6 +483,7 @@ public class AdminUserManagementService {
                     throw new IllegalArgumentException("Invalid recovery operation: " + operation);
             }
             
+            principalCache.evict(userId);
             result.put("success", true);
             result.put("message", "Account recovery operation completed: " + operation);
             
@@ -313,17 +496,11 @@ public class AdminUserManagementService {
     }
 
     // Helper Methods
-    private Page<User> filterUsers(List<User> users, User.UserRole role, Boolean isActive, 
-                                  Boolean isVerified, LocalDateTime registrationStart, 
-                                  LocalDateTime registrationEnd, Pageable pageable) {
-        // Implementation for filtering - simplified version
-        return Page.empty();
-    }
-
     private Student createDefaultStudentProfile(User user, Map<String, Object> additionalData) {
         Student student = new Student();
         student.setUser(user);
-        student.setStudentId(generateStudentId());
+        Object departmentCode = additionalData.get("departmentCode");
+        student.setStudentId(idAllocationService.nextStudentId(departmentCode != null ? departmentCode.toString() : null));
         student.setStatus(Student.StudentStatus.ACTIVE);
         student.setFeeStatus(Student.FeeStatus.PENDING);
         student.setHostelResident(false);
@@ -343,7 +520,8 @@ public class AdminUserManagementService {
     private Faculty createDefaultFacultyProfile(User user, Map<String, Object> additionalData) {
         Faculty faculty = new Faculty();
         faculty.setUser(user);
-        faculty.setEmployeeId(generateEmployeeId());
+        faculty.setFacultyId(idAllocationService.nextFacultyId());
+        faculty.setEmployeeId(idAllocationService.nextEmployeeId());
         faculty.setStatus(Faculty.FacultyStatus.ACTIVE);
         faculty.setDesignation(Faculty.Designation.ASSISTANT_PROFESSOR);
         faculty.setEmploymentType(Faculty.EmploymentType.FULL_TIME);
@@ -356,8 +534,8 @@ public class AdminUserManagementService {
     private Admin createDefaultAdminProfile(User user, Map<String, Object> additionalData) {
         Admin admin = new Admin();
         admin.setUser(user);
-        admin.setAdminId(generateAdminId());
-        admin.setEmployeeId(generateEmployeeId());
+        admin.setAdminId(idAllocationService.nextAdminId());
+        admin.setEmployeeId(idAllocationService.nextEmployeeId());
         admin.setStatus(Admin.AdminStatus.ACTIVE);
         admin.setAdminType(Admin.AdminType.ACADEMIC_ADMIN);
         admin.setAccessLevel(Admin.AccessLevel.DEPARTMENT);
@@ -369,18 +547,6 @@ public class AdminUserManagementService {
         return admin;
     }
 
-    private String generateStudentId() {
-        return "STU" + System.currentTimeMillis();
-    }
-
-    private String generateEmployeeId() {
-        return "EMP" + System.currentTimeMillis();
-    }
-
-    private String generateAdminId() {
-        return "ADM" + System.currentTimeMillis();
-    }
-
     private String generateTemporaryPassword() {
         return "TempPass" + System.currentTimeMillis();
     }
@@ -0,0 +1,423 @@
+package com.college.backend.service;
+
+import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.model.Announcement;
+import com.college.backend.model.AnnouncementRecipient;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.college.backend.repository.AnnouncementRecipientRepository;
+import com.college.backend.repository.AnnouncementRepository;
+import com.college.backend.repository.CourseRepository;
+import com.college.backend.repository.DepartmentRepository;
+import com.college.backend.repository.StudentRepository;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
+import com.college.backend.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Course, department and year announcements. Posting writes one row; recipients are added afterwards in
+// keyset batches of student user ids, so the request does the same work for 20 students as for 2,000
+@Service
+@Transactional
+public class AnnouncementService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    public static final String RESUME_JOB_NAME = "announcement_fanout_resume";
+
+    private static final String INSERT_RECIPIENT_SQL =
+            "INSERT INTO announcement_recipients (user_id, announcement_id) VALUES (?, ?)";
+
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+
+    @Autowired
+    private AnnouncementRecipientRepository recipientRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Autowired
+    @Qualifier("announcementFanoutExecutor")
+    private ThreadPoolTaskExecutor fanoutExecutor;
+
+    @Value("${app.announcements.fanout-batch-size:1000}")
+    private int fanoutBatchSize;
+
+    @Value("${app.announcements.resume-interval-ms:60000}")
+    private long resumeIntervalMs;
+
+    // Announcements this node is delivering right now
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    // Posting
+    @PreAuthorize("hasAnyRole('FACULTY', 'ADMIN')")
+    public Map<String, Object> postAnnouncement(String title, String body, String audienceType,
+                                                Long courseId, Long departmentId, Integer year) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Title must be at most " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (body == null || body.isBlank()) {
+            throw new IllegalArgumentException("Body is required");
+        }
+        Announcement.AudienceType type = parseAudienceType(audienceType);
+
+        UserPrincipal principal = currentPrincipal();
+        boolean admin = isAdmin();
+        Faculty faculty = admin ? null : currentActorResolver.currentFaculty();
+
+        Announcement announcement = new Announcement();
+        announcement.setTitle(title.trim());
+        announcement.setBody(body);
+        announcement.setAudienceType(type);
+        announcement.setAuthorUserId(principal.getId());
+        announcement.setAuthorName(principal.getName());
+
+        switch (type) {
+            case COURSE:
+                if (courseId == null) {
+                    throw new IllegalArgumentException("courseId is required for a course announcement");
+                }
+                if (faculty != null) {
+                    courseAccessAuthorizer.checkAccess(courseId, faculty);
+                } else if (!courseRepository.existsById(courseId)) {
+                    throw new ResourceNotFoundException("Course not found");
+                }
+                announcement.setCourseId(courseId);
+                break;
+            case DEPARTMENT:
+                announcement.setDepartmentId(resolveDepartment(departmentId, faculty, true));
+                break;
+            case YEAR:
+                if (year == null || year < 1 || year > 4) {
+                    throw new IllegalArgumentException("year must be between 1 and 4");
+                }
+                announcement.setTargetYear(year);
+                announcement.setDepartmentId(resolveDepartment(departmentId, faculty, false));
+                break;
+        }
+
+        announcement = announcementRepository.save(announcement);
+        fanOutAfterCommit(announcement.getId());
+
+        Map<String, Object> result = toStatusMap(announcement);
+        result.put("message", "Announcement posted; delivery to recipients is in progress");
+        return result;
+    }
+
+    // Author view
+    @PreAuthorize("hasAnyRole('FACULTY', 'ADMIN')")
+    @Transactional(readOnly = true)
+    public Map<String, Object> getAnnouncementStatus(Long announcementId) {
+        Announcement announcement = announcementRepository.findById(announcementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement", "id", announcementId));
+        if (!isAdmin() && !announcement.getAuthorUserId().equals(currentPrincipal().getId())) {
+            throw new IllegalArgumentException("Access denied: You did not post this announcement");
+        }
+        Map<String, Object> status = toStatusMap(announcement);
+        status.put("readCount", recipientRepository.countRead(announcementId));
+        return status;
+    }
+
+    @PreAuthorize("hasAnyRole('FACULTY', 'ADMIN')")
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSentAnnouncements(Long beforeId, int size) {
+        int limit = pageSize(size);
+        List<Announcement> page = announcementRepository.findByAuthorUserIdAndIdLessThanOrderByIdDesc(
+                currentPrincipal().getId(), beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+
+        boolean hasMore = page.size() > limit;
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Announcement announcement : page.subList(0, Math.min(limit, page.size()))) {
+            items.add(toStatusMap(announcement));
+        }
+        return pageResult(items, hasMore);
+    }
+
+    // Recipient inbox
+    @PreAuthorize("isAuthenticated()")
+    @Transactional(readOnly = true)
+    public Map<String, Object> getInbox(Long beforeId, int size) {
+        Long userId = currentPrincipal().getId();
+        int limit = pageSize(size);
+        List<Object[]> rows = recipientRepository.findInboxPage(userId, beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Object[] row : rows.subList(0, Math.min(limit, rows.size()))) {
+            Announcement announcement = (Announcement) row[0];
+            LocalDateTime readAt = (LocalDateTime) row[1];
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", announcement.getId());
+            item.put("title", announcement.getTitle());
+            item.put("body", announcement.getBody());
+            item.put("audienceType", announcement.getAudienceType());
+            item.put("courseId", announcement.getCourseId());
+            item.put("authorName", announcement.getAuthorName());
+            item.put("postedAt", announcement.getCreatedAt());
+            item.put("read", readAt != null);
+            item.put("readAt", readAt);
+            items.add(item);
+        }
+
+        Map<String, Object> inbox = pageResult(items, hasMore);
+        inbox.put("unreadCount", recipientRepository.countByUserIdAndReadAtIsNull(userId));
+        return inbox;
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public Map<String, Object> markRead(Long announcementId) {
+        Long userId = currentPrincipal().getId();
+        if (recipientRepository.markRead(userId, announcementId, LocalDateTime.now()) == 0
+                && !recipientRepository.existsById(new AnnouncementRecipient.Key(userId, announcementId))) {
+            throw new ResourceNotFoundException("Announcement", "id", announcementId);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("announcementId", announcementId);
+        result.put("read", true);
+        result.put("unreadCount", recipientRepository.countByUserIdAndReadAtIsNull(userId));
+        return result;
+    }
+
+    // upToId keeps announcements that arrived after the page was loaded unread
+    @PreAuthorize("isAuthenticated()")
+    public Map<String, Object> markAllRead(Long upToId) {
+        Long userId = currentPrincipal().getId();
+        int marked = recipientRepository.markAllRead(userId, upToId != null ? upToId : Long.MAX_VALUE, LocalDateTime.now());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("marked", marked);
+        result.put("unreadCount", recipientRepository.countByUserIdAndReadAtIsNull(userId));
+        return result;
+    }
+
+    // Picks up fan-outs interrupted by a restart or rejected by a full executor; one node per sweep
+    @Scheduled(fixedDelayString = "${app.announcements.resume-interval-ms:60000}",
+               initialDelayString = "${app.announcements.resume-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumePendingFanouts() {
+        clusterJobRunner.run(RESUME_JOB_NAME, Duration.ofMillis(resumeIntervalMs / 2), () -> {
+            List<Announcement> pending = announcementRepository.findByStatusInOrderByIdAsc(
+                    List.of(Announcement.Status.PENDING, Announcement.Status.DELIVERING));
+            pending.forEach(announcement -> dispatch(announcement.getId()));
+            return pending.size();
+        });
+    }
+
+    // Runs the whole fan-out on the calling thread; returns the number of recipients this node delivered to
+    public int fanOut(Long announcementId) {
+        if (!inProgress.add(announcementId)) {
+            return 0;
+        }
+        try {
+            TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+            int delivered = 0;
+            while (true) {
+                Integer count = batchTx.execute(status -> deliverBatch(announcementId, status));
+                if (count == null || count < 0) {
+                    return delivered;
+                }
+                delivered += count;
+                if (count < fanoutBatchSize) {
+                    return delivered;
+                }
+            }
+        } catch (Exception e) {
+            // The cursor only moves when a batch commits, so the next sweep continues from here
+            System.err.println("Announcement " + announcementId + " fan-out stopped, will resume: " + e.getMessage());
+            return 0;
+        } finally {
+            inProgress.remove(announcementId);
+        }
+    }
+
+    // One batch of recipients; returns how many were added (fewer than a full batch means done), or -1 to stop
+    private int deliverBatch(Long announcementId, TransactionStatus status) {
+        Announcement announcement = announcementRepository.findById(announcementId).orElse(null);
+        if (announcement == null || announcement.getStatus() == Announcement.Status.DELIVERED) {
+            return -1;
+        }
+        Long cursor = announcement.getFanoutCursor();
+        List<Long> userIds = findRecipientIds(announcement, cursor, PageRequest.of(0, fanoutBatchSize));
+        if (userIds.isEmpty()) {
+            announcementRepository.markDelivered(announcementId, cursor, Announcement.Status.DELIVERED);
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_RECIPIENT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, announcementId);
+        });
+
+        Long next = userIds.get(userIds.size() - 1);
+        if (announcementRepository.advanceFanout(announcementId, cursor, next, userIds.size(),
+                Announcement.Status.DELIVERING) == 0) {
+            // Another node delivered this range first
+            status.setRollbackOnly();
+            return -1;
+        }
+        if (userIds.size() < fanoutBatchSize) {
+            announcementRepository.markDelivered(announcementId, next, Announcement.Status.DELIVERED);
+        }
+        return userIds.size();
+    }
+
+    private List<Long> findRecipientIds(Announcement announcement, Long afterUserId, Pageable pageable) {
+        switch (announcement.getAudienceType()) {
+            case COURSE:
+                return studentRepository.findUserIdsEnrolledInCourse(announcement.getCourseId(), afterUserId, pageable);
+            case DEPARTMENT:
+                return studentRepository.findUserIdsByDepartment(announcement.getDepartmentId(),
+                        Student.StudentStatus.ACTIVE, afterUserId, pageable);
+            case YEAR:
+                return studentRepository.findUserIdsByYear(announcement.getTargetYear(), announcement.getDepartmentId(),
+                        Student.StudentStatus.ACTIVE, afterUserId, pageable);
+            default:
+                return List.of();
+        }
+    }
+
+    private void fanOutAfterCommit(Long announcementId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(announcementId);
+                }
+            });
+        } else {
+            dispatch(announcementId);
+        }
+    }
+
+    private void dispatch(Long announcementId) {
+        if (inProgress.contains(announcementId)) {
+            return;
+        }
+        try {
+            fanoutExecutor.execute(() -> fanOut(announcementId));
+        } catch (TaskRejectedException e) {
+            System.err.println("Announcement " + announcementId + " fan-out deferred: executor is full");
+        }
+    }
+
+    // Faculty may only address their own department; admins must name one unless it is optional
+    private Long resolveDepartment(Long departmentId, Faculty faculty, boolean required) {
+        if (faculty != null) {
+            Long own = faculty.getDepartment() != null ? faculty.getDepartment().getId() : null;
+            if (own == null) {
+                throw new IllegalArgumentException("Access denied: You are not assigned to a department");
+            }
+            if (departmentId != null && !departmentId.equals(own)) {
+                throw new IllegalArgumentException("Access denied: You can only address your own department");
+            }
+            return own;
+        }
+        if (departmentId == null) {
+            if (required) {
+                throw new IllegalArgumentException("departmentId is required for a department announcement");
+            }
+            return null;
+        }
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department", "id", departmentId);
+        }
+        return departmentId;
+    }
+
+    private Announcement.AudienceType parseAudienceType(String audienceType) {
+        if (audienceType == null || audienceType.isBlank()) {
+            throw new IllegalArgumentException("audienceType is required (COURSE, DEPARTMENT or YEAR)");
+        }
+        try {
+            return Announcement.AudienceType.valueOf(audienceType.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown audienceType: " + audienceType);
+        }
+    }
+
+    private Map<String, Object> toStatusMap(Announcement announcement) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", announcement.getId());
+        status.put("title", announcement.getTitle());
+        status.put("audienceType", announcement.getAudienceType());
+        status.put("courseId", announcement.getCourseId());
+        status.put("departmentId", announcement.getDepartmentId());
+        status.put("year", announcement.getTargetYear());
+        status.put("status", announcement.getStatus());
+        status.put("recipientCount", announcement.getRecipientCount());
+        status.put("postedAt", announcement.getCreatedAt());
+        status.put("deliveredAt", announcement.getDeliveredAt());
+        return status;
+    }
+
+    private Map<String, Object> pageResult(List<Map<String, Object>> items, boolean hasMore) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("items", items);
+        page.put("hasMore", hasMore);
+        page.put("nextCursor", hasMore ? items.get(items.size() - 1).get("id") : null);
+        return page;
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private boolean isAdmin() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    private UserPrincipal currentPrincipal() {
+        return currentActorResolver.currentPrincipal();
+    }
+}
@@ -28,6 +28,9 @@ public class AuthService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private LoginActivityBuffer loginActivityBuffer;
+
     public LoginResponse login(LoginRequest loginRequest) {
         // Find user by email
         User user = userRepository.findByEmail(loginRequest.getEmail())
@@ -43,13 +46,14 @@ public class AuthService {
             throw new InvalidCredentialsException("Account is not activated. Please check your email for verification instructions.");
         }
 
-        // Update last login
+        // Update last login (written behind by LoginActivityBuffer)
         user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        loginActivityBuffer.recordLogin(user.getId());
 
         return new LoginResponse(user);
     }
     
+    @Transactional(readOnly = true)
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new InvalidCredentialsException("User not found"));
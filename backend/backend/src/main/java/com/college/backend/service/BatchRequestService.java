@@ -0,0 +1,144 @@
+package com.college.backend.service;
+
+import com.college.backend.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+// Runs several GETs against the app's own routes for one request: the caller is authenticated once by the
+// batch request, and each part goes straight to the DispatcherServlet on a batch thread with that security
+// context. URL rules are checked per part with the same evaluator the filter chain uses, method security
+// applies as usual. Each part gets its own status and body; one failing or slow part doesn't fail the rest
+@Service
+public class BatchRequestService {
+
+    // Plain /api/ paths only: no dot segments, empty segments, matrix params or encoded characters in the path
+    private static final Pattern PART_PATH = Pattern.compile("^/api/(?!batch(/|\\?|$))[A-Za-z0-9_\\-]+(/[A-Za-z0-9_\\-.]+)*/?(\\?.*)?$");
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    @Autowired
+    @Qualifier("batchRequestExecutor")
+    private AsyncTaskExecutor batchExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.batch.max-requests:10}")
+    private int maxRequests;
+
+    @Value("${app.batch.part-timeout-ms:5000}")
+    private long partTimeoutMs;
+
+    // Parts by id, in request order; the result has one entry per part in the same order
+    public List<Map<String, Object>> execute(HttpServletRequest request, LinkedHashMap<String, String> parts) {
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("A batch needs at least one request");
+        }
+        if (parts.size() > maxRequests) {
+            throw new IllegalArgumentException("A batch can hold at most " + maxRequests + " requests, got " + parts.size());
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partTimeoutMs);
+        Map<String, Future<Map<String, Object>>> running = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> results = new HashMap<>();
+        parts.forEach((id, path) -> {
+            if (path == null || !PART_PATH.matcher(path).matches() || path.contains("..")) {
+                results.put(id, part(id, path, HttpStatus.BAD_REQUEST.value(), error("Not a batchable path: " + path)));
+                return;
+            }
+            String pathOnly = path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+            if (!privilegeEvaluator.isAllowed(request.getContextPath(), pathOnly, "GET",
+                    SecurityContextHolder.getContext().getAuthentication())) {
+                results.put(id, part(id, path, HttpStatus.FORBIDDEN.value(), error("Access denied")));
+                return;
+            }
+            // Copied here, on the request thread: the batch request must not be read once the batch has answered
+            InternalGetRequest partRequest = new InternalGetRequest(request, path);
+            Callable<Map<String, Object>> task = DelegatingSecurityContextCallable.create(
+                    () -> dispatch(partRequest, id, path), SecurityContextHolder.getContext());
+            try {
+                running.put(id, batchExecutor.submit(task));
+            } catch (TaskRejectedException e) {
+                // Pool saturated: run the part here rather than dropping it
+                FutureTask<Map<String, Object>> inline = new FutureTask<>(task);
+                inline.run();
+                running.put(id, inline);
+            }
+        });
+
+        running.forEach((id, future) -> {
+            try {
+                results.put(id, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Only an interrupt: a part that doesn't check for it, or is stuck in a query, still finishes its
+                // work after the batch has answered. It reads nothing from the batch request by then
+                future.cancel(true);
+                System.err.println("Batch part '" + parts.get(id) + "' timed out after " + partTimeoutMs + " ms");
+                results.put(id, part(id, parts.get(id), HttpStatus.GATEWAY_TIMEOUT.value(), error("Timed out")));
+            } catch (ExecutionException e) {
+                System.err.println("Batch part '" + parts.get(id) + "' failed: " + e.getCause().getMessage());
+                results.put(id, part(id, parts.get(id), HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        error("An unexpected error occurred")));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.put(id, part(id, parts.get(id), HttpStatus.SERVICE_UNAVAILABLE.value(), error("Interrupted")));
+            }
+        });
+
+        List<Map<String, Object>> ordered = new ArrayList<>();
+        parts.keySet().forEach(id -> ordered.add(results.get(id)));
+        return ordered;
+    }
+
+    private Map<String, Object> dispatch(InternalGetRequest partRequest, String id, String path) throws Exception {
+        InternalGetRequest.Response partResponse = new InternalGetRequest.Response();
+        dispatcherServlet.service(partRequest, partResponse);
+
+        byte[] body = partResponse.getBody();
+        Object parsed = null;
+        if (body.length > 0) {
+            String contentType = partResponse.getContentType();
+            MediaType type = contentType != null ? MediaType.parseMediaType(contentType) : null;
+            boolean json = type != null
+                    && (type.isCompatibleWith(MediaType.APPLICATION_JSON) || "json".equals(type.getSubtypeSuffix()));
+            parsed = json ? objectMapper.readTree(body) : new String(body, StandardCharsets.UTF_8);
+        }
+        return part(id, path, partResponse.getStatus(), parsed);
+    }
+
+    private Map<String, Object> part(String id, String path, int status, Object body) {
+        Map<String, Object> part = new LinkedHashMap<>();
+        part.put("id", id);
+        part.put("path", path);
+        part.put("status", status);
+        part.put("body", body);
+        return part;
+    }
+
+    private JsonNode error(String message) {
+        return objectMapper.valueToTree(ApiResponse.error(message));
+    }
+}
@@ -0,0 +1,598 @@
+package com.college.backend.service;
+
+import com.college.backend.model.ActivityEvent;
+import com.college.backend.model.Department;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.college.backend.model.User;
+import com.college.backend.repository.DepartmentRepository;
+import com.college.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+// Imports students or faculty from a CSV upload.
+// The file is read in batches: one set query finds existing emails, passwords are hashed in parallel,
+// and users plus their profiles are written with JDBC batch inserts in one transaction per batch.
+@Service
+public class BulkOnboardingService {
+
+    public static final String TYPE_STUDENTS = "students";
+    public static final String TYPE_FACULTY = "faculty";
+
+    public static final String ROW_CREATED = "CREATED";
+    public static final String ROW_DUPLICATE = "DUPLICATE";
+    public static final String ROW_INVALID = "INVALID";
+    public static final String ROW_FAILED = "FAILED";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "email", "password");
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (name, email, password, phone, role, is_active, is_verified, email_updates, registration_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_STUDENT_SQL =
+            "INSERT INTO students (user_id, student_id, phone, semester, current_semester, department_id, academic_year, " +
+            "admission_date, status, cgpa, total_credits, hostel_resident, is_hostel_student, fee_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_FACULTY_SQL =
+            "INSERT INTO faculty (user_id, faculty_id, employee_id, phone, department_id, designation, employment_type, status, " +
+            "experience_years, publications_count, is_head_of_department, is_department_head, is_class_coordinator, " +
+            "joining_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private IdAllocationService idAllocationService;
+
+    @Autowired
+    private SearchSuggestionService searchSuggestionService;
+
+    @Autowired
+    private ActivityEventService activityEventService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolTaskExecutor hashingExecutor;
+
+    @Value("${app.onboarding.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.onboarding.max-rows:20000}")
+    private int maxRows;
+
+    // Runs outside any caller transaction; each batch commits on its own, so a bad batch does not undo earlier ones
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> importCsv(InputStream input, String type) throws IOException {
+        String importType = type != null ? type.trim().toLowerCase(Locale.ROOT) : "";
+        if (importType.equals("student")) {
+            importType = TYPE_STUDENTS;
+        }
+        if (!importType.equals(TYPE_STUDENTS) && !importType.equals(TYPE_FACULTY)) {
+            return failure("Unknown import type: " + type + " (expected students or faculty)");
+        }
+
+        long startNanos = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return failure("The file is empty");
+        }
+        Map<String, Integer> columns = parseHeader(headerLine);
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                return failure("Missing required column: " + required);
+            }
+        }
+
+        TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+        batchTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Map<String, Department> departments = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            if (department.getDepartmentCode() != null) {
+                departments.put(department.getDepartmentCode().trim().toUpperCase(Locale.ROOT), department);
+            }
+        }
+
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> allRows = new ArrayList<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        int batches = 0;
+        boolean truncated = false;
+
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (allRows.size() >= maxRows) {
+                truncated = true;
+                break;
+            }
+            ImportRow row = new ImportRow(lineNumber, toValues(parseLine(line), columns));
+            allRows.add(row);
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                processBatch(batch, importType, departments, seenEmails, batchTx);
+                batches++;
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            processBatch(batch, importType, departments, seenEmails, batchTx);
+            batches++;
+        }
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String status : List.of(ROW_CREATED, ROW_DUPLICATE, ROW_INVALID, ROW_FAILED)) {
+            counts.put(status, 0);
+        }
+        List<Map<String, Object>> rowResults = new ArrayList<>(allRows.size());
+        for (ImportRow row : allRows) {
+            counts.merge(row.status, 1, Integer::sum);
+            rowResults.add(row.toResult());
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("type", importType);
+        result.put("totalRows", allRows.size());
+        result.put("created", counts.get(ROW_CREATED));
+        result.put("duplicates", counts.get(ROW_DUPLICATE));
+        result.put("invalid", counts.get(ROW_INVALID));
+        result.put("failed", counts.get(ROW_FAILED));
+        result.put("batches", batches);
+        result.put("batchSize", batchSize);
+        result.put("truncated", truncated);
+        result.put("elapsedMs", elapsedMs);
+        result.put("rows", rowResults);
+        if (truncated) {
+            result.put("message", "Only the first " + maxRows + " rows were imported");
+        }
+
+        System.out.println("Bulk onboarding (" + importType + "): " + counts + " in " + elapsedMs + " ms");
+        return result;
+    }
+
+    private void processBatch(List<ImportRow> batch, String importType, Map<String, Department> departments,
+                              Set<String> seenEmails, TransactionTemplate batchTx) {
+        try {
+            importBatch(batch, importType, departments, seenEmails, batchTx);
+        } finally {
+            // Rows are kept for the report; plain-text passwords are not
+            batch.forEach(row -> row.values.remove("password"));
+        }
+    }
+
+    private void importBatch(List<ImportRow> batch, String importType, Map<String, Department> departments,
+                             Set<String> seenEmails, TransactionTemplate batchTx) {
+        // Field validation and duplicates within the file
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : batch) {
+            String error = validate(row, importType, departments);
+            if (error != null) {
+                row.reject(ROW_INVALID, error);
+            } else if (!seenEmails.add(row.email)) {
+                row.reject(ROW_DUPLICATE, "Email appears more than once in the file");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Duplicates already in the database, found with one query for the whole batch
+        List<String> emails = candidates.stream().map(row -> row.email).toList();
+        Set<String> existing = new HashSet<>();
+        for (String email : userRepository.findExistingEmails(emails)) {
+            existing.add(email.toLowerCase(Locale.ROOT));
+        }
+        List<ImportRow> accepted = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            if (existing.contains(row.email)) {
+                row.reject(ROW_DUPLICATE, "A user with this email already exists");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // BCrypt is the expensive part; spread it over the hashing pool
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (ImportRow row : accepted) {
+            String rawPassword = row.value("password");
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), hashingExecutor));
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).passwordHash = hashes.get(i).join();
+        }
+
+        assignIds(accepted, importType);
+
+        try {
+            batchTx.executeWithoutResult(status -> insertBatch(accepted, importType));
+            for (ImportRow row : accepted) {
+                row.status = ROW_CREATED;
+                // The JDBC insert bypasses ActivityEventListener, which records this for entity saves
+                activityEventService.record(ActivityEvent.EventType.REGISTRATION, row.userId, row.userId, null,
+                        "New user registered: " + row.email);
+            }
+        } catch (RuntimeException e) {
+            // The whole batch rolled back; usually a concurrent insert of the same email
+            String message = "Batch insert failed: " + (e instanceof DataAccessException dataAccess
+                    ? dataAccess.getMostSpecificCause().getMessage() : e.getMessage());
+            for (ImportRow row : accepted) {
+                row.reject(ROW_FAILED, message);
+                row.generatedId = null;
+            }
+        }
+    }
+
+    private String validate(ImportRow row, String importType, Map<String, Department> departments) {
+        if (row.value("name") == null) {
+            return "Name is required";
+        }
+        if (row.value("name").length() > 100) {
+            return "Name must be at most 100 characters";
+        }
+        String email = row.value("email");
+        if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
+            return "A valid email is required";
+        }
+        row.email = email.toLowerCase(Locale.ROOT);
+        String password = row.value("password");
+        if (password == null || password.length() < 6) {
+            return "Password must be at least 6 characters";
+        }
+
+        String departmentCode = row.value("departmentcode");
+        if (departmentCode != null) {
+            row.department = departments.get(departmentCode.toUpperCase(Locale.ROOT));
+            if (row.department == null) {
+                return "Unknown department code: " + departmentCode;
+            }
+        }
+
+        if (importType.equals(TYPE_STUDENTS)) {
+            String semester = row.value("semester");
+            if (semester != null) {
+                try {
+                    row.semester = Integer.parseInt(semester);
+                } catch (NumberFormatException e) {
+                    return "Semester must be a number";
+                }
+                if (row.semester < 1 || row.semester > 8) {
+                    return "Semester must be between 1 and 8";
+                }
+            }
+        } else {
+            String designation = row.value("designation");
+            if (designation != null) {
+                try {
+                    row.designation = Faculty.Designation.valueOf(
+                            designation.toUpperCase(Locale.ROOT).replace(' ', '_'));
+                } catch (IllegalArgumentException e) {
+                    return "Unknown designation: " + designation;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void assignIds(List<ImportRow> rows, String importType) {
+        if (importType.equals(TYPE_FACULTY)) {
+            List<String> facultyIds = idAllocationService.allocate(IdAllocationService.IdType.FACULTY, null, rows.size());
+            List<String> employeeIds = idAllocationService.allocate(IdAllocationService.IdType.EMPLOYEE, null, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).generatedId = facultyIds.get(i);
+                rows.get(i).employeeId = employeeIds.get(i);
+            }
+            return;
+        }
+
+        // Student ids are prefixed by department, so allocate per department
+        Map<String, List<ImportRow>> byDepartment = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            String code = row.department != null ? row.department.getDepartmentCode() : "";
+            byDepartment.computeIfAbsent(code, c -> new ArrayList<>()).add(row);
+        }
+        for (Map.Entry<String, List<ImportRow>> group : byDepartment.entrySet()) {
+            List<String> ids = idAllocationService.allocate(IdAllocationService.IdType.STUDENT,
+                    group.getKey().isEmpty() ? null : group.getKey(), group.getValue().size());
+            for (int i = 0; i < ids.size(); i++) {
+                group.getValue().get(i).generatedId = ids.get(i);
+            }
+        }
+    }
+
+    private void insertBatch(List<ImportRow> rows, String importType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        User.UserRole role = importType.equals(TYPE_STUDENTS) ? User.UserRole.STUDENT : User.UserRole.FACULTY;
+
+        List<Long> userIds = batchInsert(INSERT_USER_SQL, rows, (ps, row) -> {
+            ps.setString(1, row.value("name"));
+            ps.setString(2, row.email);
+            ps.setString(3, row.passwordHash);
+            ps.setString(4, row.value("phone"));
+            ps.setString(5, role.name());
+            ps.setBoolean(6, true);
+            ps.setBoolean(7, true);
+            ps.setBoolean(8, false);
+            ps.setTimestamp(9, now);
+        });
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).userId = userIds.get(i);
+        }
+
+        List<Long> profileIds;
+        if (importType.equals(TYPE_STUDENTS)) {
+            profileIds = batchInsert(INSERT_STUDENT_SQL, rows, (ps, row) -> {
+                ps.setLong(1, row.userId);
+                ps.setString(2, row.generatedId);
+                ps.setString(3, row.value("phone"));
+                setNullableInt(ps, 4, row.semester);
+                setNullableInt(ps, 5, row.semester);
+                setNullableLong(ps, 6, row.department != null ? row.department.getId() : null);
+                ps.setString(7, row.value("academicyear"));
+                ps.setTimestamp(8, now);
+                ps.setString(9, Student.StudentStatus.ACTIVE.name());
+                ps.setDouble(10, 0.0);
+                ps.setInt(11, 0);
+                ps.setBoolean(12, false);
+                ps.setBoolean(13, false);
+                ps.setString(14, Student.FeeStatus.PENDING.name());
+                ps.setTimestamp(15, now);
+                ps.setTimestamp(16, now);
+            });
+        } else {
+            profileIds = batchInsert(INSERT_FACULTY_SQL, rows, (ps, row) -> {
+                ps.setLong(1, row.userId);
+                ps.setString(2, row.generatedId);
+                ps.setString(3, row.employeeId);
+                ps.setString(4, row.value("phone"));
+                setNullableLong(ps, 5, row.department != null ? row.department.getId() : null);
+                ps.setString(6, (row.designation != null ? row.designation : Faculty.Designation.ASSISTANT_PROFESSOR).name());
+                ps.setString(7, Faculty.EmploymentType.FULL_TIME.name());
+                ps.setString(8, Faculty.FacultyStatus.ACTIVE.name());
+                ps.setInt(9, 0);
+                ps.setInt(10, 0);
+                ps.setBoolean(11, false);
+                ps.setBoolean(12, false);
+                ps.setBoolean(13, false);
+                ps.setTimestamp(14, now);
+                ps.setTimestamp(15, now);
+                ps.setTimestamp(16, now);
+            });
+        }
+
+        // JDBC inserts skip the entity listeners, so feed the suggestion index directly
+        List<Object> indexed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            indexed.add(rows.get(i).toProfile(profileIds.get(i), role));
+        }
+        searchSuggestionService.indexEntitiesAfterCommit(indexed);
+    }
+
+    private interface RowBinder {
+        void bind(PreparedStatement ps, ImportRow row) throws SQLException;
+    }
+
+    // One JDBC batch; returns the generated primary keys in row order
+    private List<Long> batchInsert(String sql, List<ImportRow> rows, RowBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        binder.bind(ps, rows.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " generated keys but got " + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    // CSV parsing: header names are matched case-insensitively, ignoring spaces and underscores
+    private Map<String, Integer> parseHeader(String headerLine) {
+        List<String> names = parseLine(headerLine.startsWith("\uFEFF") ? headerLine.substring(1) : headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT).replace(" ", "").replace("_", ""), i);
+        }
+        return columns;
+    }
+
+    private Map<String, String> toValues(List<String> fields, Map<String, Integer> columns) {
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, Integer> column : columns.entrySet()) {
+            if (column.getValue() < fields.size()) {
+                String value = fields.get(column.getValue()).trim();
+                if (!value.isEmpty()) {
+                    values.put(column.getKey(), value);
+                }
+            }
+        }
+        return values;
+    }
+
+    // Quoted fields may contain commas and doubled quotes; fields spanning lines are not supported
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private Map<String, Object> failure(String error) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", false);
+        result.put("error", error);
+        return result;
+    }
+
+    private static class ImportRow {
+        private final int lineNumber;
+        private final Map<String, String> values;
+        private String email;
+        private String passwordHash;
+        private Department department;
+        private Integer semester;
+        private Faculty.Designation designation;
+        private String generatedId;
+        private String employeeId;
+        private Long userId;
+        private String status;
+        private String message;
+
+        private ImportRow(int lineNumber, Map<String, String> values) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+        }
+
+        private String value(String column) {
+            return values.get(column);
+        }
+
+        private void reject(String status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        private Object toProfile(Long profileId, User.UserRole role) {
+            User user = new User();
+            user.setId(userId);
+            user.setName(value("name"));
+            user.setEmail(email);
+            user.setRole(role);
+            if (role == User.UserRole.STUDENT) {
+                Student student = new Student();
+                student.setId(profileId);
+                student.setUser(user);
+                student.setStudentId(generatedId);
+                return student;
+            }
+            Faculty faculty = new Faculty();
+            faculty.setId(profileId);
+            faculty.setUser(user);
+            faculty.setFacultyId(generatedId);
+            faculty.setEmployeeId(employeeId);
+            return faculty;
+        }
+
+        private Map<String, Object> toResult() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("line", lineNumber);
+            result.put("email", email != null ? email : value("email"));
+            result.put("status", status);
+            if (generatedId != null) {
+                result.put("generatedId", generatedId);
+            }
+            if (message != null) {
+                result.put("message", message);
+            }
+            return result;
+        }
+    }
+}
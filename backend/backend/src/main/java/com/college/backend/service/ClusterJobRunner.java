@@ -0,0 +1,230 @@
+package com.college.backend.service;
+
+import com.college.backend.model.ScheduledJobLease;
+import com.college.backend.model.ScheduledJobRun;
+import com.college.backend.repository.ScheduledJobLeaseRepository;
+import com.college.backend.repository.ScheduledJobRunRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+// Runs a periodic job on exactly one node of the cluster. Every node's @Scheduled trigger calls run();
+// the node that gets the job's lock executes it and records the run, the others return straight away.
+// On Postgres the lock is a session advisory lock held on one pooled connection for the run, so a node
+// that dies mid-run releases it with its connection; elsewhere (H2 in tests) a lease row stands in
+@Service
+public class ClusterJobRunner {
+
+    public static final String JOB_HISTORY_PRUNE = "job_history_prune";
+
+    // First key of the two-part advisory lock, so job locks cannot collide with other advisory lock users
+    private static final int ADVISORY_LOCK_CLASS = 0x6A6F62;
+
+    @Autowired
+    private ScheduledJobRunRepository runRepository;
+
+    @Autowired
+    private ScheduledJobLeaseRepository leaseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.datasource.url:}")
+    private String url;
+
+    @Value("${app.scheduler.lock-mode:auto}")
+    private String lockMode;
+
+    @Value("${app.scheduler.lease-minutes:60}")
+    private long leaseMinutes;
+
+    @Value("${app.scheduler.history-retention-days:30}")
+    private int historyRetentionDays;
+
+    private String nodeId;
+    private boolean advisoryLocks;
+
+    @PostConstruct
+    public void init() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        nodeId = host + ":" + ProcessHandle.current().pid();
+        advisoryLocks = "advisory".equalsIgnoreCase(lockMode)
+                || ("auto".equalsIgnoreCase(lockMode) && url.startsWith("jdbc:postgresql:"));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Returns true when the job ran on this node. minInterval stops a node whose trigger fires just after
+    // another node finished from running the same job again; use a bit less than the schedule's period
+    public boolean run(String jobName, Duration minInterval, LongSupplier job) {
+        if (advisoryLocks) {
+            try (Connection lockConnection = dataSource.getConnection()) {
+                if (!tryAdvisoryLock(lockConnection, jobName)) {
+                    return false;
+                }
+                try {
+                    return runLocked(jobName, minInterval, job);
+                } finally {
+                    advisoryUnlock(lockConnection, jobName);
+                }
+            } catch (SQLException e) {
+                System.err.println("Scheduled job " + jobName + " could not take its lock: " + e.getMessage());
+                return false;
+            }
+        }
+
+        if (!tryLease(jobName)) {
+            return false;
+        }
+        try {
+            return runLocked(jobName, minInterval, job);
+        } finally {
+            leaseRepository.release(jobName, nodeId);
+        }
+    }
+
+    private boolean runLocked(String jobName, Duration minInterval, LongSupplier job) {
+        LocalDateTime start = LocalDateTime.now();
+        Optional<ScheduledJobRun> last = runRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(
+                jobName, ScheduledJobRun.RunStatus.COMPLETED);
+        if (last.isPresent() && last.get().getStartedAt().isAfter(start.minus(minInterval))) {
+            return false;
+        }
+        runRepository.markAbandoned(jobName, ScheduledJobRun.RunStatus.RUNNING, ScheduledJobRun.RunStatus.ABANDONED, start);
+
+        ScheduledJobRun run = new ScheduledJobRun();
+        run.setJobName(jobName);
+        run.setNodeId(nodeId);
+        run.setStartedAt(start);
+        run = runRepository.save(run);
+
+        long startNanos = System.nanoTime();
+        try {
+            run.setRowsProcessed(job.getAsLong());
+            run.setStatus(ScheduledJobRun.RunStatus.COMPLETED);
+        } catch (Exception e) {
+            run.setStatus(ScheduledJobRun.RunStatus.FAILED);
+            run.setErrorMessage(truncate(e.getMessage()));
+            System.err.println("Scheduled job " + jobName + " failed: " + e.getMessage());
+        }
+        run.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+        run.setFinishedAt(LocalDateTime.now());
+        runRepository.save(run);
+        return true;
+    }
+
+    private boolean tryAdvisoryLock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, hashtext(?))")) {
+            statement.setInt(1, ADVISORY_LOCK_CLASS);
+            statement.setString(2, jobName);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void advisoryUnlock(Connection connection, String jobName) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?, hashtext(?))")) {
+            statement.setInt(1, ADVISORY_LOCK_CLASS);
+            statement.setString(2, jobName);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            // Session locks go with the session; make sure the pool does not hand this one out again
+            System.err.println("Scheduled job " + jobName + " could not release its lock: " + e.getMessage());
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    // The lease expires on its own if the holder dies; a run longer than the lease may overlap the next one
+    private boolean tryLease(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusMinutes(leaseMinutes);
+        if (leaseRepository.acquire(jobName, nodeId, now, until) > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(jobName)) {
+            return false;
+        }
+        ScheduledJobLease lease = new ScheduledJobLease();
+        lease.setJobName(jobName);
+        lease.setLockedBy(nodeId);
+        lease.setLockedUntil(until);
+        try {
+            leaseRepository.saveAndFlush(lease);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the lease first
+            return false;
+        }
+    }
+
+    @Scheduled(cron = "${app.scheduler.history-prune-cron:0 15 3 * * *}")
+    public void pruneHistory() {
+        run(JOB_HISTORY_PRUNE, Duration.ofHours(1), () ->
+                runRepository.deleteStartedBefore(LocalDateTime.now().minusDays(historyRetentionDays)));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getJobMonitoring() {
+        List<Map<String, Object>> jobs = new ArrayList<>();
+        for (Object[] row : runRepository.summarizeSince(LocalDateTime.now().minusDays(1))) {
+            Map<String, Object> job = new LinkedHashMap<>();
+            job.put("jobName", row[0]);
+            job.put("runs", row[1]);
+            job.put("failures", row[2]);
+            job.put("avgDurationMs", row[3]);
+            job.put("lastStartedAt", row[4]);
+            jobs.add(job);
+        }
+
+        List<Map<String, Object>> recent = new ArrayList<>();
+        for (ScheduledJobRun run : runRepository.findTop50ByOrderByIdDesc()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("id", run.getId());
+            entry.put("jobName", run.getJobName());
+            entry.put("nodeId", run.getNodeId());
+            entry.put("status", run.getStatus());
+            entry.put("startedAt", run.getStartedAt());
+            entry.put("durationMs", run.getDurationMs());
+            entry.put("rowsProcessed", run.getRowsProcessed());
+            entry.put("errorMessage", run.getErrorMessage());
+            recent.add(entry);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nodeId", nodeId);
+        result.put("lockMode", advisoryLocks ? "advisory" : "lease");
+        result.put("last24Hours", jobs);
+        result.put("recentRuns", recent);
+        return result;
+    }
+
+    private String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -43,22 +43,26 @@ public class CourseService {
 
     // Course Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Page<Course> getAllCourses(Pageable pageable) {
         return courseRepository.findAll(pageable);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Course getCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Course getCourseByCourseCode(String courseCode) {
         return courseRepository.findByCourseCode(courseCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with code: " + courseCode));
@@ -176,103 +180,123 @@ public class CourseService {
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getCourseEnrollments(Long courseId) {
         return enrollmentRepository.findByCourseId(courseId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public long getCourseEnrollmentCount(Long courseId) {
         return enrollmentRepository.countByCourseAndStatus(courseId, Enrollment.EnrollmentStatus.ENROLLED);
     }
 
     // Course Queries
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByDepartment(Long departmentId) {
         return courseRepository.findByDepartmentId(departmentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByDepartmentCode(String departmentCode) {
         return courseRepository.findByDepartmentCode(departmentCode);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByInstructor(Long instructorId) {
         return courseRepository.findByInstructorId(instructorId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByCredits(Integer credits) {
         return courseRepository.findByCredits(credits);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesBySemester(Integer semester) {
         return courseRepository.findBySemester(semester);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByAcademicYear(String academicYear) {
         return courseRepository.findByAcademicYear(academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByStatus(Course.CourseStatus status) {
         return courseRepository.findByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByType(Course.CourseType type) {
         return courseRepository.findByType(type);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesAvailableForEnrollment() {
         return courseRepository.findAvailableForEnrollment();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Course> getFullyCourses() {
         return courseRepository.findFullyCourse();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> searchCourses(String searchTerm) {
         return courseRepository.searchCourses(searchTerm);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByCreditRange(Integer minCredits, Integer maxCredits) {
         return courseRepository.findByCreditRange(minCredits, maxCredits);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesWithPrerequisites() {
         return courseRepository.findCoursesWithPrerequisites();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesWithoutPrerequisites() {
         return courseRepository.findCoursesWithoutPrerequisites();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByPrerequisite(String prerequisite) {
         return courseRepository.findByPrerequisite(prerequisite);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Course> getCoursesBySemesterAndYear(Integer semester, String academicYear) {
         return courseRepository.findBySemesterAndAcademicYear(semester, academicYear);
     }
 
     // Statistics
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public long getTotalCourseCount() {
         return courseRepository.count();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public long getCourseCountByStatus(Course.CourseStatus status) {
         return courseRepository.countByStatus(status);
     }
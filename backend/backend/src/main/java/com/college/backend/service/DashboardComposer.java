@@ -0,0 +1,108 @@
+package com.college.backend.service;
+
+import com.college.backend.config.ReplicaRouting;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// Builds a dashboard from independent sections that run concurrently, each in its own short read-only
+// transaction, so the response takes about as long as the slowest section rather than the sum of them.
+// A section that fails or misses the deadline is returned as null and named under "incompleteSections".
+// Sections may read entities the caller already loaded, but must not trigger lazy loading on them
+@Component
+public class DashboardComposer {
+
+    public static final String INCOMPLETE_SECTIONS = "incompleteSections";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("dashboardSectionExecutor")
+    private AsyncTaskExecutor sectionExecutor;
+
+    @Value("${app.dashboard.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
+
+    // Adds every section to the dashboard under its name, in the given order
+    public Map<String, Object> compose(Map<String, Object> dashboard, Map<String, Supplier<?>> sections) {
+        Sections results = run(sections);
+        sections.keySet().forEach(name -> dashboard.put(name, results.get(name)));
+        if (results.incomplete() != null) {
+            dashboard.put(INCOMPLETE_SECTIONS, results.incomplete());
+        }
+        return dashboard;
+    }
+
+    // Runs the sections and returns their results by name, for dashboards built as records
+    public Sections run(Map<String, Supplier<?>> sections) {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        // Also bounds the section's statements, so a timed-out section does not keep running in the database
+        readOnlyTx.setTimeout((int) Math.max(1, (sectionTimeoutMs + 999) / 1000));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        Map<String, Future<?>> running = new LinkedHashMap<>();
+        // Section threads read from wherever this request would, including read-your-writes on the primary
+        boolean primaryReads = ReplicaRouting.primaryReadsForced();
+        sections.forEach((name, section) -> {
+            Callable<Object> task = () -> ReplicaRouting.withPrimaryReads(primaryReads,
+                    () -> readOnlyTx.execute(status -> section.get()));
+            try {
+                running.put(name, sectionExecutor.submit(task));
+            } catch (TaskRejectedException e) {
+                // Pool saturated: compute it here rather than dropping it
+                FutureTask<Object> inline = new FutureTask<>(task);
+                inline.run();
+                running.put(name, inline);
+            }
+        });
+
+        Sections results = new Sections();
+        for (Map.Entry<String, Future<?>> entry : running.entrySet()) {
+            String name = entry.getKey();
+            Future<?> future = entry.getValue();
+            try {
+                results.values.put(name, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.incomplete.add(name);
+                System.err.println("Dashboard section '" + name + "' timed out after " + sectionTimeoutMs + " ms");
+            } catch (ExecutionException e) {
+                results.incomplete.add(name);
+                System.err.println("Dashboard section '" + name + "' failed: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.incomplete.add(name);
+            }
+        }
+        return results;
+    }
+
+    public static class Sections {
+
+        private final Map<String, Object> values = new HashMap<>();
+        private final List<String> incomplete = new ArrayList<>();
+
+        // The section's result, typed by the caller; null when it did not complete
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            return (T) values.get(name);
+        }
+
+        // Names of the sections that did not complete, or null when all did
+        public List<String> incomplete() {
+            return incomplete.isEmpty() ? null : incomplete;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.AdminSystemOverview;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
@@ -44,42 +45,42 @@ public class DashboardService {
     @Autowired
     private AttendanceRecordRepository attendanceRecordRepository;
 
+    @Autowired
+    private ActivityEventService activityEventService;
+
     // System Overview Statistics
     @PreAuthorize("hasRole('ADMIN')")
-    public Map<String, Object> getSystemOverview() {
-        Map<String, Object> overview = new HashMap<>();
-        
+    @Transactional(readOnly = true)
+    public AdminSystemOverview getSystemOverview() {
         // User Statistics
-        Map<String, Object> userStats = new HashMap<>();
-        userStats.put("totalUsers", userRepository.count());
-        userStats.put("activeUsers", userRepository.countByIsActive(true));
-        userStats.put("inactiveUsers", userRepository.countByIsActive(false));
-        userStats.put("verifiedUsers", userRepository.countByIsVerified(true));
-        userStats.put("unverifiedUsers", userRepository.countByIsVerified(false));
-        overview.put("userStatistics", userStats);
+        AdminSystemOverview.UserStatistics userStats = new AdminSystemOverview.UserStatistics(
+                userRepository.count(),
+                userRepository.countByIsActive(true),
+                userRepository.countByIsActive(false),
+                userRepository.countByIsVerified(true),
+                userRepository.countByIsVerified(false));
         
         // Role Distribution
-        Map<String, Long> roleDistribution = new HashMap<>();
-        roleDistribution.put("students", userRepository.countByRole(User.UserRole.STUDENT));
-        roleDistribution.put("faculty", userRepository.countByRole(User.UserRole.FACULTY));
-        roleDistribution.put("admins", userRepository.countByRole(User.UserRole.ADMIN));
-        overview.put("roleDistribution", roleDistribution);
+        AdminSystemOverview.RoleDistribution roleDistribution = new AdminSystemOverview.RoleDistribution(
+                userRepository.countByRole(User.UserRole.STUDENT),
+                userRepository.countByRole(User.UserRole.FACULTY),
+                userRepository.countByRole(User.UserRole.ADMIN));
         
         // Academic Statistics
-        Map<String, Object> academicStats = new HashMap<>();
-        academicStats.put("totalDepartments", departmentRepository.count());
-        academicStats.put("activeDepartments", departmentRepository.countByStatus(Department.DepartmentStatus.ACTIVE));
-        academicStats.put("totalCourses", courseRepository.count());
-        academicStats.put("activeCourses", courseRepository.countByStatus(Course.CourseStatus.ACTIVE));
-        academicStats.put("totalEnrollments", enrollmentRepository.count());
-        academicStats.put("activeEnrollments", enrollmentRepository.findByStatus(Enrollment.EnrollmentStatus.ENROLLED).size());
-        overview.put("academicStatistics", academicStats);
-        
-        return overview;
+        AdminSystemOverview.AcademicStatistics academicStats = new AdminSystemOverview.AcademicStatistics(
+                departmentRepository.count(),
+                departmentRepository.countByStatus(Department.DepartmentStatus.ACTIVE),
+                courseRepository.count(),
+                courseRepository.countByStatus(Course.CourseStatus.ACTIVE),
+                enrollmentRepository.count(),
+                enrollmentRepository.countByStatus(Enrollment.EnrollmentStatus.ENROLLED));
+        
+        return new AdminSystemOverview(userStats, roleDistribution, academicStats);
     }
 
     // Student Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
         
@@ -112,6 +113,7 @@ public class DashboardService {
 
     // Faculty Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getFacultyAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
         
@@ -148,6 +150,7 @@ public class DashboardService {
 
     // Course and Enrollment Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
         
@@ -188,40 +191,15 @@ public class DashboardService {
 
     // Recent Activities
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getRecentActivities(int limit) {
-        List<Map<String, Object>> activities = new ArrayList<>();
-        
-        // Recent User Registrations (last 30 days)
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<User> recentUsers = userRepository.findByRegistrationDateAfter(thirtyDaysAgo);
-        
-        for (int i = 0; i < Math.min(limit, recentUsers.size()); i++) {
-            User user = recentUsers.get(i);
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("type", "User Registration");
-            activity.put("description", "New user registered: " + user.getEmail());
-            activity.put("timestamp", user.getRegistrationDate());
-            activities.add(activity);
-        }
-        
-        // Recent Enrollments (last 7 days)
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        List<Enrollment> recentEnrollments = enrollmentRepository.findByEnrollmentDateBetween(sevenDaysAgo, LocalDateTime.now());
-        
-        for (int i = 0; i < Math.min(limit - activities.size(), recentEnrollments.size()); i++) {
-            Enrollment enrollment = recentEnrollments.get(i);
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("type", "Course Enrollment");
-            activity.put("description", "Student enrolled in course");
-            activity.put("timestamp", enrollment.getEnrollmentDate());
-            activities.add(activity);
-        }
-        
-        return activities;
+        // Newest events from the activity log rather than scanning users and enrollments
+        return activityEventService.getRecentActivities(limit);
     }
 
     // Department Performance
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getDepartmentPerformance() {
         List<Map<String, Object>> departmentPerformance = new ArrayList<>();
         
@@ -265,6 +243,7 @@ public class DashboardService {
 
     // System Health Monitoring
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getSystemHealthMetrics() {
         Map<String, Object> metrics = new HashMap<>();
         
@@ -291,6 +270,7 @@ public class DashboardService {
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getSystemHealth() {
         Map<String, Object> health = new HashMap<>();
         
@@ -342,6 +322,7 @@ public class DashboardService {
 
     // Academic Calendar and Alerts
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getAcademicAlerts() {
         List<Map<String, Object>> alertsList = new ArrayList<>();
         
@@ -30,23 +30,27 @@ public class DepartmentService {
 
     // Department Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Department getDepartmentById(Long departmentId) {
         return departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + departmentId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Department getDepartmentByCode(String departmentCode) {
         return departmentRepository.findByDepartmentCode(departmentCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with code: " + departmentCode));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Department getDepartmentByName(String departmentName) {
         return departmentRepository.findByDepartmentName(departmentName)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with name: " + departmentName));
@@ -138,6 +142,7 @@ public class DepartmentService {
 
     // Faculty Management within Department
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Faculty> getDepartmentFaculty(Long departmentId) {
         return facultyRepository.findByDepartmentId(departmentId);
     }
@@ -168,6 +173,7 @@ public class DepartmentService {
 
     // Course Management within Department
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Course> getDepartmentCourses(Long departmentId) {
         return courseRepository.findByDepartmentId(departmentId);
     }
@@ -184,57 +190,68 @@ public class DepartmentService {
 
     // Department Queries and Statistics
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByStatus(Department.DepartmentStatus status) {
         return departmentRepository.findByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Department> searchDepartments(String searchTerm) {
         return departmentRepository.searchDepartments(searchTerm);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsWithoutHead() {
         return departmentRepository.findDepartmentsWithoutHead();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByMinimumFacultySize(int minSize) {
         return departmentRepository.findByMinimumFacultySize(minSize);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByMinimumCourseCount(int minCourses) {
         return departmentRepository.findByMinimumCourseCount(minCourses);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByEstablishedYear(Integer year) {
         return departmentRepository.findByEstablishedYear(year);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByYearRange(Integer startYear, Integer endYear) {
         return departmentRepository.findByEstablishedYearBetween(startYear, endYear);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByFacultyCountDesc() {
         return departmentRepository.findByFacultyCountDesc();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsByCourseCountDesc() {
         return departmentRepository.findByCourseCountDesc();
     }
 
     // Statistics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getTotalDepartmentCount() {
         return departmentRepository.count();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getDepartmentCountByStatus(Department.DepartmentStatus status) {
         return departmentRepository.countByStatus(status);
     }
@@ -1,52 +1,63 @@
 package com.college.backend.service;
 
+import com.college.backend.model.NotificationOutbox;
 import com.college.backend.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+// Builds the portal's emails and queues them in the notification outbox; nothing here waits on SMTP
 @Service
 public class EmailService {
 
+    @Autowired
+    private NotificationService notificationService;
+
     public void sendVerificationEmail(User user) {
-        // In a real application, you would integrate with an email service
-        // like SendGrid, AWS SES, or JavaMail
-        
         String verificationLink = "http://localhost:8080/api/auth/verify?token=" + user.getVerificationToken();
-        
-        System.out.println("=== EMAIL VERIFICATION ===");
-        System.out.println("To: " + user.getEmail());
-        System.out.println("Subject: Verify Your Karunya College Account");
-        System.out.println("Body:");
-        System.out.println("Dear " + user.getName() + ",");
-        System.out.println("");
-        System.out.println("Welcome to Karunya College Portal!");
-        System.out.println("");
-        System.out.println("Please click the following link to verify your email address:");
-        System.out.println(verificationLink);
-        System.out.println("");
-        System.out.println("If you didn't create this account, please ignore this email.");
-        System.out.println("");
-        System.out.println("Best regards,");
-        System.out.println("Karunya College IT Team");
-        System.out.println("========================");
+
+        String body = "Dear " + user.getName() + ",\n\n" +
+                "Welcome to Karunya College Portal!\n\n" +
+                "Please click the following link to verify your email address:\n" +
+                verificationLink + "\n\n" +
+                "If you didn't create this account, please ignore this email.\n\n" +
+                "Best regards,\n" +
+                "Karunya College IT Team";
+
+        notificationService.enqueue(NotificationOutbox.Category.VERIFICATION, user.getEmail(), user.getName(),
+                "Verify Your Karunya College Account", body,
+                "verification:" + user.getEmail() + ":" + user.getVerificationToken());
     }
 
     public void sendWelcomeEmail(User user) {
-        System.out.println("=== WELCOME EMAIL ===");
-        System.out.println("To: " + user.getEmail());
-        System.out.println("Subject: Welcome to Karunya College Portal");
-        System.out.println("Body: Welcome " + user.getName() + "! Your account has been created successfully.");
-        System.out.println("Course: " + user.getCourse());
-        System.out.println("Year: " + user.getYear());
-        System.out.println("====================");
+        String body = "Welcome " + user.getName() + "! Your account has been created successfully.\n" +
+                "Course: " + user.getCourse() + "\n" +
+                "Year: " + user.getYear();
+
+        // One welcome per address
+        notificationService.enqueue(NotificationOutbox.Category.WELCOME, user.getEmail(), user.getName(),
+                "Welcome to Karunya College Portal", body, "welcome:" + user.getEmail());
     }
 
     public void sendPasswordResetEmail(User user, String resetToken) {
         String resetLink = "http://localhost:3000/reset-password?token=" + resetToken;
-        
-        System.out.println("=== PASSWORD RESET EMAIL ===");
-        System.out.println("To: " + user.getEmail());
-        System.out.println("Subject: Reset Your Password");
-        System.out.println("Body: Click here to reset your password: " + resetLink);
-        System.out.println("===========================");
+
+        notificationService.enqueue(NotificationOutbox.Category.PASSWORD_RESET, user.getEmail(), user.getName(),
+                "Reset Your Password", "Click here to reset your password: " + resetLink,
+                "password-reset:" + user.getEmail() + ":" + resetToken);
+    }
+
+    // Returns false when the same message to the same recipient is already queued or was sent recently
+    public boolean sendStudentMessage(User student, User sender, String courseName, String subject, String message) {
+        String body = "Dear " + student.getName() + ",\n\n" +
+                message + "\n\n" +
+                "-- \n" + sender.getName() + " (" + courseName + ")";
+
+        return notificationService.enqueue(NotificationOutbox.Category.STUDENT_MESSAGE, student.getEmail(), student.getName(),
+                subject, body, null) != null;
+    }
+
+    public boolean sendNotification(User user, String subject, String message) {
+        return notificationService.enqueue(NotificationOutbox.Category.NOTIFICATION, user.getEmail(), user.getName(),
+                subject, message, null) != null;
     }
-}
\ No newline at end of file
+}
@@ -33,11 +33,13 @@ public class EnrollmentService {
 
     // Enrollment Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Page<Enrollment> getAllEnrollments(Pageable pageable) {
         return enrollmentRepository.findAll(pageable);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or (hasRole('STUDENT') and #enrollment.student.user.id == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public Enrollment getEnrollmentById(Long enrollmentId) {
         return enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found with ID: " + enrollmentId));
@@ -85,21 +87,25 @@ public class EnrollmentService {
 
     // Student Enrollment Operations
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public List<Enrollment> getStudentEnrollments(Long studentId) {
         return enrollmentRepository.findByStudentId(studentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public List<Enrollment> getStudentEnrollmentsByAcademicYear(Long studentId, String academicYear) {
         return enrollmentRepository.findByStudentAndAcademicYear(studentId, academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public List<Enrollment> getStudentEnrollmentsBySemester(Long studentId, Integer semester, String academicYear) {
         return enrollmentRepository.findByStudentSemesterAndYear(studentId, semester, academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public Integer getStudentTotalCredits(Long studentId, String academicYear, Integer semester) {
         return enrollmentRepository.getTotalCreditsForStudentInSemester(studentId, academicYear, semester);
     }
@@ -120,26 +126,31 @@ public class EnrollmentService {
 
     // Course Enrollment Operations
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getCourseEnrollments(Long courseId) {
         return enrollmentRepository.findByCourseId(courseId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public long getCourseEnrollmentCount(Long courseId, Enrollment.EnrollmentStatus status) {
         return enrollmentRepository.countByCourseAndStatus(courseId, status);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsByStatus(Enrollment.EnrollmentStatus status) {
         return enrollmentRepository.findByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsByAcademicYear(String academicYear) {
         return enrollmentRepository.findByAcademicYear(academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsBySemester(Integer semester) {
         return enrollmentRepository.findBySemester(semester);
     }
@@ -156,49 +167,58 @@ public class EnrollmentService {
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getPendingGrades() {
         return enrollmentRepository.findPendingGrades();
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getCompletedEnrollments() {
         return enrollmentRepository.findCompletedEnrollments();
     }
 
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public List<Enrollment> getCompletedEnrollmentsByStudent(Long studentId) {
         return enrollmentRepository.findCompletedEnrollmentsByStudent(studentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #studentId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public Double calculateStudentGPA(Long studentId) {
         return enrollmentRepository.calculateGPAForStudent(studentId);
     }
 
     // Department and Instructor specific queries
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsByDepartment(Long departmentId) {
         return enrollmentRepository.findByDepartment(departmentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsByInstructor(Long instructorId) {
         return enrollmentRepository.findByInstructor(instructorId);
     }
 
     // Time-based queries
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getEnrollmentsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return enrollmentRepository.findByEnrollmentDateBetween(startDate, endDate);
     }
 
     // Statistics and Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getTotalEnrollmentCount() {
         return enrollmentRepository.count();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getEnrollmentCountByStatus(Enrollment.EnrollmentStatus status) {
         List<Enrollment> enrollments = enrollmentRepository.findByStatus(status);
         return enrollments.size();
@@ -1,12 +1,15 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.AttendanceReport;
+import com.college.backend.dto.CourseRef;
+import com.college.backend.dto.SessionAttendance;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,15 +23,18 @@ import java.util.stream.Collectors;
 @Transactional
 public class FacultyAttendanceManagementService {
 
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
     @Autowired
     private FacultyRepository facultyRepository;
     
     @Autowired
     private CourseRepository courseRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private EnrollmentRepository enrollmentRepository;
     
@@ -40,6 +46,7 @@ public class FacultyAttendanceManagementService {
 
     // Attendance Management Overview
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getAttendanceManagementOverview() {
         Faculty faculty = getCurrentFaculty();
         Map<String, Object> overview = new HashMap<>();
@@ -172,85 +179,61 @@ public class FacultyAttendanceManagementService {
 
     // Get Attendance for a Specific Date and Course
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> getSessionAttendance(Long courseId, LocalDate attendanceDate) {
+    @Transactional(readOnly = true)
+    public SessionAttendance getSessionAttendance(Long courseId, LocalDate attendanceDate) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
         
-        Map<String, Object> result = new HashMap<>();
-        result.put("course", Map.of(
-            "id", course.getId(),
-            "name", course.getCourseName(),
-            "code", course.getCourseCode()
-        ));
-        result.put("attendanceDate", attendanceDate);
-        
         // Get all enrolled students
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        List<Map<String, Object>> attendanceList = new ArrayList<>();
+        List<SessionAttendance.Entry> attendanceList = new ArrayList<>();
         
         for (Enrollment enrollment : enrollments) {
             Student student = enrollment.getStudent();
-            Map<String, Object> attendanceInfo = new HashMap<>();
-            
-            attendanceInfo.put("studentId", student.getId());
-            attendanceInfo.put("studentName", student.getUser().getName());
-            attendanceInfo.put("studentNumber", student.getStudentId());
-            attendanceInfo.put("email", student.getUser().getEmail());
             
             // Check if attendance exists for this date
             Optional<AttendanceRecord> attendanceRecord = attendanceRepository
                     .findByStudentIdAndCourseIdAndAttendanceDate(student.getId(), courseId, attendanceDate);
+            AttendanceRecord record = attendanceRecord.orElse(null);
             
-            if (attendanceRecord.isPresent()) {
-                AttendanceRecord record = attendanceRecord.get();
-                attendanceInfo.put("status", record.getStatus());
-                attendanceInfo.put("remarks", record.getRemarks());
-                attendanceInfo.put("markedAt", record.getCreatedAt());
-                attendanceInfo.put("isMarked", true);
-            } else {
-                attendanceInfo.put("status", null);
-                attendanceInfo.put("remarks", null);
-                attendanceInfo.put("markedAt", null);
-                attendanceInfo.put("isMarked", false);
-            }
-            
-            attendanceList.add(attendanceInfo);
+            attendanceList.add(new SessionAttendance.Entry(
+                student.getId(),
+                student.getUser().getName(),
+                student.getStudentId(),
+                student.getUser().getEmail(),
+                record != null ? record.getStatus() : null,
+                record != null ? record.getRemarks() : null,
+                record != null ? record.getCreatedAt() : null,
+                record != null
+            ));
         }
         
         // Sort by student name
-        attendanceList.sort((a, b) -> ((String) a.get("studentName")).compareTo((String) b.get("studentName")));
-        
-        result.put("attendanceList", attendanceList);
-        result.put("totalStudents", attendanceList.size());
+        attendanceList.sort(Comparator.comparing(SessionAttendance.Entry::studentName));
         
         // Calculate attendance statistics for this session
         long presentCount = attendanceList.stream()
-                .filter(a -> AttendanceRecord.AttendanceStatus.PRESENT.equals(a.get("status")))
+                .filter(a -> a.status() == AttendanceRecord.AttendanceStatus.PRESENT)
                 .count();
         long absentCount = attendanceList.stream()
-                .filter(a -> AttendanceRecord.AttendanceStatus.ABSENT.equals(a.get("status")))
+                .filter(a -> a.status() == AttendanceRecord.AttendanceStatus.ABSENT)
                 .count();
         long lateCount = attendanceList.stream()
-                .filter(a -> AttendanceRecord.AttendanceStatus.LATE.equals(a.get("status")))
+                .filter(a -> a.status() == AttendanceRecord.AttendanceStatus.LATE)
                 .count();
         long notMarked = attendanceList.stream()
-                .filter(a -> a.get("status") == null)
+                .filter(a -> a.status() == null)
                 .count();
+        double attendanceRate = attendanceList.size() > 0 ?
+                Math.round((double) presentCount / attendanceList.size() * 100.0 * 100.0) / 100.0 : 0.0;
         
-        result.put("sessionStatistics", Map.of(
-            "present", presentCount,
-            "absent", absentCount,
-            "late", lateCount,
-            "notMarked", notMarked,
-            "attendanceRate", attendanceList.size() > 0 ? 
-                Math.round((double) presentCount / attendanceList.size() * 100.0 * 100.0) / 100.0 : 0.0
-        ));
-        
-        return result;
+        return new SessionAttendance(CourseRef.of(course), attendanceDate, attendanceList, attendanceList.size(),
+                new SessionAttendance.Statistics(presentCount, absentCount, lateCount, notMarked, attendanceRate));
     }
 
     // Get Student Attendance History
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentAttendanceHistory(Long courseId, Long studentId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -329,6 +312,7 @@ public class FacultyAttendanceManagementService {
 
     // Get Course Attendance Analytics
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseAttendanceAnalytics(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -432,68 +416,35 @@ public class FacultyAttendanceManagementService {
 
     // Generate Attendance Reports
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> generateAttendanceReport(Long courseId, String reportType, 
-                                                       LocalDate startDate, LocalDate endDate) {
+    @Transactional(readOnly = true)
+    public AttendanceReport generateAttendanceReport(Long courseId, String reportType,
+                                                     LocalDate startDate, LocalDate endDate) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
         
-        Map<String, Object> report = new HashMap<>();
-        report.put("reportType", reportType);
-        report.put("course", Map.of(
-            "id", course.getId(),
-            "name", course.getCourseName(),
-            "code", course.getCourseCode()
-        ));
-        report.put("dateRange", Map.of(
-            "startDate", startDate,
-            "endDate", endDate
-        ));
-        report.put("generatedBy", faculty.getUser().getName());
-        report.put("generatedAt", LocalDateTime.now());
-        
         // Get attendance records within date range
         List<AttendanceRecord> attendanceRecords = attendanceRepository
                 .findByCourseIdAndAttendanceDateBetweenOrderByAttendanceDateDesc(courseId, startDate, endDate);
         
-        switch (reportType.toLowerCase()) {
-            case "summary":
-                report.putAll(generateSummaryReport(attendanceRecords, courseId));
-                break;
-            case "detailed":
-                report.putAll(generateDetailedReport(attendanceRecords, courseId));
-                break;
-            case "defaulters":
-                report.putAll(generateDefaultersReport(courseId, startDate, endDate));
-                break;
-            case "daily":
-                report.putAll(generateDailyReport(attendanceRecords));
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown report type: " + reportType);
-        }
+        AttendanceReport.Section section = switch (reportType.toLowerCase()) {
+            case "summary" -> generateSummaryReport(attendanceRecords, courseId);
+            case "detailed" -> generateDetailedReport(attendanceRecords, courseId);
+            case "defaulters" -> generateDefaultersReport(courseId, startDate, endDate);
+            case "daily" -> generateDailyReport(attendanceRecords);
+            default -> throw new IllegalArgumentException("Unknown report type: " + reportType);
+        };
         
-        return report;
+        return new AttendanceReport(reportType, CourseRef.of(course), new AttendanceReport.DateRange(startDate, endDate),
+                faculty.getUser().getName(), LocalDateTime.now(), section);
     }
 
     // Helper Methods
     private Faculty getCurrentFaculty() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return facultyRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        return currentActorResolver.currentFaculty();
     }
 
     private Course validateCourseAccess(Long courseId, Faculty faculty) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        
-        if (!course.getInstructor().getId().equals(faculty.getId())) {
-            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
-        }
-        
-        return course;
+        return courseAccessAuthorizer.loadWithAccess(courseId, faculty);
     }
 
     private Map<String, Object> getCourseAttendanceSummary(Long courseId) {
@@ -591,77 +542,58 @@ public class FacultyAttendanceManagementService {
     }
 
     // Report Generation Helper Methods
-    private Map<String, Object> generateSummaryReport(List<AttendanceRecord> records, Long courseId) {
-        Map<String, Object> summary = new HashMap<>();
-        
+    private AttendanceReport.Summary generateSummaryReport(List<AttendanceRecord> records, Long courseId) {
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        summary.put("totalStudents", enrollments.size());
-        summary.put("totalRecords", records.size());
         
-        if (!records.isEmpty()) {
-            Map<String, Long> statusDistribution = records.stream()
-                    .collect(Collectors.groupingBy(
-                        a -> a.getStatus().name(),
-                        Collectors.counting()
-                    ));
-            summary.put("statusDistribution", statusDistribution);
-            
-            long presentCount = records.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                    .count();
-            double overallRate = (double) presentCount / records.size() * 100;
-            summary.put("overallAttendanceRate", Math.round(overallRate * 100.0) / 100.0);
+        if (records.isEmpty()) {
+            return new AttendanceReport.Summary(enrollments.size(), 0, null, null);
         }
         
-        return summary;
+        Map<String, Long> statusDistribution = records.stream()
+                .collect(Collectors.groupingBy(
+                    a -> a.getStatus().name(),
+                    Collectors.counting()
+                ));
+        
+        long presentCount = countStatus(records, AttendanceRecord.AttendanceStatus.PRESENT);
+        double overallRate = (double) presentCount / records.size() * 100;
+        return new AttendanceReport.Summary(enrollments.size(), records.size(), statusDistribution,
+                Math.round(overallRate * 100.0) / 100.0);
     }
 
-    private Map<String, Object> generateDetailedReport(List<AttendanceRecord> records, Long courseId) {
-        Map<String, Object> detailed = new HashMap<>();
-        
+    private AttendanceReport.Detailed generateDetailedReport(List<AttendanceRecord> records, Long courseId) {
         // Group by student
         Map<Long, List<AttendanceRecord>> studentRecords = records.stream()
                 .collect(Collectors.groupingBy(a -> a.getStudent().getId()));
         
-        List<Map<String, Object>> studentDetails = new ArrayList<>();
+        List<AttendanceReport.StudentAttendance> studentDetails = new ArrayList<>();
         for (Map.Entry<Long, List<AttendanceRecord>> entry : studentRecords.entrySet()) {
             Student student = studentRepository.findById(entry.getKey()).orElse(null);
             if (student != null) {
                 List<AttendanceRecord> studentAttendance = entry.getValue();
                 
-                Map<String, Object> studentDetail = new HashMap<>();
-                studentDetail.put("studentId", student.getId());
-                studentDetail.put("studentName", student.getUser().getName());
-                studentDetail.put("studentNumber", student.getStudentId());
-                
-                long presentCount = studentAttendance.stream()
-                        .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                        .count();
+                long presentCount = countStatus(studentAttendance, AttendanceRecord.AttendanceStatus.PRESENT);
                 double attendanceRate = (double) presentCount / studentAttendance.size() * 100;
                 
-                studentDetail.put("totalClasses", studentAttendance.size());
-                studentDetail.put("present", presentCount);
-                studentDetail.put("absent", studentAttendance.stream()
-                        .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.ABSENT)
-                        .count());
-                studentDetail.put("late", studentAttendance.stream()
-                        .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.LATE)
-                        .count());
-                studentDetail.put("attendancePercentage", Math.round(attendanceRate * 100.0) / 100.0);
-                
-                studentDetails.add(studentDetail);
+                studentDetails.add(new AttendanceReport.StudentAttendance(
+                    student.getId(),
+                    student.getUser().getName(),
+                    student.getStudentId(),
+                    studentAttendance.size(),
+                    presentCount,
+                    countStatus(studentAttendance, AttendanceRecord.AttendanceStatus.ABSENT),
+                    countStatus(studentAttendance, AttendanceRecord.AttendanceStatus.LATE),
+                    Math.round(attendanceRate * 100.0) / 100.0
+                ));
             }
         }
         
-        detailed.put("studentDetails", studentDetails);
-        return detailed;
+        return new AttendanceReport.Detailed(studentDetails);
     }
 
-    private Map<String, Object> generateDefaultersReport(Long courseId, LocalDate startDate, LocalDate endDate) {
-        Map<String, Object> defaulters = new HashMap<>();
-        
+    private AttendanceReport.Defaulters generateDefaultersReport(Long courseId, LocalDate startDate, LocalDate endDate) {
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        List<Map<String, Object>> defaultersList = new ArrayList<>();
+        List<AttendanceReport.Defaulter> defaultersList = new ArrayList<>();
         
         for (Enrollment enrollment : enrollments) {
             Student student = enrollment.getStudent();
@@ -669,69 +601,57 @@ public class FacultyAttendanceManagementService {
                     .findByStudentIdAndCourseIdAndAttendanceDateBetween(student.getId(), courseId, startDate, endDate);
             
             if (!studentAttendance.isEmpty()) {
-                long presentCount = studentAttendance.stream()
-                        .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                        .count();
+                long presentCount = countStatus(studentAttendance, AttendanceRecord.AttendanceStatus.PRESENT);
                 double attendanceRate = (double) presentCount / studentAttendance.size() * 100;
                 
                 if (attendanceRate < 75.0) { // Defaulter threshold
-                    Map<String, Object> defaulter = new HashMap<>();
-                    defaulter.put("studentId", student.getId());
-                    defaulter.put("studentName", student.getUser().getName());
-                    defaulter.put("studentNumber", student.getStudentId());
-                    defaulter.put("email", student.getUser().getEmail());
-                    defaulter.put("totalClasses", studentAttendance.size());
-                    defaulter.put("present", presentCount);
-                    defaulter.put("attendancePercentage", Math.round(attendanceRate * 100.0) / 100.0);
-                    defaultersList.add(defaulter);
+                    defaultersList.add(new AttendanceReport.Defaulter(
+                        student.getId(),
+                        student.getUser().getName(),
+                        student.getStudentId(),
+                        student.getUser().getEmail(),
+                        studentAttendance.size(),
+                        presentCount,
+                        Math.round(attendanceRate * 100.0) / 100.0
+                    ));
                 }
             }
         }
         
         // Sort by attendance percentage
-        defaultersList.sort((a, b) -> Double.compare((Double) a.get("attendancePercentage"), (Double) b.get("attendancePercentage")));
+        defaultersList.sort(Comparator.comparingDouble(AttendanceReport.Defaulter::attendancePercentage));
         
-        defaulters.put("defaultersList", defaultersList);
-        defaulters.put("totalDefaulters", defaultersList.size());
-        return defaulters;
+        return new AttendanceReport.Defaulters(defaultersList, defaultersList.size());
     }
 
-    private Map<String, Object> generateDailyReport(List<AttendanceRecord> records) {
-        Map<String, Object> daily = new HashMap<>();
-        
+    private AttendanceReport.Daily generateDailyReport(List<AttendanceRecord> records) {
         Map<String, List<AttendanceRecord>> dailyRecords = records.stream()
                 .collect(Collectors.groupingBy(a -> a.getAttendanceDate().toString()));
         
-        List<Map<String, Object>> dailyDetails = new ArrayList<>();
+        List<AttendanceReport.Day> dailyDetails = new ArrayList<>();
         for (Map.Entry<String, List<AttendanceRecord>> entry : dailyRecords.entrySet()) {
             List<AttendanceRecord> dayRecords = entry.getValue();
             
-            Map<String, Object> dayDetail = new HashMap<>();
-            dayDetail.put("date", entry.getKey());
-            dayDetail.put("totalStudents", dayRecords.size());
-            
-            long present = dayRecords.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                    .count();
-            
-            dayDetail.put("present", present);
-            dayDetail.put("absent", dayRecords.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.ABSENT)
-                    .count());
-            dayDetail.put("late", dayRecords.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.LATE)
-                    .count());
-            
+            long present = countStatus(dayRecords, AttendanceRecord.AttendanceStatus.PRESENT);
             double attendanceRate = (double) present / dayRecords.size() * 100;
-            dayDetail.put("attendanceRate", Math.round(attendanceRate * 100.0) / 100.0);
             
-            dailyDetails.add(dayDetail);
+            dailyDetails.add(new AttendanceReport.Day(
+                entry.getKey(),
+                dayRecords.size(),
+                present,
+                countStatus(dayRecords, AttendanceRecord.AttendanceStatus.ABSENT),
+                countStatus(dayRecords, AttendanceRecord.AttendanceStatus.LATE),
+                Math.round(attendanceRate * 100.0) / 100.0
+            ));
         }
         
         // Sort by date
-        dailyDetails.sort((a, b) -> ((String) b.get("date")).compareTo((String) a.get("date")));
+        dailyDetails.sort(Comparator.comparing(AttendanceReport.Day::date).reversed());
         
-        daily.put("dailyDetails", dailyDetails);
-        return daily;
+        return new AttendanceReport.Daily(dailyDetails);
+    }
+
+    private long countStatus(List<AttendanceRecord> records, AttendanceRecord.AttendanceStatus status) {
+        return records.stream().filter(a -> a.getStatus() == status).count();
     }
 }
\ No newline at end of file
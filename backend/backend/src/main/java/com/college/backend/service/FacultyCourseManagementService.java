@@ -1,14 +1,16 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.CourseDetails;
+import com.college.backend.dto.CourseSummary;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,15 +21,18 @@ import java.util.*;
 @Transactional
 public class FacultyCourseManagementService {
 
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
     @Autowired
     private FacultyRepository facultyRepository;
     
     @Autowired
     private CourseRepository courseRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private EnrollmentRepository enrollmentRepository;
     
@@ -42,6 +47,7 @@ public class FacultyCourseManagementService {
 
     // Course Overview and Management
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getFacultyCourseOverview() {
         Faculty faculty = getCurrentFaculty();
         Map<String, Object> overview = new HashMap<>();
@@ -106,40 +112,22 @@ public class FacultyCourseManagementService {
 
     // Course Material Management
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> getCourseDetails(Long courseId) {
+    @Transactional(readOnly = true)
+    public CourseDetails getCourseDetails(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
         
-        Map<String, Object> details = new HashMap<>();
-        details.put("course", course);
-        
         // Enrollment information
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        details.put("enrollments", enrollments);
-        details.put("enrolledStudentCount", enrollments.size());
-        
-        // Student details
-        List<Map<String, Object>> studentDetails = new ArrayList<>();
-        for (Enrollment enrollment : enrollments) {
-            Map<String, Object> studentInfo = new HashMap<>();
-            Student student = enrollment.getStudent();
-            studentInfo.put("studentId", student.getId());
-            studentInfo.put("studentNumber", student.getStudentId());
-            studentInfo.put("name", student.getUser().getName());
-            studentInfo.put("email", student.getUser().getEmail());
-            studentInfo.put("enrollmentDate", enrollment.getEnrollmentDate());
-            studentInfo.put("status", enrollment.getStatus());
-            studentInfo.put("currentGrade", enrollment.getCurrentGrade());
-            
-            studentDetails.add(studentInfo);
-        }
-        details.put("enrolledStudents", studentDetails);
         
         // Recent activity in the course
         List<Map<String, Object>> recentActivity = getRecentCourseActivity(courseId);
-        details.put("recentActivity", recentActivity);
         
-        return details;
+        return new CourseDetails(CourseSummary.of(course),
+                enrollments.stream().map(CourseDetails.EnrollmentRow::of).toList(),
+                enrollments.size(),
+                enrollments.stream().map(CourseDetails.EnrolledStudent::of).toList(),
+                recentActivity);
     }
 
     @PreAuthorize("hasRole('FACULTY')")
@@ -174,9 +162,10 @@ public class FacultyCourseManagementService {
 
     // Course Analytics for Faculty
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseAnalytics(Long courseId) {
         Faculty faculty = getCurrentFaculty();
-        Course course = validateCourseAccess(courseId, faculty);
+        courseAccessAuthorizer.checkAccess(courseId, faculty);
         
         Map<String, Object> analytics = new HashMap<>();
         
@@ -232,7 +221,7 @@ public class FacultyCourseManagementService {
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "Course schedule updated successfully");
-        result.put("course", updatedCourse);
+        result.put("course", CourseSummary.of(updatedCourse));
         result.put("updatedBy", faculty.getUser().getName());
         result.put("updateTime", LocalDateTime.now());
         
@@ -258,7 +247,7 @@ public class FacultyCourseManagementService {
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "Course status updated from " + currentStatus + " to " + newStatus);
-        result.put("course", updatedCourse);
+        result.put("course", CourseSummary.of(updatedCourse));
         result.put("previousStatus", currentStatus);
         result.put("newStatus", newStatus);
         result.put("updatedBy", faculty.getUser().getName());
@@ -293,7 +282,7 @@ public class FacultyCourseManagementService {
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "Course capacity updated successfully");
-        result.put("course", updatedCourse);
+        result.put("course", CourseSummary.of(updatedCourse));
         result.put("previousCapacity", currentCapacity);
         result.put("newCapacity", newCapacity);
         result.put("currentEnrollments", currentEnrollments);
@@ -305,6 +294,7 @@ public class FacultyCourseManagementService {
 
     // Course Performance Summary
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCoursePerformanceSummary(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -354,24 +344,11 @@ public class FacultyCourseManagementService {
 
     // Helper Methods
     private Faculty getCurrentFaculty() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return facultyRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        return currentActorResolver.currentFaculty();
     }
 
     private Course validateCourseAccess(Long courseId, Faculty faculty) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        
-        // Check if faculty is assigned to this course
-        if (!course.getInstructor().getId().equals(faculty.getId())) {
-            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
-        }
-        
-        return course;
+        return courseAccessAuthorizer.loadWithAccess(courseId, faculty);
     }
 
     private List<Map<String, Object>> getRecentCourseActivity(Long courseId) {
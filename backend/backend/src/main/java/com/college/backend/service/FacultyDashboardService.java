@@ -1,34 +1,41 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.DepartmentRef;
+import com.college.backend.dto.FacultyDashboard;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class FacultyDashboardService {
 
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
     @Autowired
     private FacultyRepository facultyRepository;
     
     @Autowired
     private CourseRepository courseRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private EnrollmentRepository enrollmentRepository;
     
@@ -44,89 +51,54 @@ public class FacultyDashboardService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
-    // Comprehensive Faculty Dashboard Overview
+    @Autowired
+    private DashboardComposer dashboardComposer;
+
+    // Comprehensive Faculty Dashboard Overview. Runs outside a transaction: the sections get their own, and a
+    // request thread holding a connection while it waits for them could starve the pool
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> getFacultyDashboardOverview() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FacultyDashboard getFacultyDashboardOverview() {
         Faculty faculty = getCurrentFaculty();
-        Map<String, Object> dashboard = new HashMap<>();
-        
-        // Faculty Profile Information
-        Map<String, Object> facultyProfile = new HashMap<>();
-        facultyProfile.put("id", faculty.getId());
-        facultyProfile.put("name", faculty.getUser().getName());
-        facultyProfile.put("email", faculty.getUser().getEmail());
-        facultyProfile.put("employeeId", faculty.getEmployeeId());
-        facultyProfile.put("designation", faculty.getDesignation());
-        facultyProfile.put("status", faculty.getStatus());
-        facultyProfile.put("experienceYears", faculty.getExperienceYears());
-        facultyProfile.put("isDepartmentHead", faculty.getIsDepartmentHead());
-        facultyProfile.put("employmentType", faculty.getEmploymentType());
-        
-        if (faculty.getDepartment() != null) {
-            facultyProfile.put("department", Map.of(
-                "id", faculty.getDepartment().getId(),
-                "name", faculty.getDepartment().getName(),
-                "code", faculty.getDepartment().getCode()
-            ));
-        }
-        
-        dashboard.put("facultyProfile", facultyProfile);
-        
-        // Teaching Load Overview
+        FacultyDashboard.Profile facultyProfile = new FacultyDashboard.Profile(
+                faculty.getId(),
+                faculty.getUser().getName(),
+                faculty.getUser().getEmail(),
+                faculty.getEmployeeId(),
+                faculty.getDesignation(),
+                faculty.getStatus(),
+                faculty.getExperienceYears(),
+                faculty.getIsDepartmentHead(),
+                faculty.getEmploymentType(),
+                DepartmentRef.of(faculty.getDepartment()));
+        
+        // The sections are independent; they run side by side on the course list loaded here
         List<Course> assignedCourses = courseRepository.findByInstructorId(faculty.getId());
-        Map<String, Object> teachingLoad = new HashMap<>();
-        teachingLoad.put("totalCourses", assignedCourses.size());
-        
-        // Calculate total credits and enrolled students
-        int totalCredits = assignedCourses.stream()
-                .mapToInt(course -> course.getCredits() != null ? course.getCredits() : 0)
-                .sum();
-        teachingLoad.put("totalCredits", totalCredits);
-        
-        int totalStudents = assignedCourses.stream()
-                .mapToInt(course -> (int) enrollmentRepository.countByCourseId(course.getId()))
-                .sum();
-        teachingLoad.put("totalStudents", totalStudents);
-        
-        // Course status distribution
-        Map<String, Long> courseStatusDistribution = assignedCourses.stream()
-                .collect(Collectors.groupingBy(
-                    course -> course.getStatus().name(),
-                    Collectors.counting()
-                ));
-        teachingLoad.put("courseStatusDistribution", courseStatusDistribution);
-        
-        dashboard.put("teachingLoad", teachingLoad);
-        
-        // Academic Performance Overview
-        Map<String, Object> academicPerformance = getAcademicPerformanceOverview(assignedCourses);
-        dashboard.put("academicPerformance", academicPerformance);
-        
-        // Attendance Overview
-        Map<String, Object> attendanceOverview = getAttendanceOverview(assignedCourses);
-        dashboard.put("attendanceOverview", attendanceOverview);
-        
-        // Grading Progress
-        Map<String, Object> gradingProgress = getGradingProgress(assignedCourses);
-        dashboard.put("gradingProgress", gradingProgress);
-        
-        // Recent Activities
-        List<Map<String, Object>> recentActivities = getRecentActivities(assignedCourses, 10);
-        dashboard.put("recentActivities", recentActivities);
-        
-        // Pending Tasks
-        Map<String, Object> pendingTasks = getPendingTasks(assignedCourses);
-        dashboard.put("pendingTasks", pendingTasks);
-        
-        // Teaching Insights and Analytics
-        Map<String, Object> teachingInsights = getTeachingInsights(assignedCourses);
-        dashboard.put("teachingInsights", teachingInsights);
-        
-        return dashboard;
+        Map<String, Supplier<?>> sections = new LinkedHashMap<>();
+        sections.put("teachingLoad", () -> getTeachingLoad(assignedCourses));
+        sections.put("academicPerformance", () -> getAcademicPerformanceOverview(assignedCourses));
+        sections.put("attendanceOverview", () -> getAttendanceOverview(assignedCourses));
+        sections.put("gradingProgress", () -> getGradingProgress(assignedCourses));
+        sections.put("recentActivities", () -> getRecentActivities(assignedCourses, 10));
+        sections.put("pendingTasks", () -> getPendingTasks(assignedCourses));
+        sections.put("teachingInsights", () -> getTeachingInsights(assignedCourses));
+        DashboardComposer.Sections results = dashboardComposer.run(sections);
+        
+        return new FacultyDashboard(
+                facultyProfile,
+                results.get("teachingLoad"),
+                results.get("academicPerformance"),
+                results.get("attendanceOverview"),
+                results.get("gradingProgress"),
+                results.get("recentActivities"),
+                results.get("pendingTasks"),
+                results.get("teachingInsights"),
+                results.incomplete());
     }
 
     // Course-Specific Analytics
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getCourseAnalytics(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -144,31 +116,20 @@ public class FacultyDashboardService {
             "maxCapacity", course.getMaxCapacity()
         ));
         
-        // Enrollment Analytics
-        Map<String, Object> enrollmentAnalytics = getEnrollmentAnalytics(courseId);
-        analytics.put("enrollmentAnalytics", enrollmentAnalytics);
-        
-        // Grade Analytics
-        Map<String, Object> gradeAnalytics = getGradeAnalytics(courseId);
-        analytics.put("gradeAnalytics", gradeAnalytics);
-        
-        // Attendance Analytics
-        Map<String, Object> attendanceAnalytics = getAttendanceAnalytics(courseId);
-        analytics.put("attendanceAnalytics", attendanceAnalytics);
-        
-        // Student Performance Analysis
-        List<Map<String, Object>> studentPerformance = getStudentPerformanceAnalysis(courseId);
-        analytics.put("studentPerformance", studentPerformance);
-        
-        // Course Progression Timeline
-        Map<String, Object> progressionTimeline = getCourseProgressionTimeline(courseId);
-        analytics.put("progressionTimeline", progressionTimeline);
+        Map<String, Supplier<?>> sections = new LinkedHashMap<>();
+        sections.put("enrollmentAnalytics", () -> getEnrollmentAnalytics(courseId));
+        sections.put("gradeAnalytics", () -> getGradeAnalytics(courseId));
+        sections.put("attendanceAnalytics", () -> getAttendanceAnalytics(courseId));
+        sections.put("studentPerformance", () -> getStudentPerformanceAnalysis(courseId));
+        sections.put("progressionTimeline", () -> getCourseProgressionTimeline(courseId));
+        dashboardComposer.compose(analytics, sections);
         
         return analytics;
     }
 
     // Teaching Performance Metrics
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getTeachingPerformanceMetrics() {
         Faculty faculty = getCurrentFaculty();
         List<Course> assignedCourses = courseRepository.findByInstructorId(faculty.getId());
@@ -285,6 +246,7 @@ public class FacultyDashboardService {
 
     // Student Interaction Analytics
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentInteractionAnalytics() {
         Faculty faculty = getCurrentFaculty();
         List<Course> assignedCourses = courseRepository.findByInstructorId(faculty.getId());
@@ -402,6 +364,7 @@ public class FacultyDashboardService {
 
     // Weekly Teaching Schedule and Analytics
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getWeeklyTeachingAnalytics() {
         Faculty faculty = getCurrentFaculty();
         List<Course> assignedCourses = courseRepository.findByInstructorId(faculty.getId());
@@ -498,99 +461,94 @@ public class FacultyDashboardService {
 
     // Helper Methods
     private Faculty getCurrentFaculty() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return facultyRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        return currentActorResolver.currentFaculty();
     }
 
     private Course validateCourseAccess(Long courseId, Faculty faculty) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        return courseAccessAuthorizer.loadWithAccess(courseId, faculty);
+    }
+
+    private FacultyDashboard.TeachingLoad getTeachingLoad(List<Course> courses) {
+        // Calculate total credits and enrolled students
+        int totalCredits = courses.stream()
+                .mapToInt(course -> course.getCredits() != null ? course.getCredits() : 0)
+                .sum();
         
-        if (!course.getInstructor().getId().equals(faculty.getId())) {
-            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
-        }
+        int totalStudents = courses.stream()
+                .mapToInt(course -> (int) enrollmentRepository.countByCourseId(course.getId()))
+                .sum();
+        
+        // Course status distribution
+        Map<String, Long> courseStatusDistribution = courses.stream()
+                .collect(Collectors.groupingBy(
+                    course -> course.getStatus().name(),
+                    Collectors.counting()
+                ));
         
-        return course;
+        return new FacultyDashboard.TeachingLoad(courses.size(), totalCredits, totalStudents, courseStatusDistribution);
     }
 
-    private Map<String, Object> getAcademicPerformanceOverview(List<Course> courses) {
-        Map<String, Object> performance = new HashMap<>();
-        
+    private FacultyDashboard.AcademicPerformance getAcademicPerformanceOverview(List<Course> courses) {
         List<Grade> allGrades = new ArrayList<>();
         for (Course course : courses) {
             allGrades.addAll(gradeRepository.findByCourseId(course.getId()));
         }
         
-        performance.put("totalGradesEntered", allGrades.size());
-        
-        if (!allGrades.isEmpty()) {
-            double averageGrade = allGrades.stream()
-                    .filter(g -> g.getNumericGrade() != null)
-                    .mapToDouble(Grade::getNumericGrade)
-                    .average()
-                    .orElse(0.0);
-            performance.put("averageGrade", Math.round(averageGrade * 100.0) / 100.0);
-            
-            // Grade distribution
-            Map<String, Long> gradeDistribution = allGrades.stream()
-                    .filter(g -> g.getLetterGrade() != null)
-                    .collect(Collectors.groupingBy(Grade::getLetterGrade, Collectors.counting()));
-            performance.put("gradeDistribution", gradeDistribution);
-            
-            // Pass rate
-            long passingGrades = allGrades.stream()
-                    .filter(g -> g.getNumericGrade() != null && g.getNumericGrade() >= 60.0)
-                    .count();
-            double passRate = (double) passingGrades / allGrades.size() * 100;
-            performance.put("passRate", Math.round(passRate * 100.0) / 100.0);
-        } else {
-            performance.put("averageGrade", 0.0);
-            performance.put("gradeDistribution", new HashMap<>());
-            performance.put("passRate", 0.0);
+        if (allGrades.isEmpty()) {
+            return new FacultyDashboard.AcademicPerformance(0, 0.0, new HashMap<>(), 0.0);
         }
         
-        return performance;
+        double averageGrade = allGrades.stream()
+                .filter(g -> g.getNumericGrade() != null)
+                .mapToDouble(Grade::getNumericGrade)
+                .average()
+                .orElse(0.0);
+        
+        // Grade distribution
+        Map<String, Long> gradeDistribution = allGrades.stream()
+                .filter(g -> g.getLetterGrade() != null)
+                .collect(Collectors.groupingBy(Grade::getLetterGrade, Collectors.counting()));
+        
+        // Pass rate
+        long passingGrades = allGrades.stream()
+                .filter(g -> g.getNumericGrade() != null && g.getNumericGrade() >= 60.0)
+                .count();
+        double passRate = (double) passingGrades / allGrades.size() * 100;
+        
+        return new FacultyDashboard.AcademicPerformance(
+                allGrades.size(),
+                Math.round(averageGrade * 100.0) / 100.0,
+                gradeDistribution,
+                Math.round(passRate * 100.0) / 100.0);
     }
 
-    private Map<String, Object> getAttendanceOverview(List<Course> courses) {
-        Map<String, Object> attendance = new HashMap<>();
-        
+    private FacultyDashboard.AttendanceOverview getAttendanceOverview(List<Course> courses) {
         List<AttendanceRecord> allAttendance = new ArrayList<>();
         for (Course course : courses) {
             allAttendance.addAll(attendanceRepository.findByCourseId(course.getId()));
         }
         
-        attendance.put("totalAttendanceRecords", allAttendance.size());
-        
-        if (!allAttendance.isEmpty()) {
-            long presentCount = allAttendance.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                    .count();
-            double attendanceRate = (double) presentCount / allAttendance.size() * 100;
-            attendance.put("overallAttendanceRate", Math.round(attendanceRate * 100.0) / 100.0);
-            
-            // Status distribution
-            Map<String, Long> statusDistribution = allAttendance.stream()
-                    .collect(Collectors.groupingBy(
-                        a -> a.getStatus().name(),
-                        Collectors.counting()
-                    ));
-            attendance.put("attendanceStatusDistribution", statusDistribution);
-        } else {
-            attendance.put("overallAttendanceRate", 0.0);
-            attendance.put("attendanceStatusDistribution", new HashMap<>());
+        if (allAttendance.isEmpty()) {
+            return new FacultyDashboard.AttendanceOverview(0, 0.0, new HashMap<>());
         }
         
-        return attendance;
+        long presentCount = allAttendance.stream()
+                .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
+                .count();
+        double attendanceRate = (double) presentCount / allAttendance.size() * 100;
+        
+        // Status distribution
+        Map<String, Long> statusDistribution = allAttendance.stream()
+                .collect(Collectors.groupingBy(
+                    a -> a.getStatus().name(),
+                    Collectors.counting()
+                ));
+        
+        return new FacultyDashboard.AttendanceOverview(
+                allAttendance.size(), Math.round(attendanceRate * 100.0) / 100.0, statusDistribution);
     }
 
-    private Map<String, Object> getGradingProgress(List<Course> courses) {
-        Map<String, Object> progress = new HashMap<>();
-        
+    private FacultyDashboard.GradingProgress getGradingProgress(List<Course> courses) {
         int totalEnrolledStudents = 0;
         int totalGradedStudents = 0;
         
@@ -605,16 +563,13 @@ public class FacultyDashboardService {
             totalGradedStudents += gradedStudentIds.size();
         }
         
-        progress.put("totalStudentsToGrade", totalEnrolledStudents);
-        progress.put("totalStudentsGraded", totalGradedStudents);
-        progress.put("gradingCompletionPercentage", totalEnrolledStudents > 0 ? 
-            Math.round((double) totalGradedStudents / totalEnrolledStudents * 100.0 * 100.0) / 100.0 : 0.0);
-        
-        return progress;
+        return new FacultyDashboard.GradingProgress(totalEnrolledStudents, totalGradedStudents,
+                totalEnrolledStudents > 0 ?
+                    Math.round((double) totalGradedStudents / totalEnrolledStudents * 100.0 * 100.0) / 100.0 : 0.0);
     }
 
-    private List<Map<String, Object>> getRecentActivities(List<Course> courses, int limit) {
-        List<Map<String, Object>> activities = new ArrayList<>();
+    private List<FacultyDashboard.RecentActivity> getRecentActivities(List<Course> courses, int limit) {
+        List<FacultyDashboard.RecentActivity> activities = new ArrayList<>();
         
         // Recent grades
         for (Course course : courses) {
@@ -622,14 +577,10 @@ public class FacultyDashboardService {
                     .stream().limit(limit / courses.size() + 1).toList();
             
             for (Grade grade : recentGrades) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("type", "GRADE_ENTERED");
-                activity.put("description", "Grade entered for " + grade.getStudent().getUser().getName() + 
-                           " in " + course.getCourseName() + ": " + grade.getLetterGrade());
-                activity.put("timestamp", grade.getGradeDate());
-                activity.put("courseId", course.getId());
-                activity.put("courseName", course.getCourseName());
-                activities.add(activity);
+                activities.add(new FacultyDashboard.RecentActivity("GRADE_ENTERED",
+                        "Grade entered for " + grade.getStudent().getUser().getName() +
+                        " in " + course.getCourseName() + ": " + grade.getLetterGrade(),
+                        grade.getGradeDate(), course.getId(), course.getCourseName()));
             }
             
             // Recent attendance
@@ -638,31 +589,21 @@ public class FacultyDashboardService {
                     .stream().limit(limit / courses.size() + 1).toList();
             
             for (AttendanceRecord record : recentAttendance) {
-                Map<String, Object> activity = new HashMap<>();
-                activity.put("type", "ATTENDANCE_MARKED");
-                activity.put("description", "Attendance marked for " + record.getStudent().getUser().getName() + 
-                           " in " + course.getCourseName() + ": " + record.getStatus());
-                activity.put("timestamp", record.getCreatedAt());
-                activity.put("courseId", course.getId());
-                activity.put("courseName", course.getCourseName());
-                activities.add(activity);
+                activities.add(new FacultyDashboard.RecentActivity("ATTENDANCE_MARKED",
+                        "Attendance marked for " + record.getStudent().getUser().getName() +
+                        " in " + course.getCourseName() + ": " + record.getStatus(),
+                        record.getCreatedAt(), course.getId(), course.getCourseName()));
             }
         }
         
         // Sort by timestamp and limit
-        activities.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
-        });
+        activities.sort(Comparator.comparing(FacultyDashboard.RecentActivity::timestamp).reversed());
         
         return activities.stream().limit(limit).toList();
     }
 
-    private Map<String, Object> getPendingTasks(List<Course> courses) {
-        Map<String, Object> tasks = new HashMap<>();
-        
-        List<Map<String, Object>> pendingList = new ArrayList<>();
+    private FacultyDashboard.PendingTasks getPendingTasks(List<Course> courses) {
+        List<FacultyDashboard.PendingTask> pendingList = new ArrayList<>();
         
         for (Course course : courses) {
             // Check for students without grades
@@ -677,14 +618,9 @@ public class FacultyDashboardService {
                     .count();
             
             if (ungradedStudents > 0) {
-                Map<String, Object> task = new HashMap<>();
-                task.put("type", "GRADING_PENDING");
-                task.put("courseId", course.getId());
-                task.put("courseName", course.getCourseName());
-                task.put("description", ungradedStudents + " students need grades");
-                task.put("count", ungradedStudents);
-                task.put("priority", ungradedStudents > 10 ? "HIGH" : "MEDIUM");
-                pendingList.add(task);
+                pendingList.add(new FacultyDashboard.PendingTask("GRADING_PENDING", course.getId(),
+                        course.getCourseName(), ungradedStudents + " students need grades", ungradedStudents,
+                        ungradedStudents > 10 ? "HIGH" : "MEDIUM"));
             }
             
             // Check for today's attendance not marked
@@ -693,29 +629,20 @@ public class FacultyDashboardService {
                     .findByCourseIdAndAttendanceDate(course.getId(), today);
             
             if (todayAttendance.isEmpty() && enrollments.size() > 0) {
-                Map<String, Object> task = new HashMap<>();
-                task.put("type", "ATTENDANCE_PENDING");
-                task.put("courseId", course.getId());
-                task.put("courseName", course.getCourseName());
-                task.put("description", "Today's attendance not marked");
-                task.put("count", enrollments.size());
-                task.put("priority", "HIGH");
-                pendingList.add(task);
+                pendingList.add(new FacultyDashboard.PendingTask("ATTENDANCE_PENDING", course.getId(),
+                        course.getCourseName(), "Today's attendance not marked", enrollments.size(), "HIGH"));
             }
         }
         
-        tasks.put("pendingTasks", pendingList);
-        tasks.put("totalPendingTasks", pendingList.size());
-        
-        return tasks;
+        return new FacultyDashboard.PendingTasks(pendingList, pendingList.size());
     }
 
-    private Map<String, Object> getTeachingInsights(List<Course> courses) {
-        Map<String, Object> insights = new HashMap<>();
-        
-        // Most challenging course (lowest average grade)
+    private FacultyDashboard.TeachingInsights getTeachingInsights(List<Course> courses) {
+        // Most challenging course (lowest average grade) and best performing course (highest average grade)
         Course mostChallengingCourse = null;
         double lowestAverage = Double.MAX_VALUE;
+        Course bestPerformingCourse = null;
+        double highestAverage = 0.0;
         
         for (Course course : courses) {
             List<Grade> courseGrades = gradeRepository.findByCourseId(course.getId());
@@ -730,30 +657,6 @@ public class FacultyDashboardService {
                     lowestAverage = avgGrade;
                     mostChallengingCourse = course;
                 }
-            }
-        }
-        
-        if (mostChallengingCourse != null) {
-            insights.put("mostChallengingCourse", Map.of(
-                "courseId", mostChallengingCourse.getId(),
-                "courseName", mostChallengingCourse.getCourseName(),
-                "averageGrade", Math.round(lowestAverage * 100.0) / 100.0
-            ));
-        }
-        
-        // Best performing course (highest average grade)
-        Course bestPerformingCourse = null;
-        double highestAverage = 0.0;
-        
-        for (Course course : courses) {
-            List<Grade> courseGrades = gradeRepository.findByCourseId(course.getId());
-            if (!courseGrades.isEmpty()) {
-                double avgGrade = courseGrades.stream()
-                        .filter(g -> g.getNumericGrade() != null)
-                        .mapToDouble(Grade::getNumericGrade)
-                        .average()
-                        .orElse(0.0);
-                
                 if (avgGrade > highestAverage) {
                     highestAverage = avgGrade;
                     bestPerformingCourse = course;
@@ -761,15 +664,14 @@ public class FacultyDashboardService {
             }
         }
         
-        if (bestPerformingCourse != null) {
-            insights.put("bestPerformingCourse", Map.of(
-                "courseId", bestPerformingCourse.getId(),
-                "courseName", bestPerformingCourse.getCourseName(),
-                "averageGrade", Math.round(highestAverage * 100.0) / 100.0
-            ));
-        }
-        
-        return insights;
+        return new FacultyDashboard.TeachingInsights(
+                courseAverage(mostChallengingCourse, lowestAverage),
+                courseAverage(bestPerformingCourse, highestAverage));
+    }
+
+    private FacultyDashboard.CourseAverage courseAverage(Course course, double average) {
+        return course == null ? null
+                : new FacultyDashboard.CourseAverage(course.getId(), course.getCourseName(), Math.round(average * 100.0) / 100.0);
     }
 
     // Additional helper methods for course analytics
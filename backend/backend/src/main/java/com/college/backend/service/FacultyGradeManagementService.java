@@ -1,12 +1,15 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.CourseRef;
+import com.college.backend.dto.GradeAnalytics;
+import com.college.backend.dto.GradeReport;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,15 +21,18 @@ import java.util.stream.Collectors;
 @Transactional
 public class FacultyGradeManagementService {
 
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
     @Autowired
     private FacultyRepository facultyRepository;
     
     @Autowired
     private CourseRepository courseRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private EnrollmentRepository enrollmentRepository;
     
@@ -38,6 +44,7 @@ public class FacultyGradeManagementService {
 
     // Grade Management Overview
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getGradeManagementOverview() {
         Faculty faculty = getCurrentFaculty();
         Map<String, Object> overview = new HashMap<>();
@@ -102,6 +109,7 @@ public class FacultyGradeManagementService {
 
     // Course-specific Grade Management
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseGradeOverview(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -213,7 +221,7 @@ public class FacultyGradeManagementService {
                 .orElseThrow(() -> new ResourceNotFoundException("Grade not found"));
         
         Faculty faculty = getCurrentFaculty();
-        validateCourseAccess(existingGrade.getCourse().getId(), faculty);
+        courseAccessAuthorizer.checkAccess(existingGrade.getCourse().getId(), faculty);
         
         // Update grade fields
         if (gradeUpdate.getGradeType() != null) {
@@ -330,25 +338,21 @@ public class FacultyGradeManagementService {
 
     // Grade Analytics and Reports
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> getCourseGradeAnalytics(Long courseId) {
+    @Transactional(readOnly = true)
+    public GradeAnalytics getCourseGradeAnalytics(Long courseId) {
         Faculty faculty = getCurrentFaculty();
-        Course course = validateCourseAccess(courseId, faculty);
-        
-        Map<String, Object> analytics = new HashMap<>();
+        courseAccessAuthorizer.checkAccess(courseId, faculty);
         
         List<Grade> courseGrades = gradeRepository.findByCourseId(courseId);
-        analytics.put("totalGrades", courseGrades.size());
         
         if (courseGrades.isEmpty()) {
-            analytics.put("message", "No grades available for analysis");
-            return analytics;
+            return GradeAnalytics.empty();
         }
         
         // Grade distribution analysis
         Map<String, Long> letterGradeDistribution = courseGrades.stream()
                 .filter(g -> g.getLetterGrade() != null)
                 .collect(Collectors.groupingBy(Grade::getLetterGrade, Collectors.counting()));
-        analytics.put("letterGradeDistribution", letterGradeDistribution);
         
         // Numeric grade statistics
         List<Double> numericGrades = courseGrades.stream()
@@ -356,17 +360,20 @@ public class FacultyGradeManagementService {
                 .map(Grade::getNumericGrade)
                 .collect(Collectors.toList());
         
+        GradeAnalytics.NumericStatistics numericGradeStatistics = null;
+        Map<String, Integer> performanceCategories = null;
+        Double passRate = null;
         if (!numericGrades.isEmpty()) {
             DoubleSummaryStatistics stats = numericGrades.stream().mapToDouble(Double::doubleValue).summaryStatistics();
-            analytics.put("numericGradeStatistics", Map.of(
-                "average", Math.round(stats.getAverage() * 100.0) / 100.0,
-                "min", stats.getMin(),
-                "max", stats.getMax(),
-                "count", stats.getCount()
-            ));
+            numericGradeStatistics = new GradeAnalytics.NumericStatistics(
+                Math.round(stats.getAverage() * 100.0) / 100.0,
+                stats.getMin(),
+                stats.getMax(),
+                stats.getCount()
+            );
             
             // Performance categories
-            Map<String, Integer> performanceCategories = new HashMap<>();
+            performanceCategories = new HashMap<>();
             performanceCategories.put("excellent", 0); // 90-100
             performanceCategories.put("good", 0); // 80-89
             performanceCategories.put("satisfactory", 0); // 70-79
@@ -386,88 +393,57 @@ public class FacultyGradeManagementService {
                     performanceCategories.merge("failing", 1, Integer::sum);
                 }
             }
-            analytics.put("performanceCategories", performanceCategories);
             
             // Pass rate calculation
             long passingGrades = numericGrades.stream().filter(g -> g >= 60.0).count();
-            double passRate = (double) passingGrades / numericGrades.size() * 100;
-            analytics.put("passRate", Math.round(passRate * 100.0) / 100.0);
+            passRate = Math.round((double) passingGrades / numericGrades.size() * 100 * 100.0) / 100.0;
         }
         
         // Grade type distribution
         Map<String, Long> gradeTypeDistribution = courseGrades.stream()
                 .filter(g -> g.getGradeType() != null)
                 .collect(Collectors.groupingBy(Grade::getGradeType, Collectors.counting()));
-        analytics.put("gradeTypeDistribution", gradeTypeDistribution);
-        
-        // Top and bottom performers
-        List<Map<String, Object>> topPerformers = getTopPerformers(courseId, 5);
-        List<Map<String, Object>> bottomPerformers = getBottomPerformers(courseId, 5);
-        analytics.put("topPerformers", topPerformers);
-        analytics.put("bottomPerformers", bottomPerformers);
         
-        // Grading timeline
-        List<Map<String, Object>> gradingTimeline = getGradingTimeline(courseId);
-        analytics.put("gradingTimeline", gradingTimeline);
-        
-        return analytics;
+        return new GradeAnalytics(
+            courseGrades.size(),
+            null,
+            letterGradeDistribution,
+            numericGradeStatistics,
+            performanceCategories,
+            passRate,
+            gradeTypeDistribution,
+            getTopPerformers(courseGrades, 5),
+            getBottomPerformers(courseGrades, 5),
+            getGradingTimeline(courseId)
+        );
     }
 
     // Grade Reports
     @PreAuthorize("hasRole('FACULTY')")
-    public Map<String, Object> generateGradeReport(Long courseId, String reportType) {
+    @Transactional(readOnly = true)
+    public GradeReport generateGradeReport(Long courseId, String reportType) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
         
-        Map<String, Object> report = new HashMap<>();
-        report.put("reportType", reportType);
-        report.put("course", Map.of(
-            "id", course.getId(),
-            "name", course.getCourseName(),
-            "code", course.getCourseCode()
-        ));
-        report.put("generatedBy", faculty.getUser().getName());
-        report.put("generatedAt", LocalDateTime.now());
-        
-        switch (reportType.toLowerCase()) {
-            case "final_grades":
-                report.putAll(generateFinalGradesReport(courseId));
-                break;
-            case "grade_distribution":
-                report.putAll(generateGradeDistributionReport(courseId));
-                break;
-            case "student_progress":
-                report.putAll(generateStudentProgressReport(courseId));
-                break;
-            case "comprehensive":
-                report.putAll(generateComprehensiveGradeReport(courseId));
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown report type: " + reportType);
-        }
+        GradeReport.Section section = switch (reportType.toLowerCase()) {
+            case "final_grades" -> new GradeReport.FinalGrades(generateFinalGradesReport(courseId));
+            case "grade_distribution" -> generateGradeDistributionReport(courseId);
+            case "student_progress" -> new GradeReport.StudentProgressReport(generateStudentProgressReport(courseId));
+            case "comprehensive" -> new GradeReport.Comprehensive(generateFinalGradesReport(courseId),
+                    generateGradeDistributionReport(courseId), generateStudentProgressReport(courseId));
+            default -> throw new IllegalArgumentException("Unknown report type: " + reportType);
+        };
         
-        return report;
+        return new GradeReport(reportType, CourseRef.of(course), faculty.getUser().getName(), LocalDateTime.now(), section);
     }
 
     // Helper Methods
     private Faculty getCurrentFaculty() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return facultyRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        return currentActorResolver.currentFaculty();
     }
 
     private Course validateCourseAccess(Long courseId, Faculty faculty) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        
-        if (!course.getInstructor().getId().equals(faculty.getId())) {
-            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
-        }
-        
-        return course;
+        return courseAccessAuthorizer.loadWithAccess(courseId, faculty);
     }
 
     private String calculateLetterGrade(Double numericGrade) {
@@ -562,35 +538,16 @@ public class FacultyGradeManagementService {
         return pendingTasks;
     }
 
-    private List<Map<String, Object>> getTopPerformers(Long courseId, int limit) {
-        List<Grade> courseGrades = gradeRepository.findByCourseId(courseId);
-        
-        Map<Long, Double> studentAverages = courseGrades.stream()
-                .filter(g -> g.getNumericGrade() != null)
-                .collect(Collectors.groupingBy(
-                    g -> g.getStudent().getId(),
-                    Collectors.averagingDouble(Grade::getNumericGrade)
-                ));
-        
-        return studentAverages.entrySet().stream()
-                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
-                .limit(limit)
-                .map(entry -> {
-                    Student student = studentRepository.findById(entry.getKey()).orElse(null);
-                    Map<String, Object> performer = new HashMap<>();
-                    if (student != null) {
-                        performer.put("studentId", student.getId());
-                        performer.put("studentName", student.getUser().getName());
-                        performer.put("averageGrade", Math.round(entry.getValue() * 100.0) / 100.0);
-                    }
-                    return performer;
-                })
-                .collect(Collectors.toList());
+    private List<GradeAnalytics.Performer> getTopPerformers(List<Grade> courseGrades, int limit) {
+        return rankPerformers(courseGrades, Map.Entry.<Long, Double>comparingByValue().reversed(), limit);
     }
 
-    private List<Map<String, Object>> getBottomPerformers(Long courseId, int limit) {
-        List<Grade> courseGrades = gradeRepository.findByCourseId(courseId);
-        
+    private List<GradeAnalytics.Performer> getBottomPerformers(List<Grade> courseGrades, int limit) {
+        return rankPerformers(courseGrades, Map.Entry.comparingByValue(), limit);
+    }
+
+    private List<GradeAnalytics.Performer> rankPerformers(List<Grade> courseGrades,
+                                                         Comparator<Map.Entry<Long, Double>> order, int limit) {
         Map<Long, Double> studentAverages = courseGrades.stream()
                 .filter(g -> g.getNumericGrade() != null)
                 .collect(Collectors.groupingBy(
@@ -599,22 +556,17 @@ public class FacultyGradeManagementService {
                 ));
         
         return studentAverages.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue())
+                .sorted(order)
                 .limit(limit)
-                .map(entry -> {
-                    Student student = studentRepository.findById(entry.getKey()).orElse(null);
-                    Map<String, Object> performer = new HashMap<>();
-                    if (student != null) {
-                        performer.put("studentId", student.getId());
-                        performer.put("studentName", student.getUser().getName());
-                        performer.put("averageGrade", Math.round(entry.getValue() * 100.0) / 100.0);
-                    }
-                    return performer;
-                })
+                .map(entry -> studentRepository.findById(entry.getKey())
+                        .map(student -> new GradeAnalytics.Performer(student.getId(), student.getUser().getName(),
+                                Math.round(entry.getValue() * 100.0) / 100.0))
+                        .orElse(null))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> getGradingTimeline(Long courseId) {
+    private List<GradeAnalytics.TimelineDay> getGradingTimeline(Long courseId) {
         List<Grade> courseGrades = gradeRepository.findByCourseIdOrderByGradedDateAsc(courseId);
         
         Map<String, Long> dailyGradeCount = courseGrades.stream()
@@ -624,81 +576,62 @@ public class FacultyGradeManagementService {
                 ));
         
         return dailyGradeCount.entrySet().stream()
-                .map(entry -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("date", entry.getKey());
-                    map.put("gradesEntered", entry.getValue());
-                    return map;
-                })
+                .map(entry -> new GradeAnalytics.TimelineDay(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
     }
 
-    private Map<String, Object> generateFinalGradesReport(Long courseId) {
+    private List<GradeReport.FinalGrade> generateFinalGradesReport(Long courseId) {
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        List<Map<String, Object>> finalGrades = new ArrayList<>();
+        List<GradeReport.FinalGrade> finalGrades = new ArrayList<>();
         
         for (Enrollment enrollment : enrollments) {
             Student student = enrollment.getStudent();
             List<Grade> studentGrades = gradeRepository.findByStudentIdAndCourseId(student.getId(), courseId);
             
-            Map<String, Object> studentGrade = new HashMap<>();
-            studentGrade.put("studentId", student.getId());
-            studentGrade.put("studentName", student.getUser().getName());
-            studentGrade.put("studentNumber", student.getStudentId());
-            
+            Object finalGrade = "N/A";
+            String letterGrade = "N/A";
             if (!studentGrades.isEmpty()) {
                 double averageGrade = studentGrades.stream()
                         .filter(g -> g.getNumericGrade() != null)
                         .mapToDouble(Grade::getNumericGrade)
                         .average()
                         .orElse(0.0);
-                studentGrade.put("finalGrade", Math.round(averageGrade * 100.0) / 100.0);
-                studentGrade.put("letterGrade", calculateLetterGrade(averageGrade));
-            } else {
-                studentGrade.put("finalGrade", "N/A");
-                studentGrade.put("letterGrade", "N/A");
+                finalGrade = Math.round(averageGrade * 100.0) / 100.0;
+                letterGrade = calculateLetterGrade(averageGrade);
             }
             
-            finalGrades.add(studentGrade);
+            finalGrades.add(new GradeReport.FinalGrade(student.getId(), student.getUser().getName(),
+                    student.getStudentId(), finalGrade, letterGrade));
         }
         
-        return Map.of("finalGrades", finalGrades);
+        return finalGrades;
     }
 
-    private Map<String, Object> generateGradeDistributionReport(Long courseId) {
+    private GradeAnalytics generateGradeDistributionReport(Long courseId) {
         return getCourseGradeAnalytics(courseId);
     }
 
-    private Map<String, Object> generateStudentProgressReport(Long courseId) {
+    private List<GradeReport.StudentProgress> generateStudentProgressReport(Long courseId) {
         List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        List<Map<String, Object>> studentProgress = new ArrayList<>();
+        List<GradeReport.StudentProgress> studentProgress = new ArrayList<>();
         
         for (Enrollment enrollment : enrollments) {
             Student student = enrollment.getStudent();
             List<Grade> studentGrades = gradeRepository.findByStudentIdAndCourseIdOrderByGradedDateAsc(student.getId(), courseId);
             
-            Map<String, Object> progress = new HashMap<>();
-            progress.put("studentId", student.getId());
-            progress.put("studentName", student.getUser().getName());
-            progress.put("enrollmentDate", enrollment.getEnrollmentDate());
-            progress.put("gradeHistory", studentGrades.stream().map(grade -> Map.of(
-                "gradeType", grade.getGradeType(),
-                "numericGrade", grade.getNumericGrade(),
-                "letterGrade", grade.getLetterGrade(),
-                "gradeDate", grade.getGradeDate()
-            )).collect(Collectors.toList()));
-            
-            studentProgress.add(progress);
+            studentProgress.add(new GradeReport.StudentProgress(
+                student.getId(),
+                student.getUser().getName(),
+                enrollment.getEnrollmentDate(),
+                studentGrades.stream().map(grade -> new GradeReport.GradeEntry(
+                    grade.getGradeType(),
+                    grade.getNumericGrade(),
+                    grade.getLetterGrade(),
+                    grade.getGradeDate()
+                )).collect(Collectors.toList())
+            ));
         }
         
-        return Map.of("studentProgress", studentProgress);
-    }
-
-    private Map<String, Object> generateComprehensiveGradeReport(Long courseId) {
-        Map<String, Object> report = new HashMap<>();
-        report.putAll(generateFinalGradesReport(courseId));
-        report.putAll(generateGradeDistributionReport(courseId));
-        report.putAll(generateStudentProgressReport(courseId));
-        return report;
+        return studentProgress;
     }
 }
\ No newline at end of file
@@ -58,18 +58,21 @@ public class FacultyService {
 
     // Faculty Profile Management
     @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and #userId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public Faculty getFacultyByUserId(Long userId) {
         return facultyRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Faculty not found for user ID: " + userId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Faculty getFacultyById(Long facultyId) {
         return facultyRepository.findById(facultyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Faculty not found with ID: " + facultyId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Faculty getFacultyByEmployeeId(String employeeId) {
         return facultyRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Faculty not found with employee ID: " + employeeId));
@@ -124,6 +127,7 @@ public class FacultyService {
 
     // Course Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Course> getFacultyCourses(Long facultyId) {
         return courseRepository.findByInstructorId(facultyId);
     }
@@ -170,11 +174,13 @@ public class FacultyService {
     }
 
     @PreAuthorize("hasRole('FACULTY') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Grade> getGradesByCourse(Long courseId) {
         return gradeRepository.findByCourseId(courseId);
     }
 
     @PreAuthorize("hasRole('FACULTY') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Grade> getGradesByCourseAndAssessment(Long courseId, Grade.AssessmentType assessmentType) {
         return gradeRepository.findByCourseAndAssessmentType(courseId, assessmentType);
     }
@@ -194,52 +200,62 @@ public class FacultyService {
     }
 
     @PreAuthorize("hasRole('FACULTY') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<AttendanceRecord> getAttendanceByCourse(Long courseId) {
         return attendanceRecordRepository.findByCourseId(courseId);
     }
 
     @PreAuthorize("hasRole('FACULTY') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<AttendanceRecord> getAttendanceByCourseAndDate(Long courseId, LocalDate date) {
         return attendanceRecordRepository.findByCourseAndDate(courseId, date);
     }
 
     @PreAuthorize("hasRole('FACULTY') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Long getAttendanceSummaryByCourse(Long courseId) {
         return attendanceRecordRepository.getAttendanceSummaryByCourse(courseId);
     }
 
     // Administrative Queries
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public Page<Faculty> getAllFaculty(Pageable pageable) {
         return facultyRepository.findAll(pageable);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Faculty> getFacultyByDepartment(Long departmentId) {
         return facultyRepository.findByDepartmentId(departmentId);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Faculty> getFacultyByStatus(Faculty.FacultyStatus status) {
         return facultyRepository.findByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Faculty> getFacultyByDesignation(Faculty.Designation designation) {
         return facultyRepository.findByDesignation(designation);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Faculty> searchFaculty(String searchTerm) {
         return facultyRepository.searchFaculty(searchTerm);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Faculty> getFacultyByExperienceRange(Integer minYears, Integer maxYears) {
         return facultyRepository.findByExperienceYearsBetween(minYears, maxYears);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Faculty> getFacultyByQualification(String qualification) {
         return facultyRepository.findByQualification(qualification);
     }
@@ -285,16 +301,19 @@ public class FacultyService {
 
     // Statistics and Analytics
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getTotalFacultyCount() {
         return facultyRepository.count();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getFacultyCountByStatus(Faculty.FacultyStatus status) {
         return facultyRepository.countByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getFacultyCountByDepartment(Long departmentId) {
         return facultyRepository.countByDepartmentId(departmentId);
     }
@@ -336,16 +355,19 @@ public class FacultyService {
     
     // Missing methods for FacultyController
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getCourseEnrollments(Long courseId) {
         return enrollmentRepository.findByCourseId(courseId);
     }
     
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Page<Student> getAllStudents(Pageable pageable) {
         return studentRepository.findAll(pageable);
     }
     
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Student> searchStudents(String searchTerm) {
         return studentRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(searchTerm, searchTerm);
     }
@@ -3,12 +3,12 @@ package com.college.backend.service;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,15 +21,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class FacultyStudentManagementService {
 
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Autowired
+    private CourseAccessAuthorizer courseAccessAuthorizer;
+
+    @Autowired
+    private EmailService emailService;
+
     @Autowired
     private FacultyRepository facultyRepository;
     
     @Autowired
     private CourseRepository courseRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private EnrollmentRepository enrollmentRepository;
     
@@ -44,6 +50,7 @@ public class FacultyStudentManagementService {
 
     // Student Overview for Faculty
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentManagementOverview() {
         Faculty faculty = getCurrentFaculty();
         Map<String, Object> overview = new HashMap<>();
@@ -102,6 +109,7 @@ public class FacultyStudentManagementService {
 
     // Get Students by Course
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentsByCourse(Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -181,6 +189,7 @@ public class FacultyStudentManagementService {
 
     // Student Progress Tracking
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getStudentProgressInCourse(Long studentId, Long courseId) {
         Faculty faculty = getCurrentFaculty();
         Course course = validateCourseAccess(courseId, faculty);
@@ -300,11 +309,14 @@ public class FacultyStudentManagementService {
         enrollmentRepository.findByStudentIdAndCourseId(studentId, courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not enrolled in this course"));
         
-        // For now, we'll return a success response
-        // In a real implementation, this would integrate with an email or messaging service
+        // Queued in the notification outbox and delivered in the background
+        boolean queued = emailService.sendStudentMessage(student.getUser(), faculty.getUser(), course.getCourseName(),
+                subject, message);
+        
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
-        result.put("message", "Message sent successfully");
+        result.put("message", queued ? "Message queued for delivery" : "An identical message was already sent recently");
+        result.put("queued", queued);
         result.put("recipient", Map.of(
             "studentName", student.getUser().getName(),
             "studentEmail", student.getUser().getEmail()
@@ -344,8 +356,16 @@ public class FacultyStudentManagementService {
                 
                 switch (operation.toLowerCase()) {
                     case "send_notification":
-                        // Send notification to student
-                        successful.add("Notification sent to " + student.getUser().getName());
+                        // Queue notification email to student
+                        String subject = parameters != null && parameters.get("subject") != null
+                                ? parameters.get("subject").toString() : "Notification: " + course.getCourseName();
+                        String message = parameters != null && parameters.get("message") != null
+                                ? parameters.get("message").toString() : "You have a new notification for " + course.getCourseName() + ".";
+                        if (emailService.sendNotification(student.getUser(), subject, message)) {
+                            successful.add("Notification queued for " + student.getUser().getName());
+                        } else {
+                            successful.add("Notification already sent recently to " + student.getUser().getName());
+                        }
                         break;
                     case "mark_attendance":
                         // Mark attendance for today
@@ -382,9 +402,10 @@ public class FacultyStudentManagementService {
 
     // Student Performance Analytics for Course
     @PreAuthorize("hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getCourseStudentAnalytics(Long courseId) {
         Faculty faculty = getCurrentFaculty();
-        Course course = validateCourseAccess(courseId, faculty);
+        courseAccessAuthorizer.checkAccess(courseId, faculty);
         
         Map<String, Object> analytics = new HashMap<>();
         
@@ -455,23 +476,11 @@ public class FacultyStudentManagementService {
 
     // Helper Methods
     private Faculty getCurrentFaculty() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return facultyRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Faculty profile not found"));
+        return currentActorResolver.currentFaculty();
     }
 
     private Course validateCourseAccess(Long courseId, Faculty faculty) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        
-        if (!course.getInstructor().getId().equals(faculty.getId())) {
-            throw new IllegalArgumentException("Access denied: You are not assigned to this course");
-        }
-        
-        return course;
+        return courseAccessAuthorizer.loadWithAccess(courseId, faculty);
     }
 
     private List<Map<String, Object>> getRecentStudentActivities(List<Course> courses) {
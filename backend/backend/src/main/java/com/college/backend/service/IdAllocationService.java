@@ -0,0 +1,131 @@
+package com.college.backend.service;
+
+import com.college.backend.model.IdSequence;
+import com.college.backend.repository.IdSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hands out formatted identifiers such as CSE24-00042 or EMP24-00007.
+// Numbers come from blocks reserved in id_sequences (hi-lo), so only one row lock is taken per block,
+// and nodes never overlap because each block is committed before its numbers are used.
+@Service
+public class IdAllocationService {
+
+    public enum IdType {
+        STUDENT, FACULTY, EMPLOYEE, ADMIN
+    }
+
+    @Autowired
+    private IdSequenceRepository sequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.ids.block-size:50}")
+    private int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public String nextStudentId(String departmentCode) {
+        return allocate(IdType.STUDENT, departmentCode, 1).get(0);
+    }
+
+    public String nextFacultyId() {
+        return allocate(IdType.FACULTY, null, 1).get(0);
+    }
+
+    public String nextEmployeeId() {
+        return allocate(IdType.EMPLOYEE, null, 1).get(0);
+    }
+
+    public String nextAdminId() {
+        return allocate(IdType.ADMIN, null, 1).get(0);
+    }
+
+    // Batch onboarding asks for many ids at once; they are served from as few blocks as possible
+    public List<String> allocate(IdType type, String departmentCode, int count) {
+        String yearSuffix = String.format("%02d", Year.now().getValue() % 100);
+        String prefix = prefixFor(type, departmentCode) + yearSuffix;
+        String sequenceKey = type + ":" + prefix;
+
+        List<String> ids = new ArrayList<>(count);
+        Block block = blocks.computeIfAbsent(sequenceKey, key -> new Block());
+        // A lock rather than synchronized: reserving a block waits on the database, which would pin a virtual thread
+        block.lock.lock();
+        try {
+            while (ids.size() < count) {
+                if (block.next >= block.end) {
+                    int size = Math.max(blockSize, count - ids.size());
+                    block.next = reserveBlock(sequenceKey, size);
+                    block.end = block.next + size;
+                }
+                ids.add(String.format("%s-%05d", prefix, block.next++));
+            }
+        } finally {
+            block.lock.unlock();
+        }
+        return ids;
+    }
+
+    private String prefixFor(IdType type, String departmentCode) {
+        switch (type) {
+            case STUDENT:
+                return departmentCode != null && !departmentCode.isBlank()
+                        ? departmentCode.trim().toUpperCase(Locale.ROOT) : "STU";
+            case FACULTY:
+                return "FAC";
+            case EMPLOYEE:
+                return "EMP";
+            case ADMIN:
+                return "ADM";
+            default:
+                throw new IllegalArgumentException("Unknown id type: " + type);
+        }
+    }
+
+    // Reserves [start, start + size) in its own transaction and returns start
+    private long reserveBlock(String sequenceKey, int size) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return tx.execute(status -> incrementSequence(sequenceKey, size));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the sequence row first; it exists now, so lock and increment it
+            return tx.execute(status -> incrementSequence(sequenceKey, size));
+        }
+    }
+
+    private long incrementSequence(String sequenceKey, int size) {
+        IdSequence sequence = sequenceRepository.findForUpdate(sequenceKey).orElse(null);
+        if (sequence == null) {
+            sequence = new IdSequence();
+            sequence.setSequenceKey(sequenceKey);
+            sequence.setNextValue(1L + size);
+            sequenceRepository.saveAndFlush(sequence);
+            return 1L;
+        }
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + size);
+        sequenceRepository.save(sequence);
+        return start;
+    }
+
+    private static class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,198 @@
+package com.college.backend.service;
+
+import com.college.backend.config.CacheCoherenceBus;
+import com.college.backend.config.ReferenceCacheCoherence;
+import com.college.backend.model.Course;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.MaintenanceCheckpoint;
+import com.college.backend.repository.CourseRepository;
+import com.college.backend.repository.FacultyRepository;
+import com.college.backend.repository.MaintenanceCheckpointRepository;
+import com.college.backend.repository.StudentRepository;
+import com.college.backend.repository.UserRepository;
+import com.college.backend.security.CourseAccessAuthorizer;
+import com.college.backend.security.UserPrincipalCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class InactiveUserCleanupService {
+
+    public static final String JOB_NAME = "inactive_user_cleanup";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private MaintenanceCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private SearchSuggestionService searchSuggestionService;
+
+    @Autowired
+    private ReferenceCacheCoherence referenceCacheCoherence;
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    @Autowired
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Value("${app.maintenance.cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.maintenance.cleanup.inactive-months:6}")
+    private int inactiveMonths;
+
+    // Called after every committed batch; returning false stops the run, leaving the checkpoint to resume from
+    public interface BatchListener {
+        boolean onBatch(int batches, long cleanedUsers);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> runCleanup() {
+        return runCleanup((batches, cleanedUsers) -> true);
+    }
+
+    // Nightly run, off unless app.maintenance.cleanup.cron is set; one node per night
+    @Scheduled(cron = "${app.maintenance.cleanup.cron:-}")
+    public void scheduledCleanup() {
+        clusterJobRunner.run(JOB_NAME, Duration.ofHours(12),
+                () -> (Long) runCleanup().get("cleanedUsers"));
+    }
+
+    // Runs outside any caller transaction; every batch commits on its own so locks are held briefly
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> runCleanup(BatchListener listener) {
+        TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+        batchTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long startNanos = System.nanoTime();
+        MaintenanceCheckpoint checkpoint = batchTx.execute(status -> startOrResumeCheckpoint());
+        boolean resumed = checkpoint.getBatchCount() > 0;
+        LocalDateTime cutoffDate = checkpoint.getCutoffDate();
+        long processedBefore = checkpoint.getProcessedCount();
+
+        int batches = 0;
+        boolean stopped = false;
+        while (Boolean.TRUE.equals(batchTx.execute(status -> deleteNextBatch(cutoffDate)))) {
+            batches++;
+            long cleanedSoFar = checkpointRepository.findById(JOB_NAME)
+                    .map(MaintenanceCheckpoint::getProcessedCount).orElse(processedBefore) - processedBefore;
+            if (!listener.onBatch(batches, cleanedSoFar)) {
+                stopped = true;
+                break;
+            }
+        }
+
+        MaintenanceCheckpoint finished = checkpointRepository.findById(JOB_NAME).orElse(checkpoint);
+        long deletedThisRun = finished.getProcessedCount() - processedBefore;
+        long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("cutoffDate", cutoffDate);
+        result.put("cleanedUsers", deletedThisRun);
+        result.put("totalCleanedUsers", finished.getProcessedCount());
+        result.put("remainingInactiveUsers", userRepository.countByIsActiveAndLastLoginBefore(false, cutoffDate));
+        result.put("batches", batches);
+        result.put("batchSize", batchSize);
+        result.put("resumed", resumed);
+        result.put("stopped", stopped);
+        result.put("elapsedMs", elapsedMs);
+        result.put("usersPerSecond", deletedThisRun * 1000.0 / elapsedMs);
+
+        System.out.println("Inactive user cleanup finished: " + deletedThisRun + " users in " +
+                batches + " batches, " + elapsedMs + " ms");
+        return result;
+    }
+
+    private MaintenanceCheckpoint startOrResumeCheckpoint() {
+        MaintenanceCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+
+        // An interrupted run keeps its cutoff and keyset position so the same candidate set is finished
+        if (checkpoint != null && checkpoint.getStatus() == MaintenanceCheckpoint.CheckpointStatus.RUNNING) {
+            return checkpoint;
+        }
+
+        if (checkpoint == null) {
+            checkpoint = new MaintenanceCheckpoint();
+            checkpoint.setJobName(JOB_NAME);
+        }
+        checkpoint.setStatus(MaintenanceCheckpoint.CheckpointStatus.RUNNING);
+        checkpoint.setCutoffDate(LocalDateTime.now().minusMonths(inactiveMonths));
+        checkpoint.setLastProcessedId(0L);
+        checkpoint.setProcessedCount(0L);
+        checkpoint.setBatchCount(0);
+        checkpoint.setStartedAt(LocalDateTime.now());
+        checkpoint.setCompletedAt(null);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    // Returns false once no candidates remain past the checkpoint
+    private boolean deleteNextBatch(LocalDateTime cutoffDate) {
+        MaintenanceCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("Cleanup checkpoint missing"));
+
+        List<Long> userIds = userRepository.findCleanupCandidateIds(
+                cutoffDate, checkpoint.getLastProcessedId(), PageRequest.of(0, batchSize));
+
+        if (userIds.isEmpty()) {
+            checkpoint.setStatus(MaintenanceCheckpoint.CheckpointStatus.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            return false;
+        }
+
+        // Ids for cache invalidation, read before the rows go. Candidates teach nothing, so the course list
+        // is normally empty; it covers a course assigned to one of them since the candidate query ran
+        List<Long> facultyIds = facultyRepository.findIdsByUserIdIn(userIds);
+        List<Long> courseIds = facultyIds.isEmpty() ? List.of() : courseRepository.findIdsByInstructorIdIn(facultyIds);
+
+        // Profiles first, then the users they reference
+        studentRepository.deleteByUserIdIn(userIds);
+        facultyRepository.deleteByUserIdIn(userIds);
+        int deleted = userRepository.deleteByIdIn(userIds);
+        searchSuggestionService.removeUsersAfterCommit(userIds);
+
+        // Bulk deletes skip entity events; these all go out once the batch commits
+        referenceCacheCoherence.publish(Faculty.class, facultyIds);
+        referenceCacheCoherence.publish(Course.class, courseIds);
+        coherenceBus.publish(CourseAccessAuthorizer.CACHE_NAME, courseIds);
+        principalCache.evictAll(userIds);
+
+        checkpoint.setLastProcessedId(userIds.get(userIds.size() - 1));
+        checkpoint.setProcessedCount(checkpoint.getProcessedCount() + deleted);
+        checkpoint.setBatchCount(checkpoint.getBatchCount() + 1);
+        checkpointRepository.save(checkpoint);
+        return true;
+    }
+}
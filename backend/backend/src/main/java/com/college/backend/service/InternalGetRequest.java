@@ -0,0 +1,775 @@
+package com.college.backend.service;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// A GET to one of the app's own routes, run through the DispatcherServlet on a batch worker thread.
+// Headers, cookies, locale, principal and connection details are copied from the batch request when the
+// part is created, on the request thread; nothing refers back to it afterwards. A part that outlives its
+// timeout keeps running after the batch response has gone out, and by then the container has recycled the
+// batch request for someone else's. Path, parameters and attributes are the part's own, and it writes into
+// a Response of its own, so parts can run side by side without touching the real request or response
+class InternalGetRequest implements HttpServletRequest {
+
+    private final String path;
+    private final String query;
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final HttpHeaders headers = new HttpHeaders();
+    private final Cookie[] cookies;
+    private final List<Locale> locales;
+    private final ServletContext servletContext;
+    private final String contextPath;
+    private final String servletName;
+    private final String scheme;
+    private final String serverName;
+    private final int serverPort;
+    private final boolean secure;
+    private final String protocol;
+    private final String remoteAddr;
+    private final String remoteHost;
+    private final int remotePort;
+    private final String localName;
+    private final String localAddr;
+    private final int localPort;
+    private final String requestId;
+    private final String connectionId;
+    private final String requestedSessionId;
+    private final Principal userPrincipal;
+    private final String remoteUser;
+    private final String authType;
+
+    InternalGetRequest(HttpServletRequest batchRequest, String pathAndQuery) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(pathAndQuery).build();
+        this.path = uri.getPath();
+        this.query = uri.getQuery();
+        MultiValueMap<String, String> queryParams = uri.getQueryParams();
+        queryParams.forEach((name, values) -> parameters.put(UriUtils.decode(name, StandardCharsets.UTF_8),
+                values.stream().map(value -> value == null ? "" : UriUtils.decode(value, StandardCharsets.UTF_8))
+                        .toArray(String[]::new)));
+
+        for (String name : Collections.list(batchRequest.getHeaderNames())) {
+            headers.put(name, Collections.list(batchRequest.getHeaders(name)));
+        }
+        // No body, and parts always answer in JSON, whatever the batch itself was asked for
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+
+        Cookie[] batchCookies = batchRequest.getCookies();
+        this.cookies = batchCookies == null ? null
+                : Arrays.stream(batchCookies).map(Cookie::clone).toArray(Cookie[]::new);
+        this.locales = Collections.list(batchRequest.getLocales());
+        this.servletContext = batchRequest.getServletContext();
+        this.contextPath = batchRequest.getContextPath();
+        this.servletName = batchRequest.getHttpServletMapping().getServletName();
+        this.scheme = batchRequest.getScheme();
+        this.serverName = batchRequest.getServerName();
+        this.serverPort = batchRequest.getServerPort();
+        this.secure = batchRequest.isSecure();
+        this.protocol = batchRequest.getProtocol();
+        this.remoteAddr = batchRequest.getRemoteAddr();
+        this.remoteHost = batchRequest.getRemoteHost();
+        this.remotePort = batchRequest.getRemotePort();
+        this.localName = batchRequest.getLocalName();
+        this.localAddr = batchRequest.getLocalAddr();
+        this.localPort = batchRequest.getLocalPort();
+        this.requestId = batchRequest.getRequestId();
+        this.connectionId = batchRequest.getServletConnection().getConnectionId();
+        this.requestedSessionId = batchRequest.getRequestedSessionId();
+        this.userPrincipal = batchRequest.getUserPrincipal();
+        this.remoteUser = batchRequest.getRemoteUser();
+        this.authType = batchRequest.getAuthType();
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort());
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return query;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(headers.getOrEmpty(name));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.getFirst(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return cookies;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locales.isEmpty() ? Locale.getDefault() : locales.get(0);
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales.isEmpty() ? List.of(Locale.getDefault()) : locales);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return new HttpServletMapping() {
+            @Override
+            public String getMatchValue() {
+                return "";
+            }
+
+            @Override
+            public String getPattern() {
+                return "/";
+            }
+
+            @Override
+            public String getServletName() {
+                return servletName;
+            }
+
+            @Override
+            public MappingMatch getMappingMatch() {
+                return MappingMatch.DEFAULT;
+            }
+        };
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String target) {
+        // Relative targets resolve against the part's own path
+        return servletContext.getRequestDispatcher(
+                target.startsWith("/") ? target : path.substring(0, path.lastIndexOf('/') + 1) + target);
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return remotePort;
+    }
+
+    @Override
+    public String getLocalName() {
+        return localName;
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return localAddr;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return localPort;
+    }
+
+    @Override
+    public String getRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return "";
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        return new ServletConnection() {
+            @Override
+            public String getConnectionId() {
+                return connectionId;
+            }
+
+            @Override
+            public String getProtocol() {
+                return protocol;
+            }
+
+            @Override
+            public String getProtocolConnectionId() {
+                return "";
+            }
+
+            @Override
+            public boolean isSecure() {
+                return secure;
+            }
+        };
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return remoteUser;
+    }
+
+    @Override
+    public String getAuthType() {
+        return authType;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return userPrincipal instanceof Authentication authentication && authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals(role)
+                        || authority.getAuthority().equals("ROLE_" + role));
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse response) throws ServletException {
+        throw new ServletException("Not supported in a batch part");
+    }
+
+    @Override
+    public void login(String username, String password) throws ServletException {
+        throw new ServletException("Not supported in a batch part");
+    }
+
+    @Override
+    public void logout() throws ServletException {
+        throw new ServletException("Not supported in a batch part");
+    }
+
+    // The API is stateless; the id is only there for whoever reads it
+    @Override
+    public String getRequestedSessionId() {
+        return requestedSessionId;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (create) {
+            throw new IllegalStateException("Batch parts can't create a session");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String changeSessionId() {
+        throw new IllegalStateException("Batch parts have no session");
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return false;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return false;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+    }
+
+    @Override
+    public Collection<Part> getParts() throws ServletException {
+        throw new ServletException("Batch parts are GETs, not multipart requests");
+    }
+
+    @Override
+    public Part getPart(String name) throws ServletException {
+        throw new ServletException("Batch parts are GETs, not multipart requests");
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) throws ServletException {
+        throw new ServletException("Batch parts can't be upgraded");
+    }
+
+    // No body: the batch request's body is the list of parts
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return true;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            // Already at the end, so the listener gets nothing to read and completes straight away
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    // Mono/async routes can't complete on a batch thread
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Async routes are not supported in a batch");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+        throw new IllegalStateException("Async routes are not supported in a batch");
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw new IllegalStateException("Async routes are not supported in a batch");
+    }
+
+    // Collects status, headers and body in memory; it has no link to the batch response
+    static class Response implements HttpServletResponse {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status = SC_OK;
+        private String contentType;
+        private String characterEncoding;
+        private Locale locale = Locale.getDefault();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        byte[] getBody() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return body.toByteArray();
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            status = sc;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void sendError(int sc) {
+            status = sc;
+        }
+
+        @Override
+        public void sendError(int sc, String msg) {
+            status = sc;
+        }
+
+        @Override
+        public void sendRedirect(String location) {
+            status = SC_FOUND;
+            headers.set(HttpHeaders.LOCATION, location);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                setContentType(value);
+            } else {
+                headers.set(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                setContentType(value);
+            } else {
+                headers.add(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            headers.set(name, String.valueOf(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            headers.add(name, String.valueOf(value));
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            headers.setDate(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            headers.add(name, DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+        }
+
+        @Override
+        public boolean containsHeader(String name) {
+            return headers.containsKey(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return headers.getOrEmpty(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return headers.keySet();
+        }
+
+        @Override
+        public void addCookie(Cookie cookie) {
+        }
+
+        @Override
+        public void setContentType(String type) {
+            contentType = type;
+            if (type != null) {
+                Charset charset = MediaType.parseMediaType(type).getCharset();
+                if (charset != null) {
+                    characterEncoding = charset.name();
+                }
+            }
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+            characterEncoding = charset;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return characterEncoding != null ? characterEncoding : StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+            if (locale != null) {
+                this.locale = locale;
+            }
+        }
+
+        @Override
+        public Locale getLocale() {
+            return locale;
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) {
+                        body.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        body.write(b, off, len);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    // Writes go to memory and never block, so there's nothing to wait for
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        try {
+                            writeListener.onWritePossible();
+                        } catch (IOException e) {
+                            writeListener.onError(e);
+                        }
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setBufferSize(int size) {
+        }
+
+        @Override
+        public int getBufferSize() {
+            return body.size();
+        }
+
+        @Override
+        public void flushBuffer() {
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            body.reset();
+            headers.clear();
+            status = SC_OK;
+            contentType = null;
+        }
+
+        @Override
+        public void resetBuffer() {
+            body.reset();
+        }
+    }
+}
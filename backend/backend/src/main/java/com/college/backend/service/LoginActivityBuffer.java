@@ -0,0 +1,142 @@
+package com.college.backend.service;
+
+import com.college.backend.model.ActivityEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-behind store for login bookkeeping.
+// Logins only touch an in-memory map; a scheduled flush writes the latest timestamp per user
+// (and the admin login counter) as batched UPDATEs, so a login no longer locks its users row.
+@Service
+public class LoginActivityBuffer {
+
+    // Latest login time and number of logins since the last flush
+    public record Activity(LocalDateTime lastLogin, int logins) {
+
+        Activity merge(Activity other) {
+            LocalDateTime latest = lastLogin.isAfter(other.lastLogin) ? lastLogin : other.lastLogin;
+            return new Activity(latest, logins + other.logins);
+        }
+    }
+
+    private static final String UPDATE_USER_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private static final String UPDATE_ADMIN_SQL =
+            "UPDATE admins SET last_login = ?, login_count = COALESCE(login_count, 0) + ? WHERE user_id = ?";
+
+    private final Map<Long, Activity> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ActivityEventService activityEventService;
+
+    @Value("${app.login-activity.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    public void recordLogin(Long userId) {
+        if (userId != null) {
+            pending.merge(userId, new Activity(LocalDateTime.now(), 1), Activity::merge);
+            activityEventService.record(ActivityEvent.EventType.LOGIN, userId, userId, null, "User logged in");
+        }
+    }
+
+    // Logins not yet written to the database; readers overlay these on what they load
+    public Map<Long, Activity> pendingActivity() {
+        return new HashMap<>(pending);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-activity.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        System.out.println("Login activity flushed on shutdown: " + flushed + " users");
+    }
+
+    // Returns the number of users written. A lock rather than synchronized, which would pin a virtual thread
+    // for the whole JDBC write
+    public int flush() {
+        flushLock.lock();
+        try {
+            return writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int writePending() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // Take entries out one by one; logins arriving meanwhile start a new entry for the next flush
+        List<Long> userIds = new ArrayList<>(pending.keySet());
+        Collections.sort(userIds); // consistent lock order across nodes
+        Map<Long, Activity> drained = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            Activity activity = pending.remove(userId);
+            if (activity != null) {
+                drained.put(userId, activity);
+            }
+        }
+
+        List<Map.Entry<Long, Activity>> entries = new ArrayList<>(drained.entrySet());
+        TransactionTemplate chunkTx = new TransactionTemplate(transactionManager);
+        int written = 0;
+        try {
+            for (int from = 0; from < entries.size(); from += flushBatchSize) {
+                List<Map.Entry<Long, Activity>> chunk = entries.subList(from, Math.min(from + flushBatchSize, entries.size()));
+                chunkTx.executeWithoutResult(status -> writeChunk(chunk));
+                written += chunk.size();
+            }
+        } catch (Exception e) {
+            // Put back what was not written so it goes out with the next flush
+            System.err.println("Login activity flush failed, will retry: " + e.getMessage());
+            for (Map.Entry<Long, Activity> entry : entries.subList(written, entries.size())) {
+                pending.merge(entry.getKey(), entry.getValue(), Activity::merge);
+            }
+        }
+        return written;
+    }
+
+    private void writeChunk(List<Map.Entry<Long, Activity>> chunk) {
+        jdbcTemplate.batchUpdate(UPDATE_USER_SQL, chunk, chunk.size(), (ps, entry) -> {
+            Timestamp lastLogin = Timestamp.valueOf(entry.getValue().lastLogin());
+            ps.setTimestamp(1, lastLogin);
+            ps.setLong(2, entry.getKey());
+            ps.setTimestamp(3, lastLogin);
+        });
+        // Only users with an admin profile match; for everyone else this is a no-op
+        jdbcTemplate.batchUpdate(UPDATE_ADMIN_SQL, chunk, chunk.size(), (ps, entry) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(entry.getValue().lastLogin()));
+            ps.setInt(2, entry.getValue().logins());
+            ps.setLong(3, entry.getKey());
+        });
+    }
+}
@@ -0,0 +1,226 @@
+package com.college.backend.service;
+
+import com.college.backend.model.NotificationOutbox;
+import com.college.backend.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Drains the notification outbox: claims due rows in short transactions, sends them over one SMTP
+// session per batch outside any transaction, then records the outcome with exponential backoff on failure
+@Service
+public class NotificationDispatcher {
+
+    public static final String TRANSPORT_SMTP = "smtp";
+    public static final String TRANSPORT_LOG = "log";
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<JavaMailSender> mailSender;
+
+    @Autowired
+    @Qualifier("notificationDispatchExecutor")
+    private ThreadPoolTaskExecutor dispatchExecutor;
+
+    @Value("${app.notifications.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.transport:smtp}")
+    private String transport;
+
+    @Value("${app.notifications.from:no-reply@karunya.edu}")
+    private String fromAddress;
+
+    @Value("${app.notifications.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    @Value("${app.notifications.claim-seconds:300}")
+    private long claimSeconds;
+
+    private final ReentrantLock running = new ReentrantLock();
+
+    // Called after an enqueue commits; the single-slot executor coalesces bursts into one run
+    public void trigger() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(this::dispatchPending);
+        } catch (TaskRejectedException e) {
+            // A run is already queued and will pick this notification up
+        }
+    }
+
+    // SMTP I/O stays off the shared scheduler thread; the poll only wakes the dispatch executor
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval-ms:5000}")
+    public void scheduledDispatch() {
+        trigger();
+    }
+
+    // Returns the number of emails sent
+    public int dispatchPending() {
+        if (!running.tryLock()) {
+            return 0;
+        }
+        try {
+            int sent = 0;
+            while (true) {
+                List<NotificationOutbox> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    return sent;
+                }
+                sent += deliver(batch);
+                if (batch.size() < batchSize) {
+                    return sent;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Notification dispatch failed: " + e.getMessage());
+            return 0;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private List<NotificationOutbox> claimBatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> due = outboxRepository.findDueForUpdate(NotificationOutbox.Status.PENDING,
+                    NotificationOutbox.Status.SENDING, now, PageRequest.of(0, batchSize));
+            for (NotificationOutbox notification : due) {
+                notification.setStatus(NotificationOutbox.Status.SENDING);
+                notification.setLockedUntil(now.plusSeconds(claimSeconds));
+                notification.setAttempts(notification.getAttempts() + 1);
+            }
+            return due;
+        });
+    }
+
+    private int deliver(List<NotificationOutbox> batch) {
+        // Per-recipient dedup inside the batch: one email per dedup key
+        Map<String, NotificationOutbox> unique = new LinkedHashMap<>();
+        List<NotificationOutbox> skipped = new ArrayList<>();
+        for (NotificationOutbox notification : batch) {
+            String key = notification.getDedupKey() != null ? notification.getDedupKey() : "id:" + notification.getId();
+            if (unique.putIfAbsent(key, notification) != null) {
+                skipped.add(notification);
+            }
+        }
+
+        List<NotificationOutbox> toSend = new ArrayList<>(unique.values());
+        Map<NotificationOutbox, String> failures = send(toSend);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationOutbox notification : toSend) {
+            String error = failures.get(notification);
+            if (error == null) {
+                notification.setStatus(NotificationOutbox.Status.SENT);
+                notification.setSentAt(now);
+                notification.setLastError(null);
+            } else if (notification.getAttempts() >= maxAttempts) {
+                notification.setStatus(NotificationOutbox.Status.FAILED);
+                notification.setLastError(truncate(error));
+            } else {
+                notification.setStatus(NotificationOutbox.Status.PENDING);
+                long delay = retryBackoffSeconds << Math.min(notification.getAttempts() - 1, 10);
+                notification.setNextAttemptAt(now.plusSeconds(delay));
+                notification.setLastError(truncate(error));
+            }
+            notification.setLockedUntil(null);
+        }
+        for (NotificationOutbox notification : skipped) {
+            notification.setStatus(NotificationOutbox.Status.SKIPPED);
+            notification.setLastError("Duplicate of a notification in the same batch");
+            notification.setLockedUntil(null);
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> outboxRepository.saveAll(batch));
+        return toSend.size() - failures.size();
+    }
+
+    // Returns the error per failed notification
+    private Map<NotificationOutbox, String> send(List<NotificationOutbox> notifications) {
+        Map<NotificationOutbox, String> failures = new IdentityHashMap<>();
+        if (notifications.isEmpty()) {
+            return failures;
+        }
+
+        if (TRANSPORT_LOG.equalsIgnoreCase(transport)) {
+            for (NotificationOutbox notification : notifications) {
+                System.out.println("=== EMAIL (" + notification.getCategory() + ") ===");
+                System.out.println("To: " + notification.getRecipientEmail());
+                System.out.println("Subject: " + notification.getSubject());
+                System.out.println(notification.getBody());
+                System.out.println("===========================");
+            }
+            return failures;
+        }
+
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            notifications.forEach(n -> failures.put(n, "No mail sender configured (spring.mail.host)"));
+            return failures;
+        }
+
+        Map<SimpleMailMessage, NotificationOutbox> byMessage = new IdentityHashMap<>();
+        for (NotificationOutbox notification : notifications) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromAddress);
+            message.setTo(notification.getRecipientEmail());
+            message.setSubject(notification.getSubject());
+            message.setText(notification.getBody());
+            byMessage.put(message, notification);
+        }
+
+        try {
+            sender.send(byMessage.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            // Messages before a failure may already be out; only the listed ones are retried
+            if (e.getFailedMessages().isEmpty()) {
+                notifications.forEach(n -> failures.put(n, e.getMessage()));
+            }
+            for (Map.Entry<Object, Exception> failed : e.getFailedMessages().entrySet()) {
+                NotificationOutbox notification = byMessage.get(failed.getKey());
+                if (notification != null) {
+                    failures.put(notification, failed.getValue().getMessage());
+                }
+            }
+        } catch (MailException e) {
+            notifications.forEach(n -> failures.put(n, e.getMessage()));
+        }
+        return failures;
+    }
+
+    private String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
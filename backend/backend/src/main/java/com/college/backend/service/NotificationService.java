@@ -0,0 +1,97 @@
+package com.college.backend.service;
+
+import com.college.backend.model.NotificationOutbox;
+import com.college.backend.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Queues outgoing email in the notification outbox.
+// The row commits (or rolls back) with the caller's transaction; delivery happens in NotificationDispatcher.
+@Service
+@Transactional
+public class NotificationService {
+
+    private static final List<NotificationOutbox.Status> OPEN_STATUSES =
+            List.of(NotificationOutbox.Status.PENDING, NotificationOutbox.Status.SENDING);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Value("${app.notifications.dedup-window-minutes:60}")
+    private long dedupWindowMinutes;
+
+    // Returns the queued row, or null when an equal notification is already queued or was sent recently
+    public NotificationOutbox enqueue(NotificationOutbox.Category category, String recipientEmail, String recipientName,
+                                      String subject, String body, String dedupKey) {
+        if (recipientEmail == null || recipientEmail.isBlank()) {
+            throw new IllegalArgumentException("Recipient email is required");
+        }
+        String email = recipientEmail.trim().toLowerCase(Locale.ROOT);
+        String key = dedupKey != null ? dedupKey : category + ":" + email + ":" + contentHash(subject, body);
+
+        if (outboxRepository.existsRecentDuplicate(key, OPEN_STATUSES, LocalDateTime.now().minusMinutes(dedupWindowMinutes))) {
+            return null;
+        }
+
+        NotificationOutbox notification = new NotificationOutbox();
+        notification.setCategory(category);
+        notification.setRecipientEmail(email);
+        notification.setRecipientName(recipientName);
+        notification.setSubject(subject);
+        notification.setBody(body);
+        notification.setDedupKey(key);
+        NotificationOutbox saved = outboxRepository.save(notification);
+
+        wakeDispatcherAfterCommit();
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOutboxStatus() {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (NotificationOutbox.Status status : NotificationOutbox.Status.values()) {
+            counts.put(status.name(), 0L);
+        }
+        for (Object[] row : outboxRepository.countByStatus()) {
+            counts.put(row[0].toString(), row[1]);
+        }
+        return counts;
+    }
+
+    // Deliver soon after commit instead of waiting for the next poll
+    private void wakeDispatcherAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.trigger();
+                }
+            });
+        } else {
+            dispatcher.trigger();
+        }
+    }
+
+    private static String contentHash(String subject, String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((subject + "\n" + body).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
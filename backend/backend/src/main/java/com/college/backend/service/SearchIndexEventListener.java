@@ -0,0 +1,83 @@
+package com.college.backend.service;
+
+import com.college.backend.model.Course;
+import com.college.backend.model.Department;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.college.backend.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Hibernate post-commit events keep the suggestion index in step with committed entity changes, on this
+// node directly and on the others through the coherence bus
+@Component
+public class SearchIndexEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SearchSuggestionService suggestionService;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        apply(() -> suggestionService.indexEntity(event.getEntity()));
+        apply(() -> suggestionService.publishChange(event.getEntity()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        apply(() -> suggestionService.indexEntity(event.getEntity()));
+        apply(() -> suggestionService.publishChange(event.getEntity()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        apply(() -> suggestionService.removeEntity(event.getEntity()));
+        apply(() -> suggestionService.publishChange(event.getEntity()));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Student.class || type == Faculty.class || type == Course.class
+                || type == Department.class || type == User.class;
+    }
+
+    private void apply(Runnable update) {
+        try {
+            update.run();
+        } catch (Exception e) {
+            // The index is best effort; never fail a committed transaction because of it
+            System.err.println("Search index update failed: " + e.getMessage());
+        }
+    }
+}
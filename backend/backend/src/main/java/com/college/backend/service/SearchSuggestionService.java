@@ -0,0 +1,270 @@
+package com.college.backend.service;
+
+import com.college.backend.config.CacheCoherenceBus;
+import com.college.backend.config.ReplicaRouting;
+import com.college.backend.model.Course;
+import com.college.backend.model.Department;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.college.backend.model.User;
+import com.college.backend.repository.CourseRepository;
+import com.college.backend.repository.DepartmentRepository;
+import com.college.backend.repository.FacultyRepository;
+import com.college.backend.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+@Service
+public class SearchSuggestionService {
+
+    public static final String TYPE_STUDENT = "student";
+    public static final String TYPE_FACULTY = "faculty";
+    public static final String TYPE_COURSE = "course";
+    public static final String TYPE_DEPARTMENT = "department";
+
+    // Coherence bus name; keys are "user:<id>", "course:<id>" or "department:<id>"
+    public static final String CACHE_NAME = "search-suggestions";
+    private static final String KEY_USER = "user:";
+    private static final String KEY_COURSE = "course:";
+    private static final String KEY_DEPARTMENT = "department:";
+
+    private static final int MAX_LIMIT = 25;
+
+    private final TypeaheadIndex index = new TypeaheadIndex();
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CacheCoherenceBus coherenceBus;
+
+    @Autowired
+    private ReplicaRouting replicaRouting;
+
+    // Changes committed on other nodes: what they touched is read again from the primary. After a
+    // listener reconnect (null) the whole index is rebuilt, since notifications may have been missed
+    @PostConstruct
+    public void registerCoherence() {
+        coherenceBus.register(CACHE_NAME, keys -> replicaRouting.readFromPrimary(() -> {
+            if (keys == null) {
+                rebuildIndex();
+            } else {
+                refresh(keys);
+            }
+            return null;
+        }));
+    }
+
+    // Full build at startup; afterwards the index follows entity changes via SearchIndexEventListener
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        index.clear();
+        studentRepository.findAllWithUserAndDepartment().forEach(this::indexStudent);
+        facultyRepository.findAllWithUserAndDepartment().forEach(this::indexFaculty);
+        courseRepository.findAll().forEach(this::indexCourse);
+        departmentRepository.findAll().forEach(this::indexDepartment);
+        System.out.println("Search suggestion index built: " + index.size() + " entries in " +
+                (System.currentTimeMillis() - start) + " ms");
+    }
+
+    public List<TypeaheadIndex.Suggestion> suggest(String query, Set<String> types, int limit) {
+        Set<String> allowed = new HashSet<>(List.of(TYPE_COURSE, TYPE_DEPARTMENT));
+        // People are only suggested to staff; students get courses and departments
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getAuthorities().stream().anyMatch(a ->
+                a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_FACULTY"))) {
+            allowed.add(TYPE_STUDENT);
+            allowed.add(TYPE_FACULTY);
+        }
+        if (types != null && !types.isEmpty()) {
+            allowed.retainAll(types);
+        }
+        if (allowed.isEmpty()) {
+            return List.of();
+        }
+        return index.suggest(query, allowed, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    public int indexSize() {
+        return index.size();
+    }
+
+    // Incremental updates
+    public void indexEntity(Object entity) {
+        if (entity instanceof Student student) {
+            indexStudent(student);
+        } else if (entity instanceof Faculty faculty) {
+            indexFaculty(faculty);
+        } else if (entity instanceof Course course) {
+            indexCourse(course);
+        } else if (entity instanceof Department department) {
+            indexDepartment(department);
+        } else if (entity instanceof User user) {
+            index.updateUser(user.getId(), user.getName(), user.getEmail());
+        }
+    }
+
+    public void removeEntity(Object entity) {
+        if (entity instanceof Student student) {
+            index.remove(TYPE_STUDENT, student.getId());
+        } else if (entity instanceof Faculty faculty) {
+            index.remove(TYPE_FACULTY, faculty.getId());
+        } else if (entity instanceof Course course) {
+            index.remove(TYPE_COURSE, course.getId());
+        } else if (entity instanceof Department department) {
+            index.remove(TYPE_DEPARTMENT, department.getId());
+        } else if (entity instanceof User user) {
+            index.removeByUserIds(List.of(user.getId()));
+        }
+    }
+
+    // Tells the other nodes about a committed change this node has just applied to its own index
+    public void publishChange(Object entity) {
+        String key = coherenceKey(entity);
+        if (key != null) {
+            coherenceBus.publish(CACHE_NAME, List.of(key));
+        }
+    }
+
+    // For bulk JPQL deletes, which bypass entity events; applied once the transaction commits
+    public void removeUsersAfterCommit(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        coherenceBus.publish(CACHE_NAME, ids.stream().map(id -> KEY_USER + id).toList());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.removeByUserIds(ids);
+                }
+            });
+        } else {
+            index.removeByUserIds(ids);
+        }
+    }
+
+    // For JDBC batch inserts, which bypass entity events
+    public void indexEntitiesAfterCommit(Collection<?> entities) {
+        List<?> pending = List.copyOf(entities);
+        coherenceBus.publish(CACHE_NAME, pending.stream().map(this::coherenceKey).filter(Objects::nonNull).toList());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.forEach(SearchSuggestionService.this::indexEntity);
+                }
+            });
+        } else {
+            pending.forEach(this::indexEntity);
+        }
+    }
+
+    private String coherenceKey(Object entity) {
+        if (entity instanceof Student student) {
+            return student.getUser() != null ? KEY_USER + student.getUser().getId() : null;
+        } else if (entity instanceof Faculty faculty) {
+            return faculty.getUser() != null ? KEY_USER + faculty.getUser().getId() : null;
+        } else if (entity instanceof User user) {
+            return KEY_USER + user.getId();
+        } else if (entity instanceof Course course) {
+            return KEY_COURSE + course.getId();
+        } else if (entity instanceof Department department) {
+            return KEY_DEPARTMENT + department.getId();
+        }
+        return null;
+    }
+
+    // A user's entries are dropped and rebuilt from their current profiles, so renames, deleted users
+    // and deleted profiles all come out right; courses and departments no longer found are removed
+    private void refresh(Collection<String> keys) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (String key : keys) {
+            if (key.startsWith(KEY_USER)) {
+                userIds.add(Long.valueOf(key.substring(KEY_USER.length())));
+            } else if (key.startsWith(KEY_COURSE)) {
+                courseIds.add(Long.valueOf(key.substring(KEY_COURSE.length())));
+            } else if (key.startsWith(KEY_DEPARTMENT)) {
+                departmentIds.add(Long.valueOf(key.substring(KEY_DEPARTMENT.length())));
+            }
+        }
+
+        if (!userIds.isEmpty()) {
+            List<Student> students = studentRepository.findAllWithUserAndDepartmentByUserIdIn(userIds);
+            List<Faculty> faculty = facultyRepository.findAllWithUserAndDepartmentByUserIdIn(userIds);
+            index.removeByUserIds(userIds);
+            students.forEach(this::indexStudent);
+            faculty.forEach(this::indexFaculty);
+        }
+        if (!courseIds.isEmpty()) {
+            courseRepository.findAllById(courseIds).forEach(course -> {
+                indexCourse(course);
+                courseIds.remove(course.getId());
+            });
+            courseIds.forEach(id -> index.remove(TYPE_COURSE, id));
+        }
+        if (!departmentIds.isEmpty()) {
+            departmentRepository.findAllById(departmentIds).forEach(department -> {
+                indexDepartment(department);
+                departmentIds.remove(department.getId());
+            });
+            departmentIds.forEach(id -> index.remove(TYPE_DEPARTMENT, id));
+        }
+    }
+
+    private void indexStudent(Student student) {
+        User user = student.getUser();
+        if (user == null) {
+            return;
+        }
+        index.put(new TypeaheadIndex.Entry(TYPE_STUDENT, student.getId(), user.getId(), user.getName(),
+                student.getStudentId(), List.of(nullToEmpty(user.getName()), nullToEmpty(user.getEmail()),
+                        nullToEmpty(student.getStudentId()))));
+    }
+
+    private void indexFaculty(Faculty faculty) {
+        User user = faculty.getUser();
+        if (user == null) {
+            return;
+        }
+        index.put(new TypeaheadIndex.Entry(TYPE_FACULTY, faculty.getId(), user.getId(), user.getName(),
+                faculty.getFacultyId(), List.of(nullToEmpty(user.getName()), nullToEmpty(user.getEmail()),
+                        nullToEmpty(faculty.getFacultyId()), nullToEmpty(faculty.getEmployeeId()))));
+    }
+
+    private void indexCourse(Course course) {
+        index.put(new TypeaheadIndex.Entry(TYPE_COURSE, course.getId(), null, course.getCourseName(),
+                course.getCourseCode(), List.of(nullToEmpty(course.getCourseName()), nullToEmpty(course.getCourseCode()))));
+    }
+
+    private void indexDepartment(Department department) {
+        index.put(new TypeaheadIndex.Entry(TYPE_DEPARTMENT, department.getId(), null, department.getDepartmentName(),
+                department.getDepartmentCode(), List.of(nullToEmpty(department.getDepartmentName()),
+                        nullToEmpty(department.getDepartmentCode()))));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,432 @@
+package com.college.backend.service;
+
+import com.college.backend.config.ReactiveReadConfig;
+import com.college.backend.dto.DepartmentRef;
+import com.college.backend.dto.StudentDashboard;
+import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.model.Student;
+import com.college.backend.security.CurrentActorResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Non-blocking variant of the StudentPortalService reads (dashboard, grades, attendance, academic records)
+// on R2DBC. Responses have the same shape as the servlet endpoints, but each view is built from a few
+// joined queries instead of lazy loading, and nothing holds a thread or a JDBC connection while they run.
+// The caller is resolved on the request thread; everything after that runs on the R2DBC event loop
+@Service
+@ConditionalOnExpression(ReactiveReadConfig.ENABLED)
+public class StudentPortalReactiveService {
+
+    private static final String STUDENT_BY_USER =
+            "SELECT s.id, s.student_id, s.status, s.fee_status, s.cgpa, s.academic_year, s.semester, s.hostel_resident, " +
+            "u.name, u.email, u.phone, d.id AS department_id, d.department_name, d.department_code " +
+            "FROM students s JOIN users u ON u.id = s.user_id LEFT JOIN departments d ON d.id = s.department_id " +
+            "WHERE s.user_id = :userId";
+
+    private static final String ENROLLMENT_CREDITS =
+            "SELECT e.status, c.credits FROM enrollments e JOIN courses c ON c.id = e.course_id " +
+            "WHERE e.student_id = :studentId";
+
+    private static final String GRADE_SUMMARY =
+            "SELECT numeric_grade, letter_grade, graded_date FROM grades WHERE student_id = :studentId";
+
+    private static final String ATTENDANCE_COUNTS =
+            "SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE status = 'PRESENT') AS present, " +
+            "COUNT(*) FILTER (WHERE status = 'ABSENT') AS absent FROM attendance_records WHERE student_id = :studentId";
+
+    private static final String RECENT_ENROLLMENTS =
+            "SELECT e.enrollment_date, c.course_name FROM enrollments e JOIN courses c ON c.id = e.course_id " +
+            "WHERE e.student_id = :studentId ORDER BY e.enrollment_date DESC LIMIT :limit";
+
+    private static final String RECENT_GRADES =
+            "SELECT g.graded_date, g.letter_grade, c.course_name FROM grades g JOIN courses c ON c.id = g.course_id " +
+            "WHERE g.student_id = :studentId ORDER BY g.graded_date DESC LIMIT :limit";
+
+    private static final String GRADES_WITH_COURSE =
+            "SELECT g.id, g.course_id, g.grade_type, g.letter_grade, g.numeric_grade, g.max_points, g.points_earned, " +
+            "g.graded_date, g.comments, c.course_name, c.course_code, c.credits " +
+            "FROM grades g JOIN courses c ON c.id = g.course_id WHERE g.student_id = :studentId ORDER BY g.graded_date DESC";
+
+    private static final String ATTENDANCE_WITH_COURSE =
+            "SELECT a.course_id, a.attendance_date, a.status, a.remarks, c.course_name, c.course_code " +
+            "FROM attendance_records a JOIN courses c ON c.id = a.course_id " +
+            "WHERE a.student_id = :studentId ORDER BY a.attendance_date DESC";
+
+    private static final String ENROLLMENT_RECORDS =
+            "SELECT e.id, e.enrollment_date, e.status, e.grade, c.id AS course_id, c.course_name, c.course_code, " +
+            "c.credits, c.course_type, iu.name AS instructor_name " +
+            "FROM enrollments e JOIN courses c ON c.id = e.course_id " +
+            "LEFT JOIN faculty f ON f.id = c.faculty_id LEFT JOIN users iu ON iu.id = f.user_id " +
+            "WHERE e.student_id = :studentId ORDER BY e.enrollment_date DESC";
+
+    private static final String STUDENT_GRADES =
+            "SELECT course_id, grade_type, letter_grade, numeric_grade, max_points, points_earned, graded_date, comments " +
+            "FROM grades WHERE student_id = :studentId ORDER BY graded_date DESC";
+
+    // Stands in for a section that failed or timed out; reactive streams cannot carry null
+    private static final Object INCOMPLETE = new Object();
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private CurrentActorResolver currentActorResolver;
+
+    @Value("${app.dashboard.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
+
+    @PreAuthorize("hasRole('STUDENT')")
+    public Mono<StudentDashboard> getStudentDashboardOverview() {
+        Long userId = currentActorResolver.currentPrincipal().getId();
+        return findStudent(userId).flatMap(student -> {
+            Long studentId = (Long) student.get("id");
+            Map<String, Mono<?>> sections = new LinkedHashMap<>();
+            sections.put("academicOverview", getAcademicOverview(studentId));
+            sections.put("performanceOverview", getPerformanceOverview(studentId, (Double) student.get("cgpa")));
+            sections.put("attendanceOverview", getAttendanceOverview(studentId));
+            sections.put("recentActivities", getRecentActivities(studentId, 10));
+            sections.put("upcomingEvents", Mono.fromSupplier(() -> getUpcomingEvents(student)));
+            return runSections(sections).map(results -> new StudentDashboard(
+                    toStudentProfile(student),
+                    (StudentDashboard.AcademicOverview) results.get("academicOverview"),
+                    (StudentDashboard.PerformanceOverview) results.get("performanceOverview"),
+                    (StudentDashboard.AttendanceOverview) results.get("attendanceOverview"),
+                    castList(results.get("recentActivities")),
+                    castList(results.get("upcomingEvents")),
+                    castList(results.get(DashboardComposer.INCOMPLETE_SECTIONS))));
+        });
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    public Mono<Map<String, Object>> getGradeDetails() {
+        Long userId = currentActorResolver.currentPrincipal().getId();
+        return findStudent(userId).flatMap(student -> rows(GRADES_WITH_COURSE, (Long) student.get("id"))
+                .collectList()
+                .map(allGrades -> {
+                    Map<Long, List<Map<String, Object>>> gradesByCourse = groupByCourse(allGrades);
+                    List<Map<String, Object>> courseGrades = new ArrayList<>();
+                    for (List<Map<String, Object>> courseGradeList : gradesByCourse.values()) {
+                        Map<String, Object> first = courseGradeList.get(0);
+                        Map<String, Object> courseData = new HashMap<>();
+                        courseData.put("courseId", first.get("course_id"));
+                        courseData.put("courseName", first.get("course_name"));
+                        courseData.put("courseCode", first.get("course_code"));
+                        courseData.put("credits", first.get("credits"));
+
+                        List<Map<String, Object>> gradeDetails = new ArrayList<>();
+                        for (Map<String, Object> grade : courseGradeList) {
+                            Map<String, Object> gradeInfo = toGradeInfo(grade);
+                            gradeInfo.put("gradeId", grade.get("id"));
+                            gradeDetails.add(gradeInfo);
+                        }
+                        courseData.put("grades", gradeDetails);
+                        courseData.put("courseAverage", averageNumericGrade(courseGradeList));
+                        // Rows are newest first
+                        courseData.put("currentGrade", first.get("letter_grade"));
+                        courseGrades.add(courseData);
+                    }
+
+                    Map<String, Object> overallSummary = new HashMap<>();
+                    overallSummary.put("totalGrades", allGrades.size());
+                    overallSummary.put("cgpa", student.get("cgpa"));
+                    if (!allGrades.isEmpty()) {
+                        overallSummary.put("overallAverage", averageNumericGrade(allGrades));
+                        overallSummary.put("gradeDistribution", allGrades.stream()
+                                .filter(g -> g.get("letter_grade") != null)
+                                .collect(Collectors.groupingBy(g -> (String) g.get("letter_grade"), Collectors.counting())));
+                    } else {
+                        overallSummary.put("overallAverage", 0.0);
+                        overallSummary.put("gradeDistribution", new HashMap<>());
+                    }
+
+                    Map<String, Object> gradeData = new HashMap<>();
+                    gradeData.put("courseGrades", courseGrades);
+                    gradeData.put("overallSummary", overallSummary);
+                    return gradeData;
+                }));
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    public Mono<Map<String, Object>> getAttendanceRecords() {
+        Long userId = currentActorResolver.currentPrincipal().getId();
+        return findStudent(userId).flatMap(student -> rows(ATTENDANCE_WITH_COURSE, (Long) student.get("id"))
+                .collectList()
+                .map(allAttendance -> {
+                    List<Map<String, Object>> courseAttendance = new ArrayList<>();
+                    for (List<Map<String, Object>> courseRecords : groupByCourse(allAttendance).values()) {
+                        Map<String, Object> first = courseRecords.get(0);
+                        Map<String, Object> courseData = new HashMap<>();
+                        courseData.put("courseId", first.get("course_id"));
+                        courseData.put("courseName", first.get("course_name"));
+                        courseData.put("courseCode", first.get("course_code"));
+
+                        long totalClasses = courseRecords.size();
+                        long presentCount = countStatus(courseRecords, "PRESENT");
+                        courseData.put("totalClasses", totalClasses);
+                        courseData.put("present", presentCount);
+                        courseData.put("absent", countStatus(courseRecords, "ABSENT"));
+                        courseData.put("late", countStatus(courseRecords, "LATE"));
+                        courseData.put("attendancePercentage", percentage(presentCount, totalClasses));
+
+                        courseData.put("recentRecords", courseRecords.stream()
+                                .limit(10)
+                                .map(record -> {
+                                    Map<String, Object> map = new HashMap<>();
+                                    map.put("date", record.get("attendance_date"));
+                                    map.put("status", record.get("status"));
+                                    map.put("remarks", record.get("remarks") != null ? record.get("remarks") : "");
+                                    return map;
+                                })
+                                .collect(Collectors.toList()));
+                        courseAttendance.add(courseData);
+                    }
+
+                    long totalClasses = allAttendance.size();
+                    long totalPresent = countStatus(allAttendance, "PRESENT");
+                    Map<String, Object> overallSummary = new HashMap<>();
+                    overallSummary.put("totalClasses", totalClasses);
+                    overallSummary.put("totalPresent", totalPresent);
+                    overallSummary.put("overallAttendancePercentage", percentage(totalPresent, totalClasses));
+
+                    Map<String, Object> attendanceData = new HashMap<>();
+                    attendanceData.put("courseAttendance", courseAttendance);
+                    attendanceData.put("overallSummary", overallSummary);
+                    return attendanceData;
+                }));
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    public Mono<Map<String, Object>> getAcademicRecords() {
+        Long userId = currentActorResolver.currentPrincipal().getId();
+        return findStudent(userId).flatMap(student -> {
+            Long studentId = (Long) student.get("id");
+            return Mono.zip(rows(ENROLLMENT_RECORDS, studentId).collectList(), rows(STUDENT_GRADES, studentId).collectList())
+                    .map(results -> {
+                        List<Map<String, Object>> enrollments = results.getT1();
+                        Map<Long, List<Map<String, Object>>> gradesByCourse = groupByCourse(results.getT2());
+
+                        List<Map<String, Object>> courseRecords = new ArrayList<>();
+                        int completedCredits = 0;
+                        for (Map<String, Object> enrollment : enrollments) {
+                            Map<String, Object> record = new HashMap<>();
+                            record.put("enrollmentId", enrollment.get("id"));
+                            record.put("courseName", enrollment.get("course_name"));
+                            record.put("courseCode", enrollment.get("course_code"));
+                            record.put("credits", enrollment.get("credits"));
+                            record.put("type", enrollment.get("course_type"));
+                            record.put("enrollmentDate", enrollment.get("enrollment_date"));
+                            record.put("enrollmentStatus", enrollment.get("status"));
+                            record.put("currentGrade", enrollment.get("grade"));
+                            if (enrollment.get("instructor_name") != null) {
+                                record.put("instructor", enrollment.get("instructor_name"));
+                            }
+
+                            List<Map<String, Object>> courseGrades =
+                                    gradesByCourse.getOrDefault((Long) enrollment.get("course_id"), List.of());
+                            record.put("grades", courseGrades.stream().map(this::toGradeInfo).collect(Collectors.toList()));
+                            record.put("courseAverage", courseGrades.isEmpty() ? null : averageNumericGrade(courseGrades));
+                            courseRecords.add(record);
+
+                            if ("COMPLETED".equals(enrollment.get("status")) && enrollment.get("credits") != null) {
+                                completedCredits += (Integer) enrollment.get("credits");
+                            }
+                        }
+
+                        Map<String, Object> academicSummary = new HashMap<>();
+                        academicSummary.put("overallCGPA", student.get("cgpa"));
+                        academicSummary.put("currentSemester", student.get("semester"));
+                        academicSummary.put("academicYear", student.get("academic_year"));
+                        academicSummary.put("status", student.get("status"));
+                        academicSummary.put("completedCredits", completedCredits);
+
+                        Map<String, Object> records = new HashMap<>();
+                        records.put("courseRecords", courseRecords);
+                        records.put("totalCourses", courseRecords.size());
+                        records.put("academicSummary", academicSummary);
+                        return records;
+                    });
+        });
+    }
+
+    // Dashboard sections run concurrently; like DashboardComposer, a section that fails or misses the
+    // timeout comes back as null and is named in the list under incompleteSections
+    private Mono<Map<String, Object>> runSections(Map<String, Mono<?>> sections) {
+        return Flux.fromIterable(sections.entrySet())
+                .flatMap(section -> section.getValue()
+                        .<Object>map(value -> value)
+                        .timeout(Duration.ofMillis(sectionTimeoutMs))
+                        .onErrorResume(e -> {
+                            System.err.println("Dashboard section '" + section.getKey() + "' failed: " + e.getMessage());
+                            return Mono.just(INCOMPLETE);
+                        })
+                        .map(value -> Map.entry(section.getKey(), value)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(results -> {
+                    Map<String, Object> values = new HashMap<>();
+                    List<String> incomplete = new ArrayList<>();
+                    for (String name : sections.keySet()) {
+                        Object value = results.get(name);
+                        if (value == INCOMPLETE) {
+                            incomplete.add(name);
+                        } else {
+                            values.put(name, value);
+                        }
+                    }
+                    if (!incomplete.isEmpty()) {
+                        values.put(DashboardComposer.INCOMPLETE_SECTIONS, incomplete);
+                    }
+                    return values;
+                });
+    }
+
+    private Mono<StudentDashboard.AcademicOverview> getAcademicOverview(Long studentId) {
+        return rows(ENROLLMENT_CREDITS, studentId).collectList().map(enrollments -> {
+            List<Map<String, Object>> current = enrollments.stream()
+                    .filter(e -> "ENROLLED".equals(e.get("status")))
+                    .collect(Collectors.toList());
+            return new StudentDashboard.AcademicOverview(
+                    enrollments.size(),
+                    current.size(),
+                    current.stream().mapToInt(e -> e.get("credits") != null ? (Integer) e.get("credits") : 0).sum(),
+                    enrollments.stream().collect(Collectors.groupingBy(e -> (String) e.get("status"), Collectors.counting())));
+        });
+    }
+
+    private Mono<StudentDashboard.PerformanceOverview> getPerformanceOverview(Long studentId, Double cgpa) {
+        return rows(GRADE_SUMMARY, studentId).collectList().map(grades -> {
+            Optional<Map<String, Object>> latest = grades.stream()
+                    .filter(g -> g.get("graded_date") != null)
+                    .max(Comparator.comparing(g -> (LocalDateTime) g.get("graded_date")));
+            return new StudentDashboard.PerformanceOverview(
+                    grades.size(),
+                    cgpa,
+                    grades.isEmpty() ? 0.0 : averageNumericGrade(grades),
+                    latest.map(g -> (String) g.get("letter_grade")).orElse(null),
+                    latest.map(g -> (Double) g.get("numeric_grade")).orElse(null));
+        });
+    }
+
+    private Mono<StudentDashboard.AttendanceOverview> getAttendanceOverview(Long studentId) {
+        return rows(ATTENDANCE_COUNTS, studentId).next().map(counts -> {
+            long total = ((Number) counts.get("total")).longValue();
+            long present = ((Number) counts.get("present")).longValue();
+            return new StudentDashboard.AttendanceOverview(
+                    total, percentage(present, total), present, ((Number) counts.get("absent")).longValue());
+        });
+    }
+
+    private Mono<List<StudentDashboard.RecentActivity>> getRecentActivities(Long studentId, int limit) {
+        Flux<StudentDashboard.RecentActivity> enrollments = databaseClient.sql(RECENT_ENROLLMENTS)
+                .bind("studentId", studentId).bind("limit", limit / 2)
+                .fetch().all()
+                .map(row -> new StudentDashboard.RecentActivity("ENROLLMENT", "Enrolled in " + row.get("course_name"),
+                        (LocalDateTime) row.get("enrollment_date"), (String) row.get("course_name"), null));
+        Flux<StudentDashboard.RecentActivity> grades = databaseClient.sql(RECENT_GRADES)
+                .bind("studentId", studentId).bind("limit", limit / 2)
+                .fetch().all()
+                .map(row -> new StudentDashboard.RecentActivity("GRADE_RECEIVED",
+                        "Received grade " + row.get("letter_grade") + " in " + row.get("course_name"),
+                        (LocalDateTime) row.get("graded_date"), (String) row.get("course_name"), (String) row.get("letter_grade")));
+        return Flux.merge(enrollments, grades)
+                .sort(Comparator.comparing(StudentDashboard.RecentActivity::timestamp,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .take(limit)
+                .collectList();
+    }
+
+    private List<StudentDashboard.UpcomingEvent> getUpcomingEvents(Map<String, Object> student) {
+        List<StudentDashboard.UpcomingEvent> events = new ArrayList<>();
+        events.add(new StudentDashboard.UpcomingEvent("FEE_PAYMENT", "Fee Payment Due",
+                "Semester fee payment deadline approaching", LocalDateTime.now().plusDays(15), "HIGH"));
+        if ("PENDING".equals(student.get("fee_status"))) {
+            events.add(new StudentDashboard.UpcomingEvent("FEE_OVERDUE", "Fee Payment Overdue",
+                    "Please complete your fee payment immediately", LocalDateTime.now().minusDays(5), "CRITICAL"));
+        }
+        return events;
+    }
+
+    private Mono<Map<String, Object>> findStudent(Long userId) {
+        return databaseClient.sql(STUDENT_BY_USER)
+                .bind("userId", userId)
+                .fetch().one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Student profile not found")));
+    }
+
+    private Flux<Map<String, Object>> rows(String sql, Long studentId) {
+        return databaseClient.sql(sql).bind("studentId", studentId).fetch().all();
+    }
+
+    private StudentDashboard.Profile toStudentProfile(Map<String, Object> student) {
+        DepartmentRef department = student.get("department_id") == null ? null : new DepartmentRef(
+                (Long) student.get("department_id"), (String) student.get("department_name"), (String) student.get("department_code"));
+        return new StudentDashboard.Profile(
+                (Long) student.get("id"),
+                (String) student.get("name"),
+                (String) student.get("email"),
+                (String) student.get("phone"),
+                (String) student.get("student_id"),
+                enumValue(Student.StudentStatus.class, student.get("status")),
+                enumValue(Student.FeeStatus.class, student.get("fee_status")),
+                (Double) student.get("cgpa"),
+                (String) student.get("academic_year"),
+                (Integer) student.get("semester"),
+                (Boolean) student.get("hostel_resident"),
+                department);
+    }
+
+    private <E extends Enum<E>> E enumValue(Class<E> type, Object value) {
+        return value == null ? null : Enum.valueOf(type, (String) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> castList(Object value) {
+        return (List<T>) value;
+    }
+
+    private Map<String, Object> toGradeInfo(Map<String, Object> grade) {
+        Map<String, Object> gradeInfo = new HashMap<>();
+        gradeInfo.put("gradeType", grade.get("grade_type"));
+        gradeInfo.put("letterGrade", grade.get("letter_grade"));
+        gradeInfo.put("numericGrade", grade.get("numeric_grade"));
+        gradeInfo.put("maxPoints", grade.get("max_points"));
+        gradeInfo.put("pointsEarned", grade.get("points_earned"));
+        gradeInfo.put("gradeDate", grade.get("graded_date"));
+        gradeInfo.put("comments", grade.get("comments"));
+        return gradeInfo;
+    }
+
+    // Keeps the query's order within and across courses
+    private Map<Long, List<Map<String, Object>>> groupByCourse(List<Map<String, Object>> rows) {
+        return rows.stream().collect(Collectors.groupingBy(row -> (Long) row.get("course_id"),
+                LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private double averageNumericGrade(List<Map<String, Object>> grades) {
+        double average = grades.stream()
+                .filter(g -> g.get("numeric_grade") != null)
+                .mapToDouble(g -> ((Number) g.get("numeric_grade")).doubleValue())
+                .average()
+                .orElse(0.0);
+        return Math.round(average * 100.0) / 100.0;
+    }
+
+    private long countStatus(List<Map<String, Object>> records, String status) {
+        return records.stream().filter(r -> status.equals(r.get("status"))).count();
+    }
+
+    private double percentage(long part, long total) {
+        double percentage = total > 0 ? (double) part / total * 100 : 0.0;
+        return Math.round(percentage * 100.0) / 100.0;
+    }
+}
@@ -1,19 +1,22 @@
 package com.college.backend.service;
 
+import com.college.backend.dto.DepartmentRef;
+import com.college.backend.dto.StudentDashboard;
 import com.college.backend.model.*;
 import com.college.backend.repository.*;
 import com.college.backend.exception.ResourceNotFoundException;
+import com.college.backend.security.CurrentActorResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,10 +24,10 @@ import java.util.stream.Collectors;
 public class StudentPortalService {
 
     @Autowired
-    private StudentRepository studentRepository;
-    
+    private CurrentActorResolver currentActorResolver;
+
     @Autowired
-    private UserRepository userRepository;
+    private StudentRepository studentRepository;
     
     @Autowired
     private CourseRepository courseRepository;
@@ -41,84 +44,51 @@ public class StudentPortalService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
-    // Student Dashboard Overview
+    @Autowired
+    private DashboardComposer dashboardComposer;
+
+    // Student Dashboard Overview. No transaction here: each section opens its own while the profile
+    // comes from the already loaded student
     @PreAuthorize("hasRole('STUDENT')")
-    public Map<String, Object> getStudentDashboardOverview() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentDashboard getStudentDashboardOverview() {
         Student student = getCurrentStudent();
-        Map<String, Object> dashboard = new HashMap<>();
-        
-        // Student Profile Information
-        Map<String, Object> studentProfile = new HashMap<>();
-        studentProfile.put("id", student.getId());
-        studentProfile.put("name", student.getUser().getName());
-        studentProfile.put("email", student.getUser().getEmail());
-        studentProfile.put("phone", student.getUser().getPhone());
-        studentProfile.put("studentId", student.getStudentId());
-        studentProfile.put("status", student.getStatus());
-        studentProfile.put("feeStatus", student.getFeeStatus());
-        studentProfile.put("cgpa", student.getCgpa());
-        studentProfile.put("academicYear", student.getAcademicYear());
-        studentProfile.put("semester", student.getSemester());
-        studentProfile.put("hostelResident", student.getHostelResident());
-        
-        if (student.getDepartment() != null) {
-            studentProfile.put("department", Map.of(
-                "id", student.getDepartment().getId(),
-                "name", student.getDepartment().getName(),
-                "code", student.getDepartment().getCode()
-            ));
-        }
-        
-        dashboard.put("studentProfile", studentProfile);
-        
-        // Academic Overview
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(student.getId());
-        Map<String, Object> academicOverview = new HashMap<>();
-        academicOverview.put("totalEnrolledCourses", enrollments.size());
-        
-        // Current semester enrollments
-        List<Enrollment> currentEnrollments = enrollments.stream()
-                .filter(e -> e.getStatus() == Enrollment.EnrollmentStatus.ENROLLED)
-                .collect(Collectors.toList());
-        academicOverview.put("currentEnrolledCourses", currentEnrollments.size());
-        
-        // Calculate total credits
-        int totalCredits = currentEnrollments.stream()
-                .mapToInt(e -> e.getCourse().getCredits() != null ? e.getCourse().getCredits() : 0)
-                .sum();
-        academicOverview.put("totalCredits", totalCredits);
-        
-        // Enrollment status distribution
-        Map<String, Long> enrollmentStatusDistribution = enrollments.stream()
-                .collect(Collectors.groupingBy(
-                    e -> e.getStatus().name(),
-                    Collectors.counting()
-                ));
-        academicOverview.put("enrollmentStatusDistribution", enrollmentStatusDistribution);
-        
-        dashboard.put("academicOverview", academicOverview);
-        
-        // Performance Overview
-        Map<String, Object> performanceOverview = getPerformanceOverview(student);
-        dashboard.put("performanceOverview", performanceOverview);
-        
-        // Attendance Overview
-        Map<String, Object> attendanceOverview = getAttendanceOverview(student);
-        dashboard.put("attendanceOverview", attendanceOverview);
-        
-        // Recent Activities
-        List<Map<String, Object>> recentActivities = getRecentActivities(student, 10);
-        dashboard.put("recentActivities", recentActivities);
-        
-        // Upcoming Events/Deadlines
-        List<Map<String, Object>> upcomingEvents = getUpcomingEvents(student);
-        dashboard.put("upcomingEvents", upcomingEvents);
-        
-        return dashboard;
+        StudentDashboard.Profile studentProfile = new StudentDashboard.Profile(
+                student.getId(),
+                student.getUser().getName(),
+                student.getUser().getEmail(),
+                student.getUser().getPhone(),
+                student.getStudentId(),
+                student.getStatus(),
+                student.getFeeStatus(),
+                student.getCgpa(),
+                student.getAcademicYear(),
+                student.getSemester(),
+                student.getHostelResident(),
+                DepartmentRef.of(student.getDepartment()));
+        
+        // Independent sections, run side by side
+        Map<String, Supplier<?>> sections = new LinkedHashMap<>();
+        sections.put("academicOverview", () -> getAcademicOverview(student));
+        sections.put("performanceOverview", () -> getPerformanceOverview(student));
+        sections.put("attendanceOverview", () -> getAttendanceOverview(student));
+        sections.put("recentActivities", () -> getRecentActivities(student, 10));
+        sections.put("upcomingEvents", () -> getUpcomingEvents(student));
+        DashboardComposer.Sections results = dashboardComposer.run(sections);
+        
+        return new StudentDashboard(
+                studentProfile,
+                results.get("academicOverview"),
+                results.get("performanceOverview"),
+                results.get("attendanceOverview"),
+                results.get("recentActivities"),
+                results.get("upcomingEvents"),
+                results.incomplete());
     }
 
     // Course Enrollment Management
     @PreAuthorize("hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getAvailableCoursesForEnrollment() {
         Student student = getCurrentStudent();
         Map<String, Object> result = new HashMap<>();
@@ -256,6 +226,7 @@ public class StudentPortalService {
 
     // Academic Records
     @PreAuthorize("hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getAcademicRecords() {
         Student student = getCurrentStudent();
         Map<String, Object> records = new HashMap<>();
@@ -419,6 +390,7 @@ public class StudentPortalService {
 
     // Grade Viewing
     @PreAuthorize("hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Map<String, Object> getGradeDetails() {
         Student student = getCurrentStudent();
         Map<String, Object> gradeData = new HashMap<>();
@@ -517,85 +489,87 @@ public class StudentPortalService {
 
     // Helper Methods
     private Student getCurrentStudent() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return studentRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Student profile not found"));
+        return currentActorResolver.currentStudent();
     }
 
-    private Map<String, Object> getPerformanceOverview(Student student) {
-        Map<String, Object> performance = new HashMap<>();
+    private StudentDashboard.AcademicOverview getAcademicOverview(Student student) {
+        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(student.getId());
         
-        List<Grade> allGrades = gradeRepository.findByStudentId(student.getId());
-        performance.put("totalGrades", allGrades.size());
-        performance.put("cgpa", student.getCgpa());
+        // Current semester enrollments
+        List<Enrollment> currentEnrollments = enrollments.stream()
+                .filter(e -> e.getStatus() == Enrollment.EnrollmentStatus.ENROLLED)
+                .collect(Collectors.toList());
         
-        if (!allGrades.isEmpty()) {
-            double averageGrade = allGrades.stream()
-                    .filter(g -> g.getNumericGrade() != null)
-                    .mapToDouble(Grade::getNumericGrade)
-                    .average()
-                    .orElse(0.0);
-            performance.put("averageGrade", Math.round(averageGrade * 100.0) / 100.0);
-            
-            // Performance trend (simplified)
-            Grade latestGrade = allGrades.stream()
-                    .max(Comparator.comparing(Grade::getGradeDate))
-                    .orElse(null);
-            if (latestGrade != null) {
-                performance.put("latestGrade", latestGrade.getLetterGrade());
-                performance.put("latestNumericGrade", latestGrade.getNumericGrade());
-            }
-        } else {
-            performance.put("averageGrade", 0.0);
-            performance.put("latestGrade", null);
-            performance.put("latestNumericGrade", null);
-        }
+        // Calculate total credits
+        int totalCredits = currentEnrollments.stream()
+                .mapToInt(e -> e.getCourse().getCredits() != null ? e.getCourse().getCredits() : 0)
+                .sum();
         
-        return performance;
+        // Enrollment status distribution
+        Map<String, Long> enrollmentStatusDistribution = enrollments.stream()
+                .collect(Collectors.groupingBy(
+                    e -> e.getStatus().name(),
+                    Collectors.counting()
+                ));
+        
+        return new StudentDashboard.AcademicOverview(
+                enrollments.size(), currentEnrollments.size(), totalCredits, enrollmentStatusDistribution);
     }
 
-    private Map<String, Object> getAttendanceOverview(Student student) {
-        Map<String, Object> attendance = new HashMap<>();
+    private StudentDashboard.PerformanceOverview getPerformanceOverview(Student student) {
+        List<Grade> allGrades = gradeRepository.findByStudentId(student.getId());
+        if (allGrades.isEmpty()) {
+            return new StudentDashboard.PerformanceOverview(0, student.getCgpa(), 0.0, null, null);
+        }
         
+        double averageGrade = allGrades.stream()
+                .filter(g -> g.getNumericGrade() != null)
+                .mapToDouble(Grade::getNumericGrade)
+                .average()
+                .orElse(0.0);
+        
+        // Performance trend (simplified)
+        Grade latestGrade = allGrades.stream()
+                .max(Comparator.comparing(Grade::getGradeDate))
+                .orElse(null);
+        
+        return new StudentDashboard.PerformanceOverview(
+                allGrades.size(),
+                student.getCgpa(),
+                Math.round(averageGrade * 100.0) / 100.0,
+                latestGrade != null ? latestGrade.getLetterGrade() : null,
+                latestGrade != null ? latestGrade.getNumericGrade() : null);
+    }
+
+    private StudentDashboard.AttendanceOverview getAttendanceOverview(Student student) {
         List<AttendanceRecord> allAttendance = attendanceRepository.findByStudentId(student.getId());
-        attendance.put("totalRecords", allAttendance.size());
-        
-        if (!allAttendance.isEmpty()) {
-            long presentCount = allAttendance.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
-                    .count();
-            double attendancePercentage = (double) presentCount / allAttendance.size() * 100;
-            attendance.put("overallAttendancePercentage", Math.round(attendancePercentage * 100.0) / 100.0);
-            attendance.put("totalPresent", presentCount);
-            attendance.put("totalAbsent", allAttendance.stream()
-                    .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.ABSENT)
-                    .count());
-        } else {
-            attendance.put("overallAttendancePercentage", 0.0);
-            attendance.put("totalPresent", 0);
-            attendance.put("totalAbsent", 0);
+        if (allAttendance.isEmpty()) {
+            return new StudentDashboard.AttendanceOverview(0, 0.0, 0, 0);
         }
         
-        return attendance;
+        long presentCount = allAttendance.stream()
+                .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.PRESENT)
+                .count();
+        long absentCount = allAttendance.stream()
+                .filter(a -> a.getStatus() == AttendanceRecord.AttendanceStatus.ABSENT)
+                .count();
+        double attendancePercentage = (double) presentCount / allAttendance.size() * 100;
+        
+        return new StudentDashboard.AttendanceOverview(
+                allAttendance.size(), Math.round(attendancePercentage * 100.0) / 100.0, presentCount, absentCount);
     }
 
-    private List<Map<String, Object>> getRecentActivities(Student student, int limit) {
-        List<Map<String, Object>> activities = new ArrayList<>();
+    private List<StudentDashboard.RecentActivity> getRecentActivities(Student student, int limit) {
+        List<StudentDashboard.RecentActivity> activities = new ArrayList<>();
         
         // Recent enrollments
         List<Enrollment> recentEnrollments = enrollmentRepository.findByStudentIdOrderByEnrollmentDateDesc(student.getId())
                 .stream().limit(limit / 2).collect(Collectors.toList());
         
         for (Enrollment enrollment : recentEnrollments) {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("type", "ENROLLMENT");
-            activity.put("description", "Enrolled in " + enrollment.getCourse().getCourseName());
-            activity.put("timestamp", enrollment.getEnrollmentDate());
-            activity.put("courseName", enrollment.getCourse().getCourseName());
-            activities.add(activity);
+            String courseName = enrollment.getCourse().getCourseName();
+            activities.add(new StudentDashboard.RecentActivity(
+                    "ENROLLMENT", "Enrolled in " + courseName, enrollment.getEnrollmentDate(), courseName, null));
         }
         
         // Recent grades
@@ -603,28 +577,20 @@ public class StudentPortalService {
                 .stream().limit(limit / 2).collect(Collectors.toList());
         
         for (Grade grade : recentGrades) {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("type", "GRADE_RECEIVED");
-            activity.put("description", "Received grade " + grade.getLetterGrade() + 
-                       " in " + grade.getCourse().getCourseName());
-            activity.put("timestamp", grade.getGradeDate());
-            activity.put("courseName", grade.getCourse().getCourseName());
-            activity.put("grade", grade.getLetterGrade());
-            activities.add(activity);
+            String courseName = grade.getCourse().getCourseName();
+            activities.add(new StudentDashboard.RecentActivity(
+                    "GRADE_RECEIVED", "Received grade " + grade.getLetterGrade() + " in " + courseName,
+                    grade.getGradeDate(), courseName, grade.getLetterGrade()));
         }
         
         // Sort by timestamp and limit
-        activities.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
-        });
+        activities.sort(Comparator.comparing(StudentDashboard.RecentActivity::timestamp).reversed());
         
         return activities.stream().limit(limit).collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> getUpcomingEvents(Student student) {
-        List<Map<String, Object>> events = new ArrayList<>();
+    private List<StudentDashboard.UpcomingEvent> getUpcomingEvents(Student student) {
+        List<StudentDashboard.UpcomingEvent> events = new ArrayList<>();
         
         // This would typically involve checking for:
         // - Assignment deadlines
@@ -633,22 +599,12 @@ public class StudentPortalService {
         // - Course registration periods
         
         // For now, returning sample events
-        Map<String, Object> feeReminder = new HashMap<>();
-        feeReminder.put("type", "FEE_PAYMENT");
-        feeReminder.put("title", "Fee Payment Due");
-        feeReminder.put("description", "Semester fee payment deadline approaching");
-        feeReminder.put("dueDate", LocalDateTime.now().plusDays(15));
-        feeReminder.put("priority", "HIGH");
-        events.add(feeReminder);
+        events.add(new StudentDashboard.UpcomingEvent("FEE_PAYMENT", "Fee Payment Due",
+                "Semester fee payment deadline approaching", LocalDateTime.now().plusDays(15), "HIGH"));
         
         if (student.getFeeStatus() == Student.FeeStatus.PENDING) {
-            Map<String, Object> feeOverdue = new HashMap<>();
-            feeOverdue.put("type", "FEE_OVERDUE");
-            feeOverdue.put("title", "Fee Payment Overdue");
-            feeOverdue.put("description", "Please complete your fee payment immediately");
-            feeOverdue.put("dueDate", LocalDateTime.now().minusDays(5));
-            feeOverdue.put("priority", "CRITICAL");
-            events.add(feeOverdue);
+            events.add(new StudentDashboard.UpcomingEvent("FEE_OVERDUE", "Fee Payment Overdue",
+                    "Please complete your fee payment immediately", LocalDateTime.now().minusDays(5), "CRITICAL"));
         }
         
         return events;
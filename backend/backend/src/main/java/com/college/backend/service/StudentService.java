@@ -43,18 +43,21 @@ public class StudentService {
 
     // Student Profile Management
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #userId == authentication.principal.id)")
+    @Transactional(readOnly = true)
     public Student getStudentByUserId(Long userId) {
         return studentRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found for user ID: " + userId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Student getStudentById(Long studentId) {
         return studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Student getStudentByStudentId(String studentId) {
         return studentRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with student ID: " + studentId));
@@ -106,99 +109,118 @@ public class StudentService {
 
     // Academic Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getStudentEnrollments(Long studentId) {
         return enrollmentRepository.findByStudentId(studentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Enrollment> getStudentEnrollmentsByAcademicYear(Long studentId, String academicYear) {
         return enrollmentRepository.findByStudentAndAcademicYear(studentId, academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Grade> getStudentGrades(Long studentId) {
         return gradeRepository.findByStudentId(studentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<Grade> getStudentGradesByAcademicYear(Long studentId, String academicYear) {
         return gradeRepository.findByStudentAndAcademicYear(studentId, academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Double getStudentGPA(Long studentId) {
         return gradeRepository.calculateGPAForStudent(studentId);
     }
 
     // Attendance Management
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<AttendanceRecord> getStudentAttendance(Long studentId) {
         return attendanceRecordRepository.findByStudentId(studentId);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public List<AttendanceRecord> getStudentAttendanceByDateRange(Long studentId, LocalDate startDate, LocalDate endDate) {
         return attendanceRecordRepository.findByStudentAndDateRange(studentId, startDate, endDate);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY') or hasRole('STUDENT')")
+    @Transactional(readOnly = true)
     public Double getStudentAttendancePercentage(Long studentId, Long courseId) {
         return attendanceRecordRepository.calculateAttendancePercentage(studentId, courseId);
     }
 
     // Administrative Queries
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public Page<Student> getAllStudents(Pageable pageable) {
         return studentRepository.findAll(pageable);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByStatus(Student.StudentStatus status) {
         return studentRepository.findByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByAcademicYear(String academicYear) {
         return studentRepository.findByAcademicYear(academicYear);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Student> getStudentsBySemester(Integer semester) {
         return studentRepository.findBySemester(semester);
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public List<Student> searchStudents(String searchTerm) {
         return studentRepository.searchStudents(searchTerm);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByFeeStatus(Student.FeeStatus feeStatus) {
         return studentRepository.findByFeeStatus(feeStatus);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Student> getHostelResidents() {
         return studentRepository.findByHostelResident(true);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<Student> getHighPerformingStudents(Double minCGPA) {
         return studentRepository.findByCgpaGreaterThanEqual(minCGPA);
     }
 
     // Statistics and Analytics
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @Transactional(readOnly = true)
     public long getTotalStudentCount() {
         return studentRepository.count();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getStudentCountByStatus(Student.StudentStatus status) {
         return studentRepository.countByStatus(status);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public long getStudentCountByFeeStatus(Student.FeeStatus feeStatus) {
         return studentRepository.countByFeeStatus(feeStatus);
     }
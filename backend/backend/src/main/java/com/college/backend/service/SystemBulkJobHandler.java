@@ -0,0 +1,47 @@
+package com.college.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class SystemBulkJobHandler implements AdminJobHandler {
+
+    private static final Set<String> OPERATIONS = Set.of(
+        "cleanup_inactive_users", "update_course_status", "department_migration", "data_export"
+    );
+
+    @Autowired
+    private AdminSystemManagementService systemManagementService;
+
+    @Autowired
+    private InactiveUserCleanupService inactiveUserCleanupService;
+
+    @Override
+    public boolean supports(String operation) {
+        return OPERATIONS.contains(operation);
+    }
+
+    @Override
+    public Map<String, Object> execute(String operation, Map<String, Object> parameters, AdminJobContext context) {
+        if ("cleanup_inactive_users".equals(operation)) {
+            // Already chunked with its own checkpoint, so a cancel stops after the current batch and a rerun resumes
+            return inactiveUserCleanupService.runCleanup((batches, cleanedUsers) -> {
+                context.reportProgress(null, cleanedUsers, 0, "batches=" + batches);
+                if (context.isCancelRequested()) {
+                    context.acknowledgeCancel();
+                    return false;
+                }
+                return true;
+            });
+        }
+
+        // Course status and department migration are short guarded UPDATE statements; rerunning them is safe
+        Map<String, Object> result = systemManagementService.performBulkDataOperation(operation, parameters);
+        context.reportProgress(1L, Boolean.TRUE.equals(result.get("success")) ? 1 : 0,
+                Boolean.TRUE.equals(result.get("success")) ? 0 : 1, null);
+        return result;
+    }
+}
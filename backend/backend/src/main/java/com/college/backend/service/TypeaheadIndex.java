@@ -0,0 +1,212 @@
+package com.college.backend.service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory prefix + trigram index for typeahead suggestions.
+// Writes are serialized; reads are lock-free over concurrent maps and may briefly see a half-applied update.
+public class TypeaheadIndex {
+
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    private static final int MAX_CANDIDATES_SCANNED = 5000;
+
+    // For entries linked to a user, terms start with the user's name and email (see updateUser)
+    public record Entry(String type, Long id, Long userId, String label, String detail, List<String> terms) {
+    }
+
+    public record Suggestion(String type, Long id, String label, String detail) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+
+    public synchronized void put(Entry entry) {
+        String key = key(entry.type(), entry.id());
+        removeByKey(key);
+
+        List<String> terms = new ArrayList<>();
+        for (String term : entry.terms()) {
+            // Empty terms are kept so positions stay stable for updateUser
+            terms.add(normalize(term));
+        }
+        Entry stored = new Entry(entry.type(), entry.id(), entry.userId(), entry.label(), entry.detail(), terms);
+        entries.put(key, stored);
+        for (String gram : gramsFor(terms)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        if (stored.userId() != null) {
+            keysByUserId.computeIfAbsent(stored.userId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public synchronized void remove(String type, Long id) {
+        removeByKey(key(type, id));
+    }
+
+    public synchronized void removeByUserIds(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            Set<String> keys = keysByUserId.get(userId);
+            if (keys != null) {
+                new ArrayList<>(keys).forEach(this::removeByKey);
+            }
+        }
+    }
+
+    // A renamed user changes the label and first two terms of their student/faculty entries
+    public synchronized void updateUser(Long userId, String name, String email) {
+        Set<String> keys = keysByUserId.get(userId);
+        if (keys == null) {
+            return;
+        }
+        for (String key : new ArrayList<>(keys)) {
+            Entry existing = entries.get(key);
+            if (existing == null) {
+                continue;
+            }
+            List<String> terms = new ArrayList<>();
+            terms.add(name);
+            terms.add(email);
+            terms.addAll(existing.terms().subList(Math.min(2, existing.terms().size()), existing.terms().size()));
+            put(new Entry(existing.type(), existing.id(), userId, name, existing.detail(), terms));
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        postings.clear();
+        keysByUserId.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Suggestion> suggest(String query, Set<String> types, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> candidates = q.length() <= SHORT_PREFIX_LENGTH ? postings.get("p:" + q) : intersectTrigrams(q);
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Integer, Entry>> matches = new ArrayList<>();
+        int scanned = 0;
+        for (String key : candidates) {
+            if (++scanned > MAX_CANDIDATES_SCANNED) {
+                break;
+            }
+            Entry entry = entries.get(key);
+            if (entry == null || (types != null && !types.isEmpty() && !types.contains(entry.type()))) {
+                continue;
+            }
+            int score = score(entry, q);
+            if (score >= 0) {
+                matches.add(Map.entry(score, entry));
+            }
+        }
+
+        matches.sort(Comparator.<Map.Entry<Integer, Entry>>comparingInt(Map.Entry::getKey)
+                .thenComparingInt(m -> m.getValue().label().length())
+                .thenComparing(m -> m.getValue().label()));
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (Map.Entry<Integer, Entry> match : matches) {
+            if (suggestions.size() >= limit) {
+                break;
+            }
+            Entry entry = match.getValue();
+            suggestions.add(new Suggestion(entry.type(), entry.id(), entry.label(), entry.detail()));
+        }
+        return suggestions;
+    }
+
+    // 0 = a term starts with the query, 1 = a word starts with it, 2 = substring match, -1 = no match
+    private int score(Entry entry, String q) {
+        int best = -1;
+        for (String term : entry.terms()) {
+            if (term.startsWith(q)) {
+                return 0;
+            }
+            int index = term.indexOf(q);
+            if (index > 0) {
+                int score = term.charAt(index - 1) == ' ' ? 1 : 2;
+                best = best < 0 ? score : Math.min(best, score);
+            }
+        }
+        return best;
+    }
+
+    private Set<String> intersectTrigrams(String q) {
+        List<Set<String>> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            Set<String> posting = postings.get("g:" + q.substring(i, i + 3));
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeByKey(String key) {
+        Entry existing = entries.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (String gram : gramsFor(existing.terms())) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        if (existing.userId() != null) {
+            Set<String> keys = keysByUserId.get(existing.userId());
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByUserId.remove(existing.userId());
+                }
+            }
+        }
+    }
+
+    private Set<String> gramsFor(List<String> terms) {
+        Set<String> grams = new HashSet<>();
+        for (String term : terms) {
+            for (int i = 0; i + 3 <= term.length(); i++) {
+                grams.add("g:" + term.substring(i, i + 3));
+            }
+            // Short queries are answered from word prefixes only
+            for (String word : term.split(" ")) {
+                for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, word.length()); length++) {
+                    grams.add("p:" + word.substring(0, length));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
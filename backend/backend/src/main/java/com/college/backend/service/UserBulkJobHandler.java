@@ -0,0 +1,73 @@
+package com.college.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+public class UserBulkJobHandler implements AdminJobHandler {
+
+    public static final String OPERATION_PREFIX = "users.";
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    @Autowired
+    private AdminUserManagementService userManagementService;
+
+    @Value("${app.jobs.user-bulk.chunk-size:200}")
+    private int chunkSize;
+
+    @Override
+    public boolean supports(String operation) {
+        return operation.startsWith(OPERATION_PREFIX);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> execute(String operation, Map<String, Object> parameters, AdminJobContext context) {
+        String userOperation = operation.substring(OPERATION_PREFIX.length());
+        List<Long> userIds = new ArrayList<>();
+        for (Object id : (List<Object>) parameters.getOrDefault("userIds", List.of())) {
+            userIds.add(Long.valueOf(id.toString()));
+        }
+
+        // Checkpoint is the number of ids already handled
+        int offset = context.getCheckpoint() != null ? Integer.parseInt(context.getCheckpoint()) : 0;
+        long successCount = context.getPreviouslyProcessed() - context.getPreviouslyFailed();
+        long failCount = context.getPreviouslyFailed();
+        List<String> failures = new ArrayList<>();
+
+        while (offset < userIds.size()) {
+            if (context.isCancelRequested()) {
+                context.acknowledgeCancel();
+                break;
+            }
+
+            List<Long> chunk = userIds.subList(offset, Math.min(offset + chunkSize, userIds.size()));
+            // Each call is its own transaction, so a failure or restart only repeats the current chunk
+            Map<String, Object> chunkResult = userManagementService.performBulkUserOperation(chunk, userOperation);
+
+            successCount += ((Number) chunkResult.get("successCount")).longValue();
+            failCount += ((Number) chunkResult.get("failCount")).longValue();
+            for (String failure : (List<String>) chunkResult.get("failed")) {
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(failure);
+                }
+            }
+
+            offset += chunk.size();
+            context.reportProgress((long) userIds.size(), successCount + failCount, failCount, String.valueOf(offset));
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("operation", userOperation);
+        result.put("totalUsers", userIds.size());
+        result.put("successCount", successCount);
+        result.put("failCount", failCount);
+        result.put("failed", failures);
+        result.put("cancelled", context.isCancelled());
+        return result;
+    }
+}
@@ -2,7 +2,9 @@ package com.college.backend;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+@ActiveProfiles("test")
 @SpringBootTest(classes = BackendApplication.class)
 class BackendApplicationTests {
 
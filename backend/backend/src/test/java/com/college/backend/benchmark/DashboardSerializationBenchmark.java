@@ -0,0 +1,295 @@
+package com.college.backend.benchmark;
+
+import com.college.backend.dto.DepartmentRef;
+import com.college.backend.dto.FacultyDashboard;
+import com.college.backend.dto.StudentDashboard;
+import com.college.backend.model.Faculty;
+import com.college.backend.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Serializes the same student and faculty dashboards built the old way (HashMap trees, as the services
+// returned before the dto records) and as records, with and without Blackbird. Run it with
+//   mvn -Pbenchmark test-compile exec:exec
+// and add -prof gc to jmh.args for allocation per operation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DashboardSerializationBenchmark {
+
+    // Courses taught by the faculty member; drives the size of the faculty dashboard
+    @Param({"5", "40"})
+    public int courses;
+
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper blackbirdMapper;
+
+    private Map<String, Object> studentMap;
+    private StudentDashboard studentRecord;
+    private Map<String, Object> facultyMap;
+    private FacultyDashboard facultyRecord;
+
+    @Setup
+    public void setUp() {
+        // Boot's settings that matter here: java.time support, ISO dates
+        reflectionMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        blackbirdMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        studentRecord = studentDashboard(now);
+        studentMap = studentMap(now);
+        facultyRecord = facultyDashboard(now, courses);
+        facultyMap = facultyMap(now, courses);
+    }
+
+    @Benchmark
+    public byte[] studentMaps() throws Exception {
+        return reflectionMapper.writeValueAsBytes(studentMap);
+    }
+
+    @Benchmark
+    public byte[] studentRecords() throws Exception {
+        return reflectionMapper.writeValueAsBytes(studentRecord);
+    }
+
+    @Benchmark
+    public byte[] studentRecordsBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(studentRecord);
+    }
+
+    @Benchmark
+    public byte[] facultyMaps() throws Exception {
+        return reflectionMapper.writeValueAsBytes(facultyMap);
+    }
+
+    @Benchmark
+    public byte[] facultyRecords() throws Exception {
+        return reflectionMapper.writeValueAsBytes(facultyRecord);
+    }
+
+    @Benchmark
+    public byte[] facultyRecordsBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(facultyRecord);
+    }
+
+    private static StudentDashboard studentDashboard(LocalDateTime now) {
+        List<StudentDashboard.RecentActivity> activities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            activities.add(new StudentDashboard.RecentActivity(i % 2 == 0 ? "ENROLLMENT" : "GRADE_RECEIVED",
+                    "Activity " + i + " in Course " + i, now.minusHours(i), "Course " + i, i % 2 == 0 ? null : "A"));
+        }
+        return new StudentDashboard(
+                new StudentDashboard.Profile(42L, "Student Name", "student@college.edu", "9876543210", "STU2024042",
+                        Student.StudentStatus.ACTIVE, Student.FeeStatus.PENDING, 8.4, "2024-2025", 3, false,
+                        new DepartmentRef(1L, "Computer Science Engineering", "CSE")),
+                new StudentDashboard.AcademicOverview(6, 5, 19, Map.of("ENROLLED", 5L, "COMPLETED", 1L)),
+                new StudentDashboard.PerformanceOverview(24, 8.4, 81.25, "A", 88.0),
+                new StudentDashboard.AttendanceOverview(120, 87.5, 105, 15),
+                activities,
+                List.of(new StudentDashboard.UpcomingEvent("FEE_PAYMENT", "Fee Payment Due",
+                        "Semester fee payment deadline approaching", now.plusDays(15), "HIGH")),
+                null);
+    }
+
+    private static Map<String, Object> studentMap(LocalDateTime now) {
+        Map<String, Object> profile = new HashMap<>();
+        profile.put("id", 42L);
+        profile.put("name", "Student Name");
+        profile.put("email", "student@college.edu");
+        profile.put("phone", "9876543210");
+        profile.put("studentId", "STU2024042");
+        profile.put("status", Student.StudentStatus.ACTIVE);
+        profile.put("feeStatus", Student.FeeStatus.PENDING);
+        profile.put("cgpa", 8.4);
+        profile.put("academicYear", "2024-2025");
+        profile.put("semester", 3);
+        profile.put("hostelResident", false);
+        profile.put("department", Map.of("id", 1L, "name", "Computer Science Engineering", "code", "CSE"));
+
+        Map<String, Object> academic = new HashMap<>();
+        academic.put("totalEnrolledCourses", 6);
+        academic.put("currentEnrolledCourses", 5);
+        academic.put("totalCredits", 19);
+        academic.put("enrollmentStatusDistribution", Map.of("ENROLLED", 5L, "COMPLETED", 1L));
+
+        Map<String, Object> performance = new HashMap<>();
+        performance.put("totalGrades", 24);
+        performance.put("cgpa", 8.4);
+        performance.put("averageGrade", 81.25);
+        performance.put("latestGrade", "A");
+        performance.put("latestNumericGrade", 88.0);
+
+        Map<String, Object> attendance = new HashMap<>();
+        attendance.put("totalRecords", 120);
+        attendance.put("overallAttendancePercentage", 87.5);
+        attendance.put("totalPresent", 105L);
+        attendance.put("totalAbsent", 15L);
+
+        List<Map<String, Object>> activities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> activity = new HashMap<>();
+            activity.put("type", i % 2 == 0 ? "ENROLLMENT" : "GRADE_RECEIVED");
+            activity.put("description", "Activity " + i + " in Course " + i);
+            activity.put("timestamp", now.minusHours(i));
+            activity.put("courseName", "Course " + i);
+            if (i % 2 != 0) {
+                activity.put("grade", "A");
+            }
+            activities.add(activity);
+        }
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("type", "FEE_PAYMENT");
+        event.put("title", "Fee Payment Due");
+        event.put("description", "Semester fee payment deadline approaching");
+        event.put("dueDate", now.plusDays(15));
+        event.put("priority", "HIGH");
+
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("studentProfile", profile);
+        dashboard.put("academicOverview", academic);
+        dashboard.put("performanceOverview", performance);
+        dashboard.put("attendanceOverview", attendance);
+        dashboard.put("recentActivities", activities);
+        dashboard.put("upcomingEvents", List.of(event));
+        return dashboard;
+    }
+
+    private static FacultyDashboard facultyDashboard(LocalDateTime now, int courses) {
+        List<FacultyDashboard.RecentActivity> activities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            activities.add(new FacultyDashboard.RecentActivity("GRADE_ENTERED",
+                    "Grade entered for Student " + i + " in Course " + i + ": A", now.minusHours(i), (long) i, "Course " + i));
+        }
+        List<FacultyDashboard.PendingTask> tasks = new ArrayList<>();
+        for (int i = 0; i < courses; i++) {
+            tasks.add(new FacultyDashboard.PendingTask("GRADING_PENDING", (long) i, "Course " + i,
+                    "12 students need grades", 12, "HIGH"));
+            tasks.add(new FacultyDashboard.PendingTask("ATTENDANCE_PENDING", (long) i, "Course " + i,
+                    "Today's attendance not marked", 60, "HIGH"));
+        }
+        return new FacultyDashboard(
+                new FacultyDashboard.Profile(7L, "Faculty Name", "faculty@college.edu", "EMP007",
+                        Faculty.Designation.PROFESSOR, Faculty.FacultyStatus.ACTIVE, 12, false,
+                        Faculty.EmploymentType.PERMANENT, new DepartmentRef(1L, "Computer Science Engineering", "CSE")),
+                new FacultyDashboard.TeachingLoad(courses, courses * 4, courses * 60, Map.of("ACTIVE", (long) courses)),
+                new FacultyDashboard.AcademicPerformance(courses * 120, 74.3, gradeDistribution(courses), 86.2),
+                new FacultyDashboard.AttendanceOverview(courses * 900, 88.1, Map.of("PRESENT", courses * 793L, "ABSENT", courses * 107L)),
+                new FacultyDashboard.GradingProgress(courses * 60, courses * 48, 80.0),
+                activities,
+                new FacultyDashboard.PendingTasks(tasks, tasks.size()),
+                new FacultyDashboard.TeachingInsights(
+                        new FacultyDashboard.CourseAverage(3L, "Course 3", 61.2),
+                        new FacultyDashboard.CourseAverage(1L, "Course 1", 84.9)),
+                null);
+    }
+
+    private static Map<String, Object> facultyMap(LocalDateTime now, int courses) {
+        Map<String, Object> profile = new HashMap<>();
+        profile.put("id", 7L);
+        profile.put("name", "Faculty Name");
+        profile.put("email", "faculty@college.edu");
+        profile.put("employeeId", "EMP007");
+        profile.put("designation", Faculty.Designation.PROFESSOR);
+        profile.put("status", Faculty.FacultyStatus.ACTIVE);
+        profile.put("experienceYears", 12);
+        profile.put("isDepartmentHead", false);
+        profile.put("employmentType", Faculty.EmploymentType.PERMANENT);
+        profile.put("department", Map.of("id", 1L, "name", "Computer Science Engineering", "code", "CSE"));
+
+        Map<String, Object> load = new HashMap<>();
+        load.put("totalCourses", courses);
+        load.put("totalCredits", courses * 4);
+        load.put("totalStudents", courses * 60);
+        load.put("courseStatusDistribution", Map.of("ACTIVE", (long) courses));
+
+        Map<String, Object> performance = new HashMap<>();
+        performance.put("totalGradesEntered", courses * 120);
+        performance.put("averageGrade", 74.3);
+        performance.put("gradeDistribution", gradeDistribution(courses));
+        performance.put("passRate", 86.2);
+
+        Map<String, Object> attendance = new HashMap<>();
+        attendance.put("totalAttendanceRecords", courses * 900);
+        attendance.put("overallAttendanceRate", 88.1);
+        attendance.put("attendanceStatusDistribution", Map.of("PRESENT", courses * 793L, "ABSENT", courses * 107L));
+
+        Map<String, Object> grading = new HashMap<>();
+        grading.put("totalStudentsToGrade", courses * 60);
+        grading.put("totalStudentsGraded", courses * 48);
+        grading.put("gradingCompletionPercentage", 80.0);
+
+        List<Map<String, Object>> activities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> activity = new HashMap<>();
+            activity.put("type", "GRADE_ENTERED");
+            activity.put("description", "Grade entered for Student " + i + " in Course " + i + ": A");
+            activity.put("timestamp", now.minusHours(i));
+            activity.put("courseId", (long) i);
+            activity.put("courseName", "Course " + i);
+            activities.add(activity);
+        }
+
+        List<Map<String, Object>> taskList = new ArrayList<>();
+        for (int i = 0; i < courses; i++) {
+            taskList.add(pendingTask("GRADING_PENDING", i, "12 students need grades", 12));
+            taskList.add(pendingTask("ATTENDANCE_PENDING", i, "Today's attendance not marked", 60));
+        }
+        Map<String, Object> tasks = new HashMap<>();
+        tasks.put("pendingTasks", taskList);
+        tasks.put("totalPendingTasks", taskList.size());
+
+        Map<String, Object> insights = new HashMap<>();
+        insights.put("mostChallengingCourse", Map.of("courseId", 3L, "courseName", "Course 3", "averageGrade", 61.2));
+        insights.put("bestPerformingCourse", Map.of("courseId", 1L, "courseName", "Course 1", "averageGrade", 84.9));
+
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("facultyProfile", profile);
+        dashboard.put("teachingLoad", load);
+        dashboard.put("academicPerformance", performance);
+        dashboard.put("attendanceOverview", attendance);
+        dashboard.put("gradingProgress", grading);
+        dashboard.put("recentActivities", activities);
+        dashboard.put("pendingTasks", tasks);
+        dashboard.put("teachingInsights", insights);
+        return dashboard;
+    }
+
+    private static Map<String, Object> pendingTask(String type, long courseId, String description, long count) {
+        Map<String, Object> task = new HashMap<>();
+        task.put("type", type);
+        task.put("courseId", courseId);
+        task.put("courseName", "Course " + courseId);
+        task.put("description", description);
+        task.put("count", count);
+        task.put("priority", "HIGH");
+        return task;
+    }
+
+    private static Map<String, Long> gradeDistribution(int courses) {
+        Map<String, Long> distribution = new HashMap<>();
+        String[] letters = {"O", "A+", "A", "B+", "B", "C", "F"};
+        for (int i = 0; i < letters.length; i++) {
+            distribution.put(letters[i], (long) courses * (i + 3));
+        }
+        return distribution;
+    }
+}
@@ -0,0 +1,131 @@
+package com.college.backend.benchmark;
+
+import com.college.backend.model.AttendanceRecord;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Serialize/deserialize time of a detailed attendance report (the shape FacultyAttendanceManagementService
+// returns: per-student totals plus every record in the range) as JSON, Smile and CBOR. Payload sizes, raw
+// and gzipped, are printed once per trial. Run it with
+//   mvn -Pbenchmark test-compile exec:exec -Djmh.args=PayloadFormat
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<Map<String, Object>> REPORT = new TypeReference<>() {};
+
+    // Students in the course; each has one record per class day
+    @Param({"60", "600"})
+    public int students;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private Map<String, Object> report;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        report = attendanceReport(students, 45);
+        encoded = mapper.writeValueAsBytes(report);
+        System.out.printf("%n%s, %d students: %,d bytes, %,d gzipped%n",
+                format, students, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public Map<String, Object> deserialize() throws IOException {
+        return mapper.readValue(encoded, REPORT);
+    }
+
+    // Same settings as the converters in JacksonConfig: ISO dates, java.time support
+    private static ObjectMapper mapper(String format) {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        return JsonMapper.builder(factory)
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static Map<String, Object> attendanceReport(int students, int days) {
+        LocalDate start = LocalDate.of(2025, 1, 6);
+        AttendanceRecord.AttendanceStatus[] statuses = AttendanceRecord.AttendanceStatus.values();
+        Random random = new Random(42);
+
+        List<Map<String, Object>> studentDetails = new ArrayList<>();
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            Map<AttendanceRecord.AttendanceStatus, Long> counts = new EnumMap<>(AttendanceRecord.AttendanceStatus.class);
+            for (int d = 0; d < days; d++) {
+                AttendanceRecord.AttendanceStatus status = random.nextInt(10) < 8
+                        ? AttendanceRecord.AttendanceStatus.PRESENT : statuses[random.nextInt(statuses.length)];
+                counts.merge(status, 1L, Long::sum);
+                Map<String, Object> record = new HashMap<>();
+                record.put("studentId", (long) s);
+                record.put("studentName", "Student " + s);
+                record.put("attendanceDate", start.plusDays(d));
+                record.put("status", status);
+                record.put("markedAt", start.plusDays(d).atTime(9, 5));
+                records.add(record);
+            }
+            Map<String, Object> detail = new HashMap<>();
+            detail.put("studentId", (long) s);
+            detail.put("studentName", "Student " + s);
+            detail.put("studentNumber", String.format("STU2025%04d", s));
+            detail.put("totalClasses", days);
+            long present = counts.getOrDefault(AttendanceRecord.AttendanceStatus.PRESENT, 0L);
+            detail.put("present", present);
+            detail.put("absent", counts.getOrDefault(AttendanceRecord.AttendanceStatus.ABSENT, 0L));
+            detail.put("late", counts.getOrDefault(AttendanceRecord.AttendanceStatus.LATE, 0L));
+            detail.put("attendancePercentage", Math.round(present * 10000.0 / days) / 100.0);
+            studentDetails.add(detail);
+        }
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("reportType", "detailed");
+        report.put("course", Map.of("id", 1L, "name", "Data Structures", "code", "CS201"));
+        report.put("dateRange", Map.of("startDate", start, "endDate", start.plusDays(days - 1)));
+        report.put("generatedBy", "Faculty Name");
+        report.put("generatedAt", LocalDateTime.of(2025, 3, 1, 10, 0));
+        report.put("studentDetails", studentDetails);
+        report.put("records", records);
+        return report;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
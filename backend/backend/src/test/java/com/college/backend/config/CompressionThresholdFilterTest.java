@@ -0,0 +1,190 @@
+package com.college.backend.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionThresholdFilterTest {
+
+    private static final int THRESHOLD = 2048;
+
+    private CompressionThresholdFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(true);
+        serverProperties.getCompression().setMinResponseSize(DataSize.ofBytes(THRESHOLD));
+        serverProperties.getCompression().setMimeTypes(new String[]{"application/json", "text/plain"});
+
+        filter = new CompressionThresholdFilter();
+        ReflectionTestUtils.setField(filter, "serverProperties", serverProperties);
+
+        request = new MockHttpServletRequest("GET", "/api/faculty/courses/1/attendance/reports");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void testSmallBodyGoesOutWithContentLength() throws Exception {
+        byte[] body = body(300);
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(body);
+            // The converters flush after writing; that must not commit a body still under the threshold
+            res.getOutputStream().flush();
+            res.flushBuffer();
+            assertFalse(response.isCommitted());
+            assertEquals(0, response.getContentAsByteArray().length);
+        });
+
+        assertEquals(body.length, response.getContentLength());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testLargeBodyStreamsThrough() throws Exception {
+        byte[] body = body(THRESHOLD * 3);
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            ServletOutputStream out = res.getOutputStream();
+            out.write(body, 0, THRESHOLD + 10);
+            // Past the threshold: what was held back has gone out and later writes are not buffered
+            assertEquals(THRESHOLD + 10, response.getContentAsByteArray().length);
+            out.write(body, THRESHOLD + 10, body.length - THRESHOLD - 10);
+            assertEquals(body.length, response.getContentAsByteArray().length);
+        });
+
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testNonCompressibleTypeIsNotBuffered() throws Exception {
+        byte[] body = body(100);
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("image/png");
+            res.getOutputStream().write(body);
+            assertArrayEquals(body, response.getContentAsByteArray());
+        });
+
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testAsyncResultIsWrittenThroughTheFirstPassWrapper() throws Exception {
+        request.setAsyncSupported(true);
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync(req, res);
+            asyncResponse.set(res);
+        });
+        // Nothing written yet, and the first pass must not finish the response
+        assertNotSame(response, asyncResponse.get());
+        assertFalse(response.isCommitted());
+        assertNull(response.getHeader("Content-Length"));
+
+        byte[] body = body(500);
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        FilterChain asyncChain = (req, res) -> {
+            assertSame(asyncResponse.get(), res);
+            res.setContentType("application/json");
+            res.getOutputStream().write(body);
+        };
+        filter.doFilter(request, (HttpServletResponse) asyncResponse.get(), asyncChain);
+
+        assertEquals(body.length, response.getContentLength());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testWriteListenerGoesToTheUnderlyingStream() throws Exception {
+        RecordingStream underlying = new RecordingStream();
+        HttpServletResponse target = new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return underlying;
+            }
+        };
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        };
+
+        byte[] head = body(10);
+        filter.doFilter(request, target, (req, res) -> {
+            res.setContentType("application/json");
+            ServletOutputStream out = res.getOutputStream();
+            out.write(head);
+            out.setWriteListener(listener);
+            // The held-back bytes went out before the listener was handed over
+            assertArrayEquals(head, underlying.written.toByteArray());
+            assertSame(listener, underlying.listener);
+            assertFalse(out.isReady());
+        });
+
+        assertArrayEquals(head, underlying.written.toByteArray());
+    }
+
+    @Test
+    public void testClientWithoutGzipIsNotWrapped() throws Exception {
+        MockHttpServletRequest plain = new MockHttpServletRequest("GET", "/api/faculty/dashboard/overview");
+        filter.doFilter(plain, response, (req, res) -> assertSame(response, res));
+    }
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) 'a');
+        body[0] = '"';
+        body[size - 1] = '"';
+        return body;
+    }
+
+    private static class RecordingStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener listener;
+
+        @Override
+        public void write(int b) throws IOException {
+            written.write(b);
+        }
+
+        @Override
+        public boolean isReady() {
+            return false;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.college.backend.controller;
+
+import com.college.backend.dto.ApiResponse;
+import com.college.backend.model.User;
+import com.college.backend.repository.UserRepository;
+import com.college.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(BatchControllerTest.ProbeController.class)
+public class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private String studentToken;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // Parts go to the DispatcherServlet bean, which the container would have initialised; MockMvc has its own
+        if (dispatcherServlet.getServletConfig() == null) {
+            dispatcherServlet.init(new MockServletConfig(context.getServletContext(), "dispatcherServlet"));
+        }
+        User student = userRepository.findByEmail("batch.student@college.edu").orElseGet(() -> {
+            User user = new User("Batch Student", "batch.student@college.edu", "not-used-here");
+            user.setRole(User.UserRole.STUDENT);
+            return userRepository.save(user);
+        });
+        studentToken = "Bearer " + tokenProvider.generateTokenFromUserId(student.getId());
+    }
+
+    @Test
+    public void testDeniedPartSitsAlongsideAllowedPart() throws Exception {
+        mockMvc.perform(batch("""
+                        {"requests": [
+                          {"id": "probe", "path": "/api/student/batch-probe/echo?value=a%20b"},
+                          {"id": "users", "path": "/api/admin/users"}
+                        ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].id").value("probe"))
+                .andExpect(jsonPath("$.data[0].status").value(200))
+                .andExpect(jsonPath("$.data[0].body.data").value("a b"))
+                .andExpect(jsonPath("$.data[1].id").value("users"))
+                .andExpect(jsonPath("$.data[1].status").value(403))
+                .andExpect(jsonPath("$.data[1].body.success").value(false));
+    }
+
+    @Test
+    public void testRejectedPathsComeBackAsBadRequestParts() throws Exception {
+        mockMvc.perform(batch("""
+                        {"requests": [
+                          {"id": "dots", "path": "/api/student/../admin/users"},
+                          {"id": "encoded", "path": "/api/student/%2e%2e/admin/users"},
+                          {"id": "nested", "path": "/api/batch"},
+                          {"id": "outside", "path": "/actuator/health"},
+                          {"id": "probe", "path": "/api/student/batch-probe/echo?value=ok"}
+                        ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value(400))
+                .andExpect(jsonPath("$.data[1].status").value(400))
+                .andExpect(jsonPath("$.data[2].status").value(400))
+                .andExpect(jsonPath("$.data[3].status").value(400))
+                .andExpect(jsonPath("$.data[4].status").value(200))
+                .andExpect(jsonPath("$.data[4].body.data").value("ok"));
+    }
+
+    @Test
+    public void testBatchOverTheLimitIsRejected() throws Exception {
+        StringJoiner parts = new StringJoiner(",", "{\"requests\": [", "]}");
+        for (int i = 0; i < 11; i++) {
+            parts.add("{\"path\": \"/api/student/batch-probe/echo?value=" + i + "\"}");
+        }
+        mockMvc.perform(batch(parts.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    public void testDuplicateIdsAreRejected() throws Exception {
+        mockMvc.perform(batch("""
+                        {"requests": [
+                          {"id": "a", "path": "/api/student/batch-probe/echo?value=1"},
+                          {"id": "a", "path": "/api/student/batch-probe/echo?value=2"}
+                        ]}"""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testReactiveRouteFailsOnlyItsOwnPart() throws Exception {
+        mockMvc.perform(batch("""
+                        {"requests": [
+                          {"id": "mono", "path": "/api/student/batch-probe/mono"},
+                          {"id": "probe", "path": "/api/student/batch-probe/echo?value=still-here"}
+                        ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value(500))
+                .andExpect(jsonPath("$.data[0].body.success").value(false))
+                .andExpect(jsonPath("$.data[1].status").value(200))
+                .andExpect(jsonPath("$.data[1].body.data").value("still-here"));
+    }
+
+    @Test
+    public void testPartsSeeACopyOfTheBatchHeaders() throws Exception {
+        mockMvc.perform(batch("""
+                        {"requests": [{"id": "headers", "path": "/api/student/batch-probe/headers"}]}""")
+                        .header("X-Probe", "from-batch")
+                        .header("Accept-Language", "fr-FR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value(200))
+                .andExpect(jsonPath("$.data[0].body.data.probe").value("from-batch"))
+                .andExpect(jsonPath("$.data[0].body.data.locale").value("fr-FR"))
+                .andExpect(jsonPath("$.data[0].body.data.accept").value(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.data[0].body.data.contentType").doesNotExist());
+    }
+
+    private MockHttpServletRequestBuilder batch(String body) {
+        return post("/api/batch")
+                .header("Authorization", studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    // The Mono routes in StudentReactiveController only exist with R2DBC on Postgres, so the tests bring
+    // their own blocking and reactive routes under /api/student/**
+    @RestController
+    @RequestMapping("/api/student/batch-probe")
+    static class ProbeController {
+
+        @GetMapping("/echo")
+        public ResponseEntity<?> echo(@RequestParam String value) {
+            return ResponseEntity.ok(ApiResponse.success("Echo", value));
+        }
+
+        @GetMapping("/headers")
+        public ResponseEntity<?> headers(HttpServletRequest request) {
+            Map<String, String> seen = new HashMap<>();
+            seen.put("probe", request.getHeader("X-Probe"));
+            seen.put("locale", request.getLocale().toLanguageTag());
+            seen.put("accept", request.getHeader("Accept"));
+            seen.put("contentType", request.getHeader("Content-Type"));
+            return ResponseEntity.ok(ApiResponse.success("Headers", seen));
+        }
+
+        @GetMapping("/mono")
+        public Mono<ResponseEntity<?>> mono() {
+            return Mono.<ResponseEntity<?>>just(ResponseEntity.ok(ApiResponse.success("Mono", "late")))
+                    .delayElement(Duration.ofMillis(10));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.college.backend.security;
+
+import com.college.backend.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    public void testRejectsWhenPoolIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, executor, 5000);
+
+        Thread first = new Thread(() -> assertTrue(encoder.matches("secret", "secret")));
+        first.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // The only worker is busy and there is no queue, so the next check is turned away immediately
+        ServiceOverloadedException rejected = assertThrows(ServiceOverloadedException.class,
+                () -> encoder.matches("secret", "secret"));
+        assertTrue(rejected.getRetryAfterSeconds() > 0);
+
+        release.countDown();
+        first.join();
+        assertFalse(matchesWhenIdle(encoder, "wrong", "secret"));
+        executor.shutdown();
+    }
+
+    // The worker takes a moment to go back to waiting for work after the first check returns
+    private boolean matchesWhenIdle(PasswordEncoder encoder, String raw, String encoded) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return encoder.matches(raw, encoded);
+            } catch (ServiceOverloadedException e) {
+                if (attempt == 50) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.college.backend.service;
+
+import com.college.backend.model.NotificationOutbox;
+import com.college.backend.repository.NotificationOutboxRepository;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "app.notifications.transport=smtp",
+        // Dispatch only when the test asks for it
+        "app.notifications.enabled=false"
+})
+public class NotificationDispatcherTest {
+
+    private GreenMail smtp;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @BeforeEach
+    public void startSmtp() {
+        outboxRepository.deleteAll();
+        smtp = new GreenMail(new ServerSetup(3025, null, ServerSetup.PROTOCOL_SMTP));
+        smtp.start();
+    }
+
+    @AfterEach
+    public void stopSmtp() {
+        smtp.stop();
+    }
+
+    @Test
+    public void testDeliversQueuedMailAndSkipsDuplicates() throws Exception {
+        assertNotNull(notificationService.enqueue(NotificationOutbox.Category.NOTIFICATION,
+                "asha@college.edu", "Asha", "Exam schedule", "Exams start Monday", null));
+        assertNotNull(notificationService.enqueue(NotificationOutbox.Category.NOTIFICATION,
+                "ravi@college.edu", "Ravi", "Exam schedule", "Exams start Monday", null));
+        // Same recipient and content again: deduplicated at enqueue time
+        assertNull(notificationService.enqueue(NotificationOutbox.Category.NOTIFICATION,
+                "ASHA@college.edu", "Asha", "Exam schedule", "Exams start Monday", null));
+
+        assertEquals(2, dispatcher.dispatchPending());
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Exam schedule", received[0].getSubject());
+        assertTrue(outboxRepository.findAll().stream()
+                .allMatch(n -> n.getStatus() == NotificationOutbox.Status.SENT && n.getSentAt() != null));
+    }
+
+    @Test
+    public void testRetriesWhenSmtpIsDown() {
+        NotificationOutbox queued = notificationService.enqueue(NotificationOutbox.Category.WELCOME,
+                "meera@college.edu", "Meera", "Welcome", "Hello", "welcome:meera@college.edu");
+        smtp.stop();
+
+        assertEquals(0, dispatcher.dispatchPending());
+        NotificationOutbox failed = outboxRepository.findById(queued.getId()).orElseThrow();
+        assertEquals(NotificationOutbox.Status.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertNotNull(failed.getLastError());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+
+        // Make it due again and bring the server back
+        failed.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(failed);
+        smtp = new GreenMail(new ServerSetup(3025, null, ServerSetup.PROTOCOL_SMTP));
+        smtp.start();
+
+        assertEquals(1, dispatcher.dispatchPending());
+        assertEquals(1, smtp.getReceivedMessages().length);
+        NotificationOutbox sent = outboxRepository.findById(queued.getId()).orElseThrow();
+        assertEquals(NotificationOutbox.Status.SENT, sent.getStatus());
+        assertEquals(2, sent.getAttempts());
+    }
+}
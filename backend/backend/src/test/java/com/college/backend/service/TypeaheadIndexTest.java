@@ -0,0 +1,43 @@
+package com.college.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeaheadIndexTest {
+
+    @Test
+    public void testPrefixAndInfixSuggestions() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put(new TypeaheadIndex.Entry("student", 1L, 10L, "Asha Raman", "CSE24-00001",
+                List.of("Asha Raman", "asha@college.edu", "CSE24-00001")));
+        index.put(new TypeaheadIndex.Entry("course", 2L, null, "Data Structures", "CSE201",
+                List.of("Data Structures", "CSE201")));
+
+        assertEquals("Asha Raman", index.suggest("as", null, 10).get(0).label());
+        assertEquals("Asha Raman", index.suggest("raman", null, 10).get(0).label());
+        assertEquals(1, index.suggest("cse2", Set.of("course"), 10).size());
+        assertEquals(2, index.suggest("cse", null, 10).size());
+        assertTrue(index.suggest("xyz", null, 10).isEmpty());
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put(new TypeaheadIndex.Entry("student", 1L, 10L, "Asha Raman", "CSE24-00001",
+                List.of("Asha Raman", "asha@college.edu", "CSE24-00001")));
+
+        index.updateUser(10L, "Asha Kumar", "asha.k@college.edu");
+        assertTrue(index.suggest("raman", null, 10).isEmpty());
+        assertEquals("Asha Kumar", index.suggest("kumar", null, 10).get(0).label());
+        assertEquals(1, index.suggest("00001", null, 10).size());
+
+        index.removeByUserIds(List.of(10L));
+        assertEquals(0, index.size());
+        assertTrue(index.suggest("as", null, 10).isEmpty());
+    }
+}
@@ -18,6 +18,11 @@ class APIConfig {
                 if (token) {
                     config.headers.Authorization = `Bearer ${token}`;
                 }
+                // Keeps reads on the primary database for a moment after a save, on whichever server answers
+                const primaryReadsUntil = sessionStorage.getItem('college_erp_primary_reads_until');
+                if (primaryReadsUntil) {
+                    config.headers['X-Primary-Reads-Until'] = primaryReadsUntil;
+                }
                 return config;
             },
             (error) => Promise.reject(error)
@@ -25,7 +30,13 @@ class APIConfig {
 
         // Response interceptor for error handling
         axios.interceptors.response.use(
-            (response) => response,
+            (response) => {
+                const primaryReadsUntil = response.headers['x-primary-reads-until'];
+                if (primaryReadsUntil) {
+                    sessionStorage.setItem('college_erp_primary_reads_until', primaryReadsUntil);
+                }
+                return response;
+            },
             (error) => {
                 if (error.response?.status === 401) {
                     localStorage.clear();
@@ -270,6 +281,34 @@ class APIHelpers {
         }
     }
 
+    // Several GETs in one round trip (POST /api/batch). Takes { id: endpoint } and returns { id: promise };
+    // each promise resolves to that endpoint's response body, or rejects like request() would on an error
+    // status. If the batch call itself fails it returns {}, and callers fall back to their own requests
+    async batch(endpoints) {
+        try {
+            const response = await this.request('/batch', {
+                method: 'POST',
+                data: {
+                    requests: Object.entries(endpoints).map(([id, endpoint]) => ({ id, path: `/api${endpoint}` }))
+                }
+            });
+            const results = {};
+            for (const part of response.data) {
+                if (part.status >= 200 && part.status < 300) {
+                    results[part.id] = Promise.resolve(part.body);
+                } else {
+                    results[part.id] = Promise.reject({ response: { status: part.status, data: part.body } });
+                    // Handled by whoever awaits it
+                    results[part.id].catch(() => {});
+                }
+            }
+            return results;
+        } catch (error) {
+            console.warn('Batch request failed, loading separately:', error);
+            return {};
+        }
+    }
+
     // Authentication helpers
     async login(email, password) {
         return this.request(this.config.auth.login, {
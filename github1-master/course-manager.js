@@ -72,9 +72,13 @@ class CourseManager {
             const user = this.currentUser;
             
             if (user.role === 'STUDENT') {
+                const loaded = await apiHelpers.batch({
+                    enrolled: apiConfig.student.courses.enrolled,
+                    available: '/student/courses/available'
+                });
                 await Promise.all([
-                    this.loadEnrolledCourses(),
-                    this.loadAvailableCourses()
+                    this.loadEnrolledCourses(loaded.enrolled),
+                    this.loadAvailableCourses(loaded.available)
                 ]);
             } else if (user.role === 'FACULTY') {
                 await this.loadFacultyCourses();
@@ -88,9 +92,9 @@ class CourseManager {
     }
 
     // Load enrolled courses for students
-    async loadEnrolledCourses() {
+    async loadEnrolledCourses(preloaded) {
         try {
-            const response = await apiHelpers.getStudentCourses();
+            const response = await (preloaded || apiHelpers.getStudentCourses());
             this.enrolledCourses = apiHelpers.checkResponse(response);
             this.renderEnrolledCourses();
         } catch (error) {
@@ -99,9 +103,9 @@ class CourseManager {
     }
 
     // Load available courses for students
-    async loadAvailableCourses() {
+    async loadAvailableCourses(preloaded) {
         try {
-            const response = await apiHelpers.request('/student/courses/available');
+            const response = await (preloaded || apiHelpers.request('/student/courses/available'));
             this.availableCourses = apiHelpers.checkResponse(response);
             this.renderAvailableCourses();
         } catch (error) {
@@ -63,9 +63,14 @@ class FacultyDashboard {
     // Load all dashboard data
     async loadDashboardData() {
         try {
+            // One round trip for the initial loads
+            const loaded = await apiHelpers.batch({
+                profile: '/faculty/profile',
+                courses: '/faculty/courses'
+            });
             await Promise.all([
-                this.loadProfile(),
-                this.loadCourses()
+                this.loadProfile(loaded.profile),
+                this.loadCourses(loaded.courses)
                 // Skip these for now as they're causing 500 errors
                 // this.loadStudents(),
                 // this.loadAnnouncements(),
@@ -77,9 +82,9 @@ class FacultyDashboard {
     }
 
     // Load faculty profile
-    async loadProfile() {
+    async loadProfile(preloaded) {
         try {
-            const response = await apiHelpers.request('/faculty/profile');
+            const response = await (preloaded || apiHelpers.request('/faculty/profile'));
             console.log('📥 Faculty profile response:', response);
             
             if (response.success && response.data) {
@@ -94,9 +99,9 @@ class FacultyDashboard {
     }
 
     // Load assigned courses
-    async loadCourses() {
+    async loadCourses(preloaded) {
         try {
-            const response = await apiHelpers.request('/faculty/courses');
+            const response = await (preloaded || apiHelpers.request('/faculty/courses'));
             console.log('📚 Faculty courses response:', response);
             
             if (response.success && response.data) {
@@ -50,11 +50,18 @@ class StudentDashboard {
     // Load all dashboard data
     async loadDashboardData() {
         try {
+            // One round trip for the initial loads
+            const loaded = await apiHelpers.batch({
+                profile: '/student/profile',
+                courses: '/student/enrollments',
+                grades: '/student/portal/grades',
+                attendance: '/student/portal/attendance'
+            });
             await Promise.all([
-                this.loadProfile(),
-                this.loadCourses(),
-                this.loadGrades(),
-                this.loadAttendance()
+                this.loadProfile(loaded.profile),
+                this.loadCourses(loaded.courses),
+                this.loadGrades(loaded.grades),
+                this.loadAttendance(loaded.attendance)
                 // Academic calendar endpoint not yet implemented
                 // this.loadAcademicCalendar()
             ]);
@@ -64,9 +71,9 @@ class StudentDashboard {
     }
 
     // Load student profile
-    async loadProfile() {
+    async loadProfile(preloaded) {
         try {
-            const response = await apiHelpers.request('/student/profile');
+            const response = await (preloaded || apiHelpers.request('/student/profile'));
             const profile = apiHelpers.checkResponse(response);
             this.renderProfile(profile);
         } catch (error) {
@@ -76,9 +83,9 @@ class StudentDashboard {
     }
 
     // Load enrolled courses
-    async loadCourses() {
+    async loadCourses(preloaded) {
         try {
-            const response = await apiHelpers.request('/student/enrollments');
+            const response = await (preloaded || apiHelpers.request('/student/enrollments'));
             this.courses = apiHelpers.checkResponse(response);
             this.renderCourses();
         } catch (error) {
@@ -90,9 +97,9 @@ class StudentDashboard {
     }
 
     // Load grades
-    async loadGrades() {
+    async loadGrades(preloaded) {
         try {
-            const response = await apiHelpers.request('/student/portal/grades');
+            const response = await (preloaded || apiHelpers.request('/student/portal/grades'));
             const gradesData = apiHelpers.checkResponse(response);
             this.grades = gradesData.grades || [];
             this.renderGrades();
@@ -105,9 +112,9 @@ class StudentDashboard {
     }
 
     // Load attendance
-    async loadAttendance() {
+    async loadAttendance(preloaded) {
         try {
-            const response = await apiHelpers.request('/student/portal/attendance');
+            const response = await (preloaded || apiHelpers.request('/student/portal/attendance'));
             const attendanceData = apiHelpers.checkResponse(response);
             this.attendance = attendanceData.courseAttendance || [];
             this.renderAttendance();